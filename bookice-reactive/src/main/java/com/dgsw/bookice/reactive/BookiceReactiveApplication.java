@@ -0,0 +1,15 @@
+package com.dgsw.bookice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+@EnableR2dbcAuditing
+@SpringBootApplication
+public class BookiceReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(BookiceReactiveApplication.class, args);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.dgsw.bookice.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * WebFlux 설정
+ * 요청 처리는 고정된 수의 이벤트 루프 스레드에서만 돌고, DB 작업은 R2DBC 커넥션 풀 크기로 제한된다.
+ */
+@Configuration
+public class WebFluxConfig implements WebFluxConfigurer {
+
+    /**
+     * Reactor Netty 이벤트 루프 (기본값은 CPU 코어 수, 설정으로 고정한다)
+     */
+    @Bean
+    public ReactorResourceFactory reactorResourceFactory(
+            @Value("${bookice.reactive.event-loop-threads:4}") int eventLoopThreads) {
+        ReactorResourceFactory factory = new ReactorResourceFactory();
+        factory.setUseGlobalResources(false);
+        factory.setLoopResources(LoopResources.create("bookice-http", eventLoopThreads, true));
+        return factory;
+    }
+
+    /**
+     * 서블릿 쪽과 같은 page/size/sort 파라미터와 @PageableDefault 를 쓰기 위한 Pageable 리졸버
+     */
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(
+                new ReactivePageableHandlerMethodArgumentResolver(new ReactiveSortHandlerMethodArgumentResolver()));
+    }
+}
@@ -0,0 +1,229 @@
+package com.dgsw.bookice.reactive.controller;
+
+import com.dgsw.bookice.reactive.dto.request.BookCreateRequest;
+import com.dgsw.bookice.reactive.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.reactive.dto.response.ApiResponse;
+import com.dgsw.bookice.reactive.dto.response.BookResponse;
+import com.dgsw.bookice.reactive.service.BookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서블릿 쪽 BookController 와 같은 경로와 응답 형식
+ * 목록은 ApiResponse 로 감싸기 위해 모아서 보내고, 모으지 않고 한 권씩 흘려보내는 NDJSON 버전은 /stream 경로로 따로 둔다.
+ */
+@Tag(name = "도서 관리 (리액티브)", description = "WebFlux + R2DBC 도서 CRUD, 검색 및 재고 관리 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class BookController {
+
+    private final BookService bookService;
+
+    @Operation(summary = "도서 등록", description = "새로운 도서를 등록합니다.")
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<BookResponse>>> createBook(
+            @Valid @RequestBody BookCreateRequest request) {
+        log.info("POST /api/books - 도서 등록 요청");
+        return bookService.createBook(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("도서가 성공적으로 등록되었습니다.", response)));
+    }
+
+    @Operation(summary = "도서 단건 조회", description = "ID로 특정 도서의 정보를 조회합니다.")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<BookResponse>>> getBook(
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long id) {
+        log.info("GET /api/books/{} - 도서 조회 요청", id);
+        return bookService.getBook(id)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("도서 조회 성공", response)));
+    }
+
+    @Operation(summary = "전체 도서 목록 조회", description = "모든 도서 목록을 조회합니다.")
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<List<BookResponse>>>> getAllBooks() {
+        log.info("GET /api/books - 전체 도서 목록 조회 요청");
+        return bookService.getAllBooks()
+                .collectList()
+                .map(response -> ResponseEntity.ok(ApiResponse.success("도서 목록 조회 성공", response)));
+    }
+
+    @Operation(summary = "전체 도서 스트리밍 조회", description = "전체 도서를 NDJSON(한 줄에 한 권)으로 읽는 대로 전송합니다.")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookResponse> streamAllBooks() {
+        log.info("GET /api/books/stream - 전체 도서 스트리밍 요청");
+        return bookService.getAllBooks();
+    }
+
+    @Operation(summary = "도서 검색 (페이징)", description = "제목 또는 저자에 키워드가 포함된 도서를 페이지 단위로 검색합니다.")
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ApiResponse<Page<BookResponse>>>> searchBooks(
+            @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("GET /api/books/search - 도서 검색: keyword={}", keyword);
+        return bookService.searchBooks(keyword, pageable)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("도서 검색 성공", response)));
+    }
+
+    @Operation(summary = "도서 검색 (스트리밍)", description = "전체 개수 조회 없이 한 페이지 분량을 NDJSON 으로 전송합니다.")
+    @GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookResponse> streamSearchBooks(
+            @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("GET /api/books/search/stream - 도서 검색: keyword={}", keyword);
+        return bookService.streamSearchBooks(keyword, pageable);
+    }
+
+    @Operation(summary = "도서 동적 검색", description = "제목, 저자, 카테고리, 재고 조건을 조합해 검색합니다.")
+    @GetMapping("/search/advanced")
+    public Mono<ResponseEntity<ApiResponse<Page<BookResponse>>>> searchBooksByConditions(
+            @Parameter(description = "제목") @RequestParam(required = false) String title,
+            @Parameter(description = "저자") @RequestParam(required = false) String author,
+            @Parameter(description = "카테고리") @RequestParam(required = false) String category,
+            @Parameter(description = "재고가 있는 도서만") @RequestParam(defaultValue = "false") boolean inStock,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("GET /api/books/search/advanced - 동적 검색: title={}, author={}, category={}, inStock={}",
+                title, author, category, inStock);
+        return bookService.searchBooksByConditions(title, author, category, inStock, pageable)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("도서 검색 성공", response)));
+    }
+
+    @Operation(summary = "도서 동적 검색 (스트리밍)", description = "전체 개수 조회 없이 한 페이지 분량을 NDJSON 으로 전송합니다.")
+    @GetMapping(value = "/search/advanced/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookResponse> streamSearchBooksByConditions(
+            @Parameter(description = "제목") @RequestParam(required = false) String title,
+            @Parameter(description = "저자") @RequestParam(required = false) String author,
+            @Parameter(description = "카테고리") @RequestParam(required = false) String category,
+            @Parameter(description = "재고가 있는 도서만") @RequestParam(defaultValue = "false") boolean inStock,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("GET /api/books/search/advanced/stream - 동적 검색: title={}, author={}, category={}, inStock={}",
+                title, author, category, inStock);
+        return bookService.streamSearchBooksByConditions(title, author, category, inStock, pageable);
+    }
+
+    @Operation(summary = "제목 검색", description = "제목에 특정 단어가 포함된 도서를 검색합니다.")
+    @GetMapping("/search/title")
+    public Mono<ResponseEntity<ApiResponse<List<BookResponse>>>> searchByTitle(
+            @Parameter(description = "검색할 제목", required = true) @RequestParam String title) {
+        log.info("GET /api/books/search/title - 제목 검색: {}", title);
+        return bookService.searchByTitle(title)
+                .collectList()
+                .map(response -> ResponseEntity.ok(ApiResponse.success("제목 검색 성공", response)));
+    }
+
+    @Operation(summary = "저자 검색", description = "저자 이름으로 도서를 검색합니다.")
+    @GetMapping("/search/author")
+    public Mono<ResponseEntity<ApiResponse<List<BookResponse>>>> searchByAuthor(
+            @Parameter(description = "검색할 저자명", required = true) @RequestParam String author) {
+        log.info("GET /api/books/search/author - 저자 검색: {}", author);
+        return bookService.searchByAuthor(author)
+                .collectList()
+                .map(response -> ResponseEntity.ok(ApiResponse.success("저자 검색 성공", response)));
+    }
+
+    @Operation(summary = "카테고리 검색", description = "특정 카테고리의 도서를 검색합니다.")
+    @GetMapping("/search/category")
+    public Mono<ResponseEntity<ApiResponse<List<BookResponse>>>> searchByCategory(
+            @Parameter(description = "검색할 카테고리", required = true) @RequestParam String category) {
+        log.info("GET /api/books/search/category - 카테고리 검색: {}", category);
+        return bookService.searchByCategory(category)
+                .collectList()
+                .map(response -> ResponseEntity.ok(ApiResponse.success("카테고리 검색 성공", response)));
+    }
+
+    @Operation(summary = "가격 범위 검색", description = "최소 가격과 최대 가격 사이의 도서를 검색합니다.")
+    @GetMapping("/search/price")
+    public Mono<ResponseEntity<ApiResponse<List<BookResponse>>>> searchByPriceRange(
+            @Parameter(description = "최소 가격", required = true) @RequestParam Integer minPrice,
+            @Parameter(description = "최대 가격", required = true) @RequestParam Integer maxPrice) {
+        log.info("GET /api/books/search/price - 가격 범위 검색: {} ~ {}", minPrice, maxPrice);
+        return bookService.searchByPriceRange(minPrice, maxPrice)
+                .collectList()
+                .map(response -> ResponseEntity.ok(ApiResponse.success("가격 범위 검색 성공", response)));
+    }
+
+    @Operation(summary = "가격 범위 검색 (페이징)", description = "최소 가격과 최대 가격 사이의 도서를 가격 오름차순으로 페이지 단위로 조회합니다.")
+    @GetMapping("/search/price/page")
+    public Mono<ResponseEntity<ApiResponse<Page<BookResponse>>>> searchByPriceRangePage(
+            @Parameter(description = "최소 가격", required = true) @RequestParam Integer minPrice,
+            @Parameter(description = "최대 가격", required = true) @RequestParam Integer maxPrice,
+            @PageableDefault(size = 10) Pageable pageable) {
+        log.info("GET /api/books/search/price/page - 가격 범위 검색: {} ~ {}", minPrice, maxPrice);
+        return bookService.searchByPriceRange(minPrice, maxPrice, pageable)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("가격 범위 검색 성공", response)));
+    }
+
+    @Operation(summary = "재고 보유 도서 조회", description = "재고가 1권 이상인 도서만 조회합니다.")
+    @GetMapping("/in-stock")
+    public Mono<ResponseEntity<ApiResponse<List<BookResponse>>>> getBooksInStock() {
+        log.info("GET /api/books/in-stock - 재고 있는 도서 조회");
+        return bookService.getBooksInStock()
+                .collectList()
+                .map(response -> ResponseEntity.ok(ApiResponse.success("재고 있는 도서 조회 성공", response)));
+    }
+
+    @Operation(summary = "카테고리별 도서 수 조회", description = "카테고리별 도서 수를 카테고리 이름순으로 조회합니다.")
+    @GetMapping("/categories/counts")
+    public Mono<ResponseEntity<ApiResponse<Map<String, Long>>>> getCategoryCounts() {
+        log.info("GET /api/books/categories/counts - 카테고리별 도서 수 조회");
+        return bookService.getCategoryCounts()
+                .map(response -> ResponseEntity.ok(ApiResponse.success("카테고리별 도서 수 조회 성공", response)));
+    }
+
+    @Operation(summary = "도서 정보 수정", description = "도서의 정보를 수정합니다.")
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<BookResponse>>> updateBook(
+            @Parameter(description = "수정할 도서 ID", required = true) @PathVariable Long id,
+            @Valid @RequestBody BookUpdateRequest request) {
+        log.info("PUT /api/books/{} - 도서 수정 요청", id);
+        return bookService.updateBook(id, request)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("도서가 성공적으로 수정되었습니다.", response)));
+    }
+
+    @Operation(summary = "도서 삭제", description = "도서를 삭제합니다.")
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> deleteBook(
+            @Parameter(description = "삭제할 도서 ID", required = true) @PathVariable Long id) {
+        log.info("DELETE /api/books/{} - 도서 삭제 요청", id);
+        return bookService.deleteBook(id)
+                .thenReturn(ResponseEntity.ok(ApiResponse.success("도서가 성공적으로 삭제되었습니다.")));
+    }
+
+    @Operation(summary = "재고 증가", description = "도서의 재고를 지정한 수량만큼 증가시킵니다.")
+    @PostMapping("/{id}/stock/increase")
+    public Mono<ResponseEntity<ApiResponse<BookResponse>>> increaseStock(
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "증가시킬 수량", required = true) @RequestParam int quantity) {
+        log.info("POST /api/books/{}/stock/increase - 재고 증가 요청: {}", id, quantity);
+        return bookService.increaseStock(id, quantity)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("재고가 증가되었습니다.", response)));
+    }
+
+    @Operation(summary = "재고 감소", description = "도서의 재고를 지정한 수량만큼 감소시킵니다.")
+    @PostMapping("/{id}/stock/decrease")
+    public Mono<ResponseEntity<ApiResponse<BookResponse>>> decreaseStock(
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "감소시킬 수량", required = true) @RequestParam int quantity) {
+        log.info("POST /api/books/{}/stock/decrease - 재고 감소 요청: {}", id, quantity);
+        return bookService.decreaseStock(id, quantity)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("재고가 감소되었습니다.", response)));
+    }
+}
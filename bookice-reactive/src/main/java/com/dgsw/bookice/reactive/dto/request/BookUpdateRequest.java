@@ -0,0 +1,38 @@
+package com.dgsw.bookice.reactive.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookUpdateRequest {
+
+    @NotBlank(message = "제목은 필수입니다.")
+    @Size(max = 200, message = "제목은 200자를 초과할 수 없습니다.")
+    private String title;
+
+    @NotBlank(message = "저자는 필수입니다.")
+    @Size(max = 100, message = "저자는 100자를 초과할 수 없습니다.")
+    private String author;
+
+    @NotBlank(message = "카테고리는 필수입니다.")
+    @Size(max = 50, message = "카테고리는 50자를 초과할 수 없습니다.")
+    private String category;
+
+    @Size(max = 100, message = "출판사는 100자를 초과할 수 없습니다.")
+    private String publisher;
+
+    @NotNull(message = "가격은 필수입니다.")
+    @Min(value = 0, message = "가격은 0원 이상이어야 합니다.")
+    private Integer price;
+
+    private String description;
+}
@@ -0,0 +1,44 @@
+package com.dgsw.bookice.reactive.dto.response;
+
+import com.dgsw.bookice.reactive.entity.Book;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class BookResponse {
+
+    private Long id;
+    private String title;
+    private String author;
+    private String category;
+    private String publisher;
+    private String isbn;
+    private Integer price;
+    private Integer stockQuantity;
+    private String description;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static BookResponse from(Book book) {
+        return BookResponse.builder()
+                .id(book.getId())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .category(book.getCategory())
+                .publisher(book.getPublisher())
+                .isbn(book.getIsbn())
+                .price(book.getPrice())
+                .stockQuantity(book.getStockQuantity())
+                .description(book.getDescription())
+                .createdAt(book.getCreatedAt())
+                .updatedAt(book.getUpdatedAt())
+                .build();
+    }
+}
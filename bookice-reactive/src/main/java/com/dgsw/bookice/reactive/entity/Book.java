@@ -0,0 +1,75 @@
+package com.dgsw.bookice.reactive.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * books 테이블 (서블릿 쪽 Book 엔티티와 같은 컬럼, 재고 샤드는 지원하지 않는다)
+ * 나머지 컬럼 이름은 기본 이름 규칙(camelCase → snake_case)으로 매핑된다.
+ */
+@Table("books")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Book {
+
+    @Id
+    @Column("book_id")
+    private Long id;
+
+    private String title;
+
+    private String author;
+
+    private String category;
+
+    private String publisher;
+
+    private String isbn;
+
+    private Integer price;
+
+    private Integer stockQuantity;
+
+    private String description;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Book(String title, String author, String category, String publisher,
+                String isbn, Integer price, Integer stockQuantity, String description) {
+        this.title = title;
+        this.author = author;
+        this.category = category;
+        this.publisher = publisher;
+        this.isbn = isbn;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+        this.description = description;
+    }
+
+    /**
+     * 도서 정보 수정
+     */
+    public void update(String title, String author, String category, String publisher,
+                       Integer price, String description) {
+        this.title = title;
+        this.author = author;
+        this.category = category;
+        this.publisher = publisher;
+        this.price = price;
+        this.description = description;
+    }
+}
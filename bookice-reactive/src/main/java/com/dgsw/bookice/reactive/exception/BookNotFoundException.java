@@ -0,0 +1,15 @@
+package com.dgsw.bookice.reactive.exception;
+
+/**
+ * 스택 트레이스를 만들지 않는다 (없는 ID 조회가 잦아 404 경로를 가볍게 유지하고, 원인은 메시지로 충분하다)
+ */
+public class BookNotFoundException extends RuntimeException {
+
+    public BookNotFoundException(Long id) {
+        this("도서를 찾을 수 없습니다. ID: " + id);
+    }
+
+    public BookNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,146 @@
+package com.dgsw.bookice.reactive.exception;
+
+import com.dgsw.bookice.reactive.dto.response.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * 404 로그 주기 (없는 ID 를 반복 조회해도 로그가 넘치지 않도록 주기마다 한 줄만 남긴다)
+     */
+    private static final long NOT_FOUND_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong notFoundLoggedAt = new AtomicLong(System.nanoTime() - NOT_FOUND_LOG_INTERVAL_NANOS);
+    private final AtomicLong suppressedNotFound = new AtomicLong();
+
+    /**
+     * 도서를 찾을 수 없을 때 예외 처리
+     */
+    @ExceptionHandler(BookNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleBookNotFoundException(BookNotFoundException e) {
+        logNotFound(e);
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * 유효성 검증 실패 예외 처리 (WebFlux 에서는 MethodArgumentNotValidException 대신 이 예외가 난다)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException e) {
+        log.error("WebExchangeBindException: {}", e.getMessage());
+
+        List<ErrorResponse.FieldError> fieldErrors = e.getFieldErrors()
+                .stream()
+                .map(error -> new ErrorResponse.FieldError(
+                        error.getField(),
+                        error.getDefaultMessage()
+                ))
+                .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "입력값이 올바르지 않습니다.",
+                fieldErrors
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * 프레임워크가 상태 코드를 정한 예외 처리 (필수 파라미터 누락, 타입 변환 실패 등)
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException e) {
+        log.error("ResponseStatusException: {}", e.getMessage());
+
+        HttpStatusCode status = e.getStatusCode();
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                status.value(),
+                resolved != null ? resolved.getReasonPhrase() : status.toString(),
+                e.getReason()
+        );
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    /**
+     * IllegalStateException 예외 처리 (재고 부족 등)
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException e) {
+        log.error("IllegalStateException: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * IllegalArgumentException 예외 처리 (잘못된 수량 등)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.error("IllegalArgumentException: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * 기타 모든 예외 처리
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        log.error("Exception: {}", e.getMessage(), e);
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Internal Server Error",
+                "서버 내부 오류가 발생했습니다."
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    private void logNotFound(BookNotFoundException e) {
+        long now = System.nanoTime();
+        long last = notFoundLoggedAt.get();
+        if (now - last < NOT_FOUND_LOG_INTERVAL_NANOS || !notFoundLoggedAt.compareAndSet(last, now)) {
+            suppressedNotFound.incrementAndGet();
+            return;
+        }
+        log.warn("BookNotFoundException: {} (직전 주기 생략 {}건)", e.getMessage(), suppressedNotFound.getAndSet(0));
+    }
+}
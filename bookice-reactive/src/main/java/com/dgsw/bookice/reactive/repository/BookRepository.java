@@ -0,0 +1,64 @@
+package com.dgsw.bookice.reactive.repository;
+
+import com.dgsw.bookice.reactive.entity.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface BookRepository extends ReactiveCrudRepository<Book, Long>, BookRepositoryCustom {
+
+    /**
+     * Query Method: 제목으로 검색 (부분 일치)
+     */
+    Flux<Book> findByTitleContaining(String title);
+
+    /**
+     * Query Method: 저자로 검색 (부분 일치)
+     */
+    Flux<Book> findByAuthorContaining(String author);
+
+    /**
+     * Query Method: 카테고리로 검색
+     */
+    Flux<Book> findByCategory(String category);
+
+    /**
+     * Query Method: 가격 범위로 검색
+     */
+    Flux<Book> findByPriceBetween(Integer minPrice, Integer maxPrice);
+
+    /**
+     * Query Method: 가격 범위로 검색 (페이징, 정렬은 Pageable 을 따른다)
+     */
+    Flux<Book> findByPriceBetween(Integer minPrice, Integer maxPrice, Pageable pageable);
+
+    Mono<Long> countByPriceBetween(Integer minPrice, Integer maxPrice);
+
+    /**
+     * 재고가 1권 이상인 도서
+     */
+    @Query("SELECT * FROM books WHERE stock_quantity > 0")
+    Flux<Book> findBooksInStock();
+
+    Mono<Boolean> existsByIsbn(String isbn);
+
+    /**
+     * 재고 증가 (갱신된 행 수, 도서가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE books SET stock_quantity = stock_quantity + :quantity, updated_at = :now WHERE book_id = :id")
+    Mono<Integer> increaseStock(Long id, int quantity, LocalDateTime now);
+
+    /**
+     * 조건부 재고 감소 (재고가 부족하거나 도서가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE books SET stock_quantity = stock_quantity - :quantity, updated_at = :now "
+            + "WHERE book_id = :id AND stock_quantity >= :quantity")
+    Mono<Integer> decreaseStock(Long id, int quantity, LocalDateTime now);
+}
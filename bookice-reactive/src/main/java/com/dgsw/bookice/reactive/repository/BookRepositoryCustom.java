@@ -0,0 +1,36 @@
+package com.dgsw.bookice.reactive.repository;
+
+import com.dgsw.bookice.reactive.entity.Book;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface BookRepositoryCustom {
+
+    /**
+     * 키워드 검색 (제목 또는 저자 부분 일치, 키워드가 비어 있으면 전체)
+     */
+    Flux<Book> searchByKeyword(String keyword, Pageable pageable);
+
+    /**
+     * 키워드 검색의 전체 개수
+     */
+    Mono<Long> countByKeyword(String keyword);
+
+    /**
+     * 동적 검색 쿼리 (제목, 저자, 카테고리, 재고)
+     */
+    Flux<Book> searchByConditions(BookSearchCondition condition, Pageable pageable);
+
+    /**
+     * 동적 검색 조건의 전체 개수
+     */
+    Mono<Long> countByConditions(BookSearchCondition condition);
+
+    /**
+     * 카테고리별 도서 수 (카테고리 이름순)
+     */
+    Flux<Map.Entry<String, Long>> countBooksByCategory();
+}
@@ -0,0 +1,87 @@
+package com.dgsw.bookice.reactive.repository;
+
+import com.dgsw.bookice.reactive.entity.Book;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * R2dbcEntityTemplate 의 Criteria 로 조건을 조합한다 (서블릿 쪽 Querydsl 동적 검색과 같은 조건)
+ */
+@RequiredArgsConstructor
+public class BookRepositoryImpl implements BookRepositoryCustom {
+
+    private static final String CATEGORY_COUNT_SQL =
+            "SELECT category, COUNT(*) AS book_count FROM books GROUP BY category ORDER BY category";
+
+    private final R2dbcEntityTemplate template;
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<Book> searchByKeyword(String keyword, Pageable pageable) {
+        return template.select(Book.class)
+                .matching(Query.query(keywordCriteria(keyword)).with(pageable))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countByKeyword(String keyword) {
+        return template.count(Query.query(keywordCriteria(keyword)), Book.class);
+    }
+
+    @Override
+    public Flux<Book> searchByConditions(BookSearchCondition condition, Pageable pageable) {
+        return template.select(Book.class)
+                .matching(Query.query(conditionCriteria(condition)).with(pageable))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countByConditions(BookSearchCondition condition) {
+        return template.count(Query.query(conditionCriteria(condition)), Book.class);
+    }
+
+    @Override
+    public Flux<Map.Entry<String, Long>> countBooksByCategory() {
+        return databaseClient.sql(CATEGORY_COUNT_SQL)
+                .map((row, metadata) -> Map.entry(row.get("category", String.class), row.get("book_count", Long.class)))
+                .all();
+    }
+
+    private static Criteria keywordCriteria(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return Criteria.empty();
+        }
+        return Criteria.where("title").like(contains(keyword))
+                .or("author").like(contains(keyword));
+    }
+
+    private static Criteria conditionCriteria(BookSearchCondition condition) {
+        Criteria criteria = Criteria.empty();
+        if (StringUtils.hasText(condition.title())) {
+            criteria = criteria.and(Criteria.where("title").like(contains(condition.title())).ignoreCase(true));
+        }
+        if (StringUtils.hasText(condition.author())) {
+            criteria = criteria.and(Criteria.where("author").like(contains(condition.author())).ignoreCase(true));
+        }
+        if (StringUtils.hasText(condition.category())) {
+            criteria = criteria.and(Criteria.where("category").is(condition.category()));
+        }
+        if (condition.inStock()) {
+            criteria = criteria.and(Criteria.where("stockQuantity").greaterThan(0));
+        }
+        return criteria;
+    }
+
+    private static String contains(String value) {
+        return "%" + value + "%";
+    }
+}
@@ -0,0 +1,12 @@
+package com.dgsw.bookice.reactive.repository;
+
+/**
+ * 동적 검색 조건 (비어 있는 조건은 무시)
+ *
+ * @param title    제목 (부분 일치, 대소문자 무시)
+ * @param author   저자 (부분 일치, 대소문자 무시)
+ * @param category 카테고리 (정확히 일치)
+ * @param inStock  재고가 있는 도서만
+ */
+public record BookSearchCondition(String title, String author, String category, boolean inStock) {
+}
@@ -0,0 +1,109 @@
+package com.dgsw.bookice.reactive.service;
+
+import com.dgsw.bookice.reactive.dto.request.BookCreateRequest;
+import com.dgsw.bookice.reactive.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.reactive.dto.response.BookResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 서블릿 쪽 BookService 의 논블로킹 버전 (목록/검색은 Flux 로 흘려보낸다)
+ */
+public interface BookService {
+
+    /**
+     * 도서 등록
+     */
+    Mono<BookResponse> createBook(BookCreateRequest request);
+
+    /**
+     * 도서 단건 조회
+     */
+    Mono<BookResponse> getBook(Long id);
+
+    /**
+     * 전체 도서 목록 조회
+     */
+    Flux<BookResponse> getAllBooks();
+
+    /**
+     * 키워드로 도서 검색 (페이징)
+     */
+    Mono<Page<BookResponse>> searchBooks(String keyword, Pageable pageable);
+
+    /**
+     * 키워드로 도서 검색 (전체 개수 없이 흘려보낸다)
+     */
+    Flux<BookResponse> streamSearchBooks(String keyword, Pageable pageable);
+
+    /**
+     * 동적 검색 (제목, 저자, 카테고리, 재고 조건 조합)
+     */
+    Mono<Page<BookResponse>> searchBooksByConditions(String title, String author, String category,
+                                                     boolean inStock, Pageable pageable);
+
+    /**
+     * 동적 검색 (전체 개수 없이 흘려보낸다)
+     */
+    Flux<BookResponse> streamSearchBooksByConditions(String title, String author, String category,
+                                                     boolean inStock, Pageable pageable);
+
+    /**
+     * 제목으로 검색
+     */
+    Flux<BookResponse> searchByTitle(String title);
+
+    /**
+     * 저자로 검색
+     */
+    Flux<BookResponse> searchByAuthor(String author);
+
+    /**
+     * 카테고리로 검색
+     */
+    Flux<BookResponse> searchByCategory(String category);
+
+    /**
+     * 가격 범위로 검색
+     */
+    Flux<BookResponse> searchByPriceRange(Integer minPrice, Integer maxPrice);
+
+    /**
+     * 가격 범위로 검색 (페이징, 가격 오름차순)
+     */
+    Mono<Page<BookResponse>> searchByPriceRange(Integer minPrice, Integer maxPrice, Pageable pageable);
+
+    /**
+     * 재고가 있는 도서 조회
+     */
+    Flux<BookResponse> getBooksInStock();
+
+    /**
+     * 카테고리별 도서 수 (카테고리 이름순)
+     */
+    Mono<Map<String, Long>> getCategoryCounts();
+
+    /**
+     * 도서 정보 수정
+     */
+    Mono<BookResponse> updateBook(Long id, BookUpdateRequest request);
+
+    /**
+     * 도서 삭제
+     */
+    Mono<Void> deleteBook(Long id);
+
+    /**
+     * 재고 증가
+     */
+    Mono<BookResponse> increaseStock(Long id, int quantity);
+
+    /**
+     * 재고 감소
+     */
+    Mono<BookResponse> decreaseStock(Long id, int quantity);
+}
@@ -0,0 +1,235 @@
+package com.dgsw.bookice.reactive.service;
+
+import com.dgsw.bookice.reactive.dto.request.BookCreateRequest;
+import com.dgsw.bookice.reactive.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.reactive.dto.response.BookResponse;
+import com.dgsw.bookice.reactive.entity.Book;
+import com.dgsw.bookice.reactive.exception.BookNotFoundException;
+import com.dgsw.bookice.reactive.repository.BookRepository;
+import com.dgsw.bookice.reactive.repository.BookSearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 모든 DB 접근이 논블로킹이므로 이벤트 루프 스레드에서 그대로 실행한다 (별도 스케줄러로 넘기지 않는다)
+ * 재고 변경은 조건부 UPDATE 한 번으로 처리해 잠금 없이 음수 재고를 막는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookServiceImpl implements BookService {
+
+    private final BookRepository bookRepository;
+
+    @Override
+    @Transactional
+    public Mono<BookResponse> createBook(BookCreateRequest request) {
+        log.info("도서 등록 요청: {}", request.getTitle());
+
+        Mono<Boolean> duplicated = request.getIsbn() == null
+                ? Mono.just(false)
+                : bookRepository.existsByIsbn(request.getIsbn());
+
+        return duplicated
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new IllegalStateException("이미 존재하는 ISBN입니다: " + request.getIsbn()));
+                    }
+                    return bookRepository.save(request.toEntity());
+                })
+                // 동시에 같은 ISBN 을 등록하면 유니크 제약이 막는다
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new IllegalStateException("이미 존재하는 ISBN입니다: " + request.getIsbn(), e))
+                .doOnNext(book -> log.info("도서 등록 완료: ID={}, 제목={}", book.getId(), book.getTitle()))
+                .map(BookResponse::from);
+    }
+
+    @Override
+    public Mono<BookResponse> getBook(Long id) {
+        log.info("도서 조회 요청: ID={}", id);
+        return findBook(id).map(BookResponse::from);
+    }
+
+    @Override
+    public Flux<BookResponse> getAllBooks() {
+        log.info("전체 도서 목록 조회 요청");
+        return bookRepository.findAll().map(BookResponse::from);
+    }
+
+    @Override
+    public Mono<Page<BookResponse>> searchBooks(String keyword, Pageable pageable) {
+        log.info("도서 검색 요청: keyword={}, page={}, size={}",
+                keyword, pageable.getPageNumber(), pageable.getPageSize());
+        return page(bookRepository.searchByKeyword(keyword, pageable),
+                bookRepository.countByKeyword(keyword), pageable);
+    }
+
+    @Override
+    public Flux<BookResponse> streamSearchBooks(String keyword, Pageable pageable) {
+        log.info("도서 검색 요청 (스트림): keyword={}, page={}, size={}",
+                keyword, pageable.getPageNumber(), pageable.getPageSize());
+        return bookRepository.searchByKeyword(keyword, pageable).map(BookResponse::from);
+    }
+
+    @Override
+    public Mono<Page<BookResponse>> searchBooksByConditions(String title, String author, String category,
+                                                            boolean inStock, Pageable pageable) {
+        log.info("도서 동적 검색 요청: title={}, author={}, category={}, inStock={}",
+                title, author, category, inStock);
+        BookSearchCondition condition = new BookSearchCondition(title, author, category, inStock);
+        return page(bookRepository.searchByConditions(condition, pageable),
+                bookRepository.countByConditions(condition), pageable);
+    }
+
+    @Override
+    public Flux<BookResponse> streamSearchBooksByConditions(String title, String author, String category,
+                                                            boolean inStock, Pageable pageable) {
+        log.info("도서 동적 검색 요청 (스트림): title={}, author={}, category={}, inStock={}",
+                title, author, category, inStock);
+        BookSearchCondition condition = new BookSearchCondition(title, author, category, inStock);
+        return bookRepository.searchByConditions(condition, pageable).map(BookResponse::from);
+    }
+
+    @Override
+    public Flux<BookResponse> searchByTitle(String title) {
+        log.info("제목으로 도서 검색: {}", title);
+        return bookRepository.findByTitleContaining(title).map(BookResponse::from);
+    }
+
+    @Override
+    public Flux<BookResponse> searchByAuthor(String author) {
+        log.info("저자로 도서 검색: {}", author);
+        return bookRepository.findByAuthorContaining(author).map(BookResponse::from);
+    }
+
+    @Override
+    public Flux<BookResponse> searchByCategory(String category) {
+        log.info("카테고리로 도서 검색: {}", category);
+        return bookRepository.findByCategory(category).map(BookResponse::from);
+    }
+
+    @Override
+    public Flux<BookResponse> searchByPriceRange(Integer minPrice, Integer maxPrice) {
+        log.info("가격 범위로 도서 검색: {}원 ~ {}원", minPrice, maxPrice);
+        return bookRepository.findByPriceBetween(minPrice, maxPrice).map(BookResponse::from);
+    }
+
+    @Override
+    public Mono<Page<BookResponse>> searchByPriceRange(Integer minPrice, Integer maxPrice, Pageable pageable) {
+        log.info("가격 범위로 도서 검색 (페이징): {}원 ~ {}원, page={}, size={}",
+                minPrice, maxPrice, pageable.getPageNumber(), pageable.getPageSize());
+        // 서블릿 쪽 가격 인덱스와 같은 순서 (가격, ID 오름차순)
+        Pageable byPrice = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by("price", "id"));
+        return page(bookRepository.findByPriceBetween(minPrice, maxPrice, byPrice),
+                bookRepository.countByPriceBetween(minPrice, maxPrice), byPrice);
+    }
+
+    @Override
+    public Flux<BookResponse> getBooksInStock() {
+        log.info("재고가 있는 도서 조회");
+        return bookRepository.findBooksInStock().map(BookResponse::from);
+    }
+
+    @Override
+    public Mono<Map<String, Long>> getCategoryCounts() {
+        log.info("카테고리별 도서 수 조회 요청");
+        return bookRepository.countBooksByCategory()
+                .<Map<String, Long>>collect(LinkedHashMap::new, (counts, entry) -> counts.put(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    @Transactional
+    public Mono<BookResponse> updateBook(Long id, BookUpdateRequest request) {
+        log.info("도서 수정 요청: ID={}", id);
+        return findBook(id)
+                .flatMap(book -> {
+                    book.update(
+                            request.getTitle(),
+                            request.getAuthor(),
+                            request.getCategory(),
+                            request.getPublisher(),
+                            request.getPrice(),
+                            request.getDescription()
+                    );
+                    return bookRepository.save(book);
+                })
+                .doOnNext(book -> log.info("도서 수정 완료: ID={}, 제목={}", book.getId(), book.getTitle()))
+                .map(BookResponse::from);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteBook(Long id) {
+        log.info("도서 삭제 요청: ID={}", id);
+        return findBook(id)
+                .flatMap(bookRepository::delete)
+                .doOnSuccess(ignored -> log.info("도서 삭제 완료: ID={}", id));
+    }
+
+    @Override
+    @Transactional
+    public Mono<BookResponse> increaseStock(Long id, int quantity) {
+        log.info("재고 증가 요청: ID={}, 수량={}", id, quantity);
+        return validateQuantity(quantity)
+                .then(Mono.defer(() -> bookRepository.increaseStock(id, quantity, LocalDateTime.now())))
+                .flatMap(updated -> updated == 0
+                        ? Mono.<Book>error(new BookNotFoundException(id))
+                        : findBook(id))
+                .doOnNext(book -> log.info("재고 증가 완료: ID={}, 현재 재고={}", id, book.getStockQuantity()))
+                .map(BookResponse::from);
+    }
+
+    /**
+     * 갱신된 행이 없으면 다시 읽어 없는 도서(404)와 재고 부족(400)을 구분한다
+     */
+    @Override
+    @Transactional
+    public Mono<BookResponse> decreaseStock(Long id, int quantity) {
+        log.info("재고 감소 요청: ID={}, 수량={}", id, quantity);
+        return validateQuantity(quantity)
+                .then(Mono.defer(() -> bookRepository.decreaseStock(id, quantity, LocalDateTime.now())))
+                .flatMap(updated -> findBook(id)
+                        .flatMap(book -> updated == 0
+                                ? Mono.<Book>error(new IllegalStateException(
+                                        "재고가 부족합니다. 현재 재고: " + book.getStockQuantity()))
+                                : Mono.just(book)))
+                .doOnNext(book -> log.info("재고 감소 완료: ID={}, 현재 재고={}", id, book.getStockQuantity()))
+                .map(BookResponse::from);
+    }
+
+    private Mono<Book> findBook(Long id) {
+        return bookRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException(id)));
+    }
+
+    /**
+     * 목록과 전체 개수를 동시에 조회해 한 페이지로 묶는다
+     */
+    private static Mono<Page<BookResponse>> page(Flux<Book> content, Mono<Long> total, Pageable pageable) {
+        return Mono.zip(content.map(BookResponse::from).collectList(), total)
+                .<Page<BookResponse>>map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    private static Mono<Void> validateQuantity(int quantity) {
+        if (quantity < 1) {
+            return Mono.error(new IllegalArgumentException("수량은 1 이상이어야 합니다."));
+        }
+        return Mono.empty();
+    }
+}
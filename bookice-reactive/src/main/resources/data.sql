@@ -0,0 +1,12 @@
+INSERT INTO books (title, author, category, publisher, isbn, price, stock_quantity, description, created_at, updated_at)
+VALUES
+    ('클린 코드', '로버트 C. 마틴', '프로그래밍', '인사이트', '9788966260959', 33000, 100, '애자일 소프트웨어 장인 정신', NOW(), NOW()),
+    ('이펙티브 자바', '조슈아 블로크', '프로그래밍', '인사이트', '9788966262281', 36000, 80, '자바 플랫폼 Best Practice', NOW(), NOW()),
+    ('스프링 부트 핵심 가이드', '장정우', '프로그래밍', '위키북스', '9791158392642', 32000, 50, '스프링 부트를 활용한 애플리케이션 개발', NOW(), NOW()),
+    ('자바 ORM 표준 JPA 프로그래밍', '김영한', '프로그래밍', '에이콘', '9788960777330', 40000, 60, 'JPA 기본부터 실무 활용까지', NOW(), NOW()),
+    ('코틀린 인 액션', 'Dmitry Jemerov', '프로그래밍', '에이콘', '9788960778962', 35000, 40, '코틀린 완벽 가이드', NOW(), NOW()),
+    ('Do it! 자료구조와 함께 배우는 알고리즘 입문', '보요 시바타', '알고리즘', '이지스퍼블리싱', '9791163030812', 26000, 90, '자료구조와 알고리즘', NOW(), NOW()),
+    ('혼자 공부하는 머신러닝+딥러닝', '박해선', 'AI', '한빛미디어', '9791162243664', 28000, 70, '머신러닝과 딥러닝 입문서', NOW(), NOW()),
+    ('모던 자바 인 액션', '라울-게이브리얼 우르마', '프로그래밍', '한빛미디어', '9791162242025', 38000, 55, '람다, 스트림, 함수형, 리액티브 프로그래밍', NOW(), NOW()),
+    ('객체지향의 사실과 오해', '조영호', '프로그래밍', '위키북스', '9788998139766', 25000, 65, '역할, 책임, 협력 관점에서 본 객체지향', NOW(), NOW()),
+    ('리팩터링 2판', '마틴 파울러', '프로그래밍', '한빛미디어', '9791162242742', 35000, 45, '코드 구조를 체계적으로 개선하여 효율적인 리팩터링', NOW(), NOW());
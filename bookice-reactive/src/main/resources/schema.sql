@@ -0,0 +1,20 @@
+-- 서블릿 쪽 Book 엔티티가 만드는 books 테이블과 같은 컬럼 (재고 샤드 컬럼과 stock_shards 테이블은 없다)
+-- DB_CLOSE_DELAY=-1 로 같은 JVM 안에서는 DB 가 남으므로 매번 새로 만든다 (data.sql 의 ISBN 중복 방지)
+DROP TABLE IF EXISTS books;
+
+CREATE TABLE books (
+    book_id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title          VARCHAR(200)  NOT NULL,
+    author         VARCHAR(100)  NOT NULL,
+    category       VARCHAR(50)   NOT NULL,
+    publisher      VARCHAR(100),
+    isbn           VARCHAR(13) UNIQUE,
+    price          INTEGER       NOT NULL,
+    stock_quantity INTEGER       NOT NULL,
+    -- R2DBC 는 CLOB 을 스트림(Clob)으로 넘기므로 문자열로 읽히는 VARCHAR 를 쓴다
+    description    VARCHAR(4000),
+    created_at     TIMESTAMP,
+    updated_at     TIMESTAMP
+);
+
+CREATE INDEX idx_books_created_at_id ON books (created_at, book_id);
@@ -0,0 +1,200 @@
+package com.dgsw.bookice.reactive.controller;
+
+import com.dgsw.bookice.reactive.dto.request.BookCreateRequest;
+import com.dgsw.bookice.reactive.dto.response.BookResponse;
+import com.dgsw.bookice.reactive.exception.BookNotFoundException;
+import com.dgsw.bookice.reactive.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class BookControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private BookService bookService;
+
+    private BookResponse bookResponse;
+    private BookCreateRequest createRequest;
+
+    @BeforeEach
+    void setUp() {
+        bookResponse = BookResponse.builder()
+                .id(1L)
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(100)
+                .description("애자일 소프트웨어 장인 정신")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        createRequest = BookCreateRequest.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(100)
+                .description("애자일 소프트웨어 장인 정신")
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /api/books - 도서 등록 성공")
+    void createBook_Success() {
+        // given
+        given(bookService.createBook(any(BookCreateRequest.class))).willReturn(Mono.just(bookResponse));
+
+        // when & then
+        webTestClient.post().uri("/api/books")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.message").isEqualTo("도서가 성공적으로 등록되었습니다.")
+                .jsonPath("$.data.id").isEqualTo(1)
+                .jsonPath("$.data.title").isEqualTo("클린 코드");
+    }
+
+    @Test
+    @DisplayName("POST /api/books - 도서 등록 실패 (제목 누락)")
+    void createBook_Fail_NoTitle() {
+        // given
+        BookCreateRequest invalidRequest = BookCreateRequest.builder()
+                .title("")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .price(33000)
+                .stockQuantity(100)
+                .build();
+
+        // when & then
+        webTestClient.post().uri("/api/books")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(invalidRequest)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("입력값이 올바르지 않습니다.")
+                .jsonPath("$.fieldErrors[0].field").isEqualTo("title");
+    }
+
+    @Test
+    @DisplayName("GET /api/books/{id} - 도서 조회 성공")
+    void getBook_Success() {
+        // given
+        given(bookService.getBook(1L)).willReturn(Mono.just(bookResponse));
+
+        // when & then
+        webTestClient.get().uri("/api/books/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("도서 조회 성공")
+                .jsonPath("$.data.isbn").isEqualTo("9788966260959");
+    }
+
+    @Test
+    @DisplayName("GET /api/books/{id} - 도서 조회 실패 (존재하지 않는 ID)")
+    void getBook_NotFound() {
+        // given
+        given(bookService.getBook(999L)).willReturn(Mono.error(new BookNotFoundException(999L)));
+
+        // when & then
+        webTestClient.get().uri("/api/books/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("도서를 찾을 수 없습니다. ID: 999");
+    }
+
+    @Test
+    @DisplayName("GET /api/books/search - 페이징 파라미터를 서블릿 쪽과 같이 받는다")
+    void searchBooks_Success() {
+        // given
+        given(bookService.searchBooks(eq("클린"), any(Pageable.class)))
+                .willReturn(Mono.just(new PageImpl<>(List.of(bookResponse), PageRequest.of(0, 5), 1)));
+
+        // when & then
+        webTestClient.get().uri("/api/books/search?keyword=클린&page=0&size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.content[0].title").isEqualTo("클린 코드")
+                .jsonPath("$.data.totalElements").isEqualTo(1);
+        verify(bookService).searchBooks(eq("클린"), eq(PageRequest.of(0, 5, Sort.Direction.DESC, "createdAt")));
+    }
+
+    @Test
+    @DisplayName("GET /api/books/search/stream - 검색 결과를 NDJSON 으로 한 권씩 전송")
+    void streamSearchBooks_Ndjson() {
+        // given
+        BookResponse second = bookResponse.toBuilder().id(2L).title("클린 아키텍처").build();
+        given(bookService.streamSearchBooks(eq("클린"), any(Pageable.class)))
+                .willReturn(Flux.just(bookResponse, second));
+
+        // when
+        List<BookResponse> books = webTestClient.get().uri("/api/books/search/stream?keyword=클린")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(BookResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(books).extracting(BookResponse::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("POST /api/books/{id}/stock/decrease - 재고 감소 실패 (재고 부족)")
+    void decreaseStock_Fail_InsufficientStock() {
+        // given
+        given(bookService.decreaseStock(1L, 200))
+                .willReturn(Mono.error(new IllegalStateException("재고가 부족합니다. 현재 재고: 100")));
+
+        // when & then
+        webTestClient.post().uri("/api/books/1/stock/decrease?quantity=200")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("재고가 부족합니다. 현재 재고: 100");
+    }
+}
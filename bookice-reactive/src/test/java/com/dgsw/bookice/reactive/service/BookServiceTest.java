@@ -0,0 +1,135 @@
+package com.dgsw.bookice.reactive.service;
+
+import com.dgsw.bookice.reactive.dto.request.BookCreateRequest;
+import com.dgsw.bookice.reactive.entity.Book;
+import com.dgsw.bookice.reactive.exception.BookNotFoundException;
+import com.dgsw.bookice.reactive.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private BookServiceImpl bookService;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        book = Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(10)
+                .description("애자일 소프트웨어 장인 정신")
+                .build();
+    }
+
+    @Test
+    @DisplayName("도서 등록 실패 - 중복된 ISBN")
+    void createBook_Fail_DuplicateIsbn() {
+        // given
+        BookCreateRequest request = BookCreateRequest.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(10)
+                .build();
+        given(bookRepository.existsByIsbn("9788966260959")).willReturn(Mono.just(true));
+
+        // when & then
+        StepVerifier.create(bookService.createBook(request))
+                .expectErrorMatches(e -> e instanceof IllegalStateException
+                        && e.getMessage().equals("이미 존재하는 ISBN입니다: 9788966260959"))
+                .verify();
+        verify(bookRepository, never()).save(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("도서 조회 실패 - 존재하지 않는 ID")
+    void getBook_Fail_NotFound() {
+        // given
+        given(bookRepository.findById(999L)).willReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(bookService.getBook(999L))
+                .expectError(BookNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("재고 감소 성공 - 조건부 UPDATE 후 다시 읽는다")
+    void decreaseStock_Success() {
+        // given
+        given(bookRepository.decreaseStock(eq(1L), eq(3), any(LocalDateTime.class))).willReturn(Mono.just(1));
+        given(bookRepository.findById(1L)).willReturn(Mono.just(book));
+
+        // when & then
+        StepVerifier.create(bookService.decreaseStock(1L, 3))
+                .expectNextMatches(response -> response.getTitle().equals("클린 코드"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("재고 감소 실패 - 갱신된 행이 없고 도서가 있으면 재고 부족")
+    void decreaseStock_Fail_InsufficientStock() {
+        // given
+        given(bookRepository.decreaseStock(eq(1L), eq(20), any(LocalDateTime.class))).willReturn(Mono.just(0));
+        given(bookRepository.findById(1L)).willReturn(Mono.just(book));
+
+        // when & then
+        StepVerifier.create(bookService.decreaseStock(1L, 20))
+                .expectErrorMatches(e -> e instanceof IllegalStateException
+                        && e.getMessage().equals("재고가 부족합니다. 현재 재고: 10"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("재고 감소 실패 - 갱신된 행이 없고 도서도 없으면 404")
+    void decreaseStock_Fail_NotFound() {
+        // given
+        given(bookRepository.decreaseStock(eq(999L), eq(1), any(LocalDateTime.class))).willReturn(Mono.just(0));
+        given(bookRepository.findById(999L)).willReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(bookService.decreaseStock(999L, 1))
+                .expectError(BookNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("재고 증가 실패 - 수량이 0 이하")
+    void increaseStock_Fail_InvalidQuantity() {
+        // when & then
+        StepVerifier.create(bookService.increaseStock(1L, 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(bookRepository, never()).increaseStock(anyLong(), anyInt(), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,82 @@
+package com.dgsw.bookice.cache;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 단건 조회(getBook) 캐시
+ * Caffeine(W-TinyLFU)으로 자주 조회되는 도서를 유지하고, 변경은 커밋 이후 무효화한다.
+ * 적중/미스/축출 수는 /actuator/metrics 의 cache.* 지표로 노출된다 (cache=book).
+ */
+@Component
+public class BookCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "book";
+
+    private final AsyncCache<Long, BookResponse> books;
+
+    public BookCache(@Value("${bookice.book-cache.max-size:10000}") long maxSize,
+                     @Value("${bookice.book-cache.ttl:10m}") Duration ttl) {
+        this.books = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 도서 조회 (없으면 loader 로 읽어 저장, loader 예외는 캐시하지 않는다)
+     * loader 는 캐시 잠금 밖에서 실행된다 (가상 스레드 고정 방지)
+     */
+    public BookResponse get(Long id, Function<Long, BookResponse> loader) {
+        return CacheLoads.get(books, id, loader);
+    }
+
+    /**
+     * 캐시된 도서 (없거나 적재 중이면 null, 적재를 기다리지 않는다)
+     */
+    public BookResponse getIfPresent(Long id) {
+        CompletableFuture<BookResponse> cached = books.getIfPresent(id);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return null;
+        }
+        return cached.join();
+    }
+
+    public void evict(Long id) {
+        books.synchronous().invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return books.synchronous().stats();
+    }
+
+    /**
+     * 커밋된 변경 반영
+     * 이벤트 스냅샷은 flush 전 값일 수 있으므로 갱신하지 않고 무효화만 한다.
+     * 같은 키를 적재 중이면 그 적재 결과는 캐시에 들어가지 않으므로 커밋 전 값이 남지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        evict(event.getBookId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(books.synchronous(), CACHE_NAME, Tags.empty()).bindTo(registry);
+    }
+}
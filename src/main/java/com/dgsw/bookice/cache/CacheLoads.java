@@ -0,0 +1,40 @@
+package com.dgsw.bookice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 잠금 밖에서 적재하는 캐시 조회
+ * Cache.get(key, loader) 는 ConcurrentHashMap.compute 의 synchronized 블록 안에서 loader(DB 조회)를 실행하므로
+ * 가상 스레드가 캐리어 스레드에 고정된다. 여기서는 빈 future 만 잠금 안에서 넣고, 적재는 호출 스레드가 잠금 밖에서 한다.
+ * 같은 키를 동시에 조회하면 하나만 적재하고 나머지는 그 결과를 기다린다. 실패한 적재는 캐시에 남지 않는다.
+ */
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (ignored, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
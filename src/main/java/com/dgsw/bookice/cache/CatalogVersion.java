@@ -0,0 +1,65 @@
+package com.dgsw.bookice.cache;
+
+import com.dgsw.bookice.event.BookChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카탈로그 전체 버전 (목록/검색 응답의 ETag, Last-Modified)
+ * 도서 정보 변경(등록/수정/삭제)과 재고 변경을 따로 센다. 목록 ETag 에는 둘 다 넣고,
+ * 검색 결과 캐시는 도서 정보 버전만 키로 쓰고 재고는 꺼낼 때 현재 값으로 덮어쓴다 (구매마다 캐시가 비워지지 않는다).
+ * 재기동하면 0 부터 다시 세므로 ETag 에 기동 시각을 함께 넣어 이전 프로세스의 값과 겹치지 않게 한다.
+ * 응답을 만들기 전에 버전을 먼저 읽으므로, 응답 내용은 항상 그 버전 이후의 것이다.
+ */
+@Component
+public class CatalogVersion {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicReference<Stamp> current = new AtomicReference<>(new Stamp(0, 0, System.currentTimeMillis()));
+
+    public Stamp current() {
+        return current.get();
+    }
+
+    /**
+     * 강한 ETag (따옴표 포함)
+     */
+    public String etag(Stamp stamp) {
+        return "\"catalog-" + bootId + "-" + stamp.version() + "-" + stamp.stockVersion() + "\"";
+    }
+
+    /**
+     * 도서 정보 변경 (등록/수정/삭제)
+     */
+    public void bump() {
+        long now = System.currentTimeMillis();
+        current.updateAndGet(stamp ->
+                new Stamp(stamp.version() + 1, stamp.stockVersion(), Math.max(now, stamp.modifiedAt())));
+    }
+
+    /**
+     * 재고만 바뀐 변경
+     */
+    public void bumpStock() {
+        long now = System.currentTimeMillis();
+        current.updateAndGet(stamp ->
+                new Stamp(stamp.version(), stamp.stockVersion() + 1, Math.max(now, stamp.modifiedAt())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.STOCK_CHANGED) {
+            bumpStock();
+        } else {
+            bump();
+        }
+    }
+
+    /**
+     * 도서 정보 버전, 재고 버전과 마지막 변경 시각 (epoch ms)
+     */
+    public record Stamp(long version, long stockVersion, long modifiedAt) {
+    }
+}
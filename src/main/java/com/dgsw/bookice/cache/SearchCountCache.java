@@ -0,0 +1,71 @@
+package com.dgsw.bookice.cache;
+
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 조건별 전체 개수 캐시
+ * 같은 조건의 페이지를 넘길 때마다 count 쿼리를 반복하지 않도록 짧게 보관한다.
+ * 키에 세대 번호를 포함하므로, 쓰기 커밋 전에 계산된 개수는 커밋 이후 조회되지 않는다.
+ */
+@Component
+public class SearchCountCache {
+
+    private final AsyncCache<Key, Long> totals;
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchCountCache(@Value("${bookice.search.count-cache.ttl:30s}") Duration ttl,
+                            @Value("${bookice.search.count-cache.max-size:10000}") long maxSize) {
+        this.totals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 개수 조회 (없으면 counter 로 계산 후 저장)
+     *
+     * @param predicate 정규화된 검색 조건 (검색 종류 + 조건 값)
+     */
+    public long get(List<String> predicate, LongSupplier counter) {
+        return CacheLoads.get(totals, new Key(generation.get(), predicate), ignored -> counter.getAsLong());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        // 재고 수량은 검색 조건에 포함되지 않는다
+        if (event.getType() == BookChangedEvent.Type.STOCK_CHANGED) {
+            return;
+        }
+        generation.incrementAndGet();
+        totals.synchronous().invalidateAll();
+    }
+
+    /**
+     * 비어 있으면 조건이 없는 것으로 취급하는 값 정규화 (StringUtils.hasText 기준)
+     */
+    public static String normalize(String value) {
+        return StringUtils.hasText(value) ? value : "";
+    }
+
+    /**
+     * 대소문자를 구분하지 않는 조건(containsIgnoreCase) 값 정규화
+     */
+    public static String normalizeIgnoreCase(String value) {
+        return normalize(value).toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(long generation, List<String> predicate) {
+    }
+}
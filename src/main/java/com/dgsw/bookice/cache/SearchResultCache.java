@@ -0,0 +1,106 @@
+package com.dgsw.bookice.cache;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 검색 결과 페이지 캐시 (searchBooks, searchBooksByConditions)
+ * 키에 카탈로그(도서 정보) 버전을 넣으므로 커밋된 등록/수정/삭제가 반영되면 이전 결과는 더 이상 조회되지 않는다.
+ * 재고만 바뀐 변경은 키를 바꾸지 않는다. 저장한 뒤 재고 버전이 바뀌었으면 꺼낼 때 페이지 도서의 재고만 다시 읽어 덮어쓴다.
+ * 버전은 조회 전에 읽으므로, 조회 도중 커밋된 변경이 있어도 새 버전 키에는 그 이전 결과가 들어가지 않는다.
+ * 적중/미스/축출 수는 /actuator/metrics 의 cache.* 지표로 노출된다 (cache=search).
+ */
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "search";
+
+    private final AsyncCache<Key, Entry> pages;
+    private final CatalogVersion catalogVersion;
+    private final AtomicLong cachedVersion = new AtomicLong();
+
+    public SearchResultCache(CatalogVersion catalogVersion,
+                             @Value("${bookice.search.result-cache.max-size:1000}") long maxSize,
+                             @Value("${bookice.search.result-cache.ttl:10m}") Duration ttl) {
+        this.catalogVersion = catalogVersion;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 결과 조회 (없으면 loader 로 조회 후 저장, loader 예외는 캐시하지 않는다)
+     *
+     * @param predicate    정규화된 검색 조건 (검색 종류 + 조건 값)
+     * @param stockOverlay 저장 이후 재고가 바뀌었을 때 페이지 도서의 재고를 현재 값으로 바꾼다
+     */
+    public Page<BookResponse> get(List<String> predicate, Pageable pageable, Supplier<Page<BookResponse>> loader,
+                                  UnaryOperator<List<BookResponse>> stockOverlay) {
+        CatalogVersion.Stamp stamp = catalogVersion.current();
+        long version = stamp.version();
+        // 버전이 바뀌면 이전 버전 결과는 다시 조회되지 않으므로 자리만 차지하지 않게 비운다
+        if (cachedVersion.getAndSet(version) != version) {
+            pages.synchronous().invalidateAll();
+        }
+        Key key = new Key(version, predicate, page(pageable));
+        Entry entry = CacheLoads.get(pages, key, ignored -> new Entry(loader.get(), stamp.stockVersion()));
+        Page<BookResponse> page = entry.page();
+        if (entry.stockVersion() == stamp.stockVersion() || page.getContent().isEmpty()) {
+            return page;
+        }
+
+        // 재고 버전은 덮어쓰기 전에 읽었으므로, 다음 적중은 이 버전 이후 재고가 바뀌었을 때만 다시 덮어쓴다
+        Page<BookResponse> overlaid = new PageImpl<>(stockOverlay.apply(page.getContent()),
+                page.getPageable(), page.getTotalElements());
+        pages.put(key, CompletableFuture.completedFuture(new Entry(overlaid, stamp.stockVersion())));
+        return overlaid;
+    }
+
+    public CacheStats stats() {
+        return pages.synchronous().stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(pages.synchronous(), CACHE_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * 페이지 번호, 크기, 정렬 (정렬 순서까지 구분한다)
+     */
+    private static String page(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged:" + pageable.getSort();
+        }
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
+
+    private record Key(long version, List<String> predicate, String page) {
+    }
+
+    /**
+     * 저장한 페이지와 그 재고를 읽기 전의 재고 버전
+     */
+    private record Entry(Page<BookResponse> page, long stockVersion) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.dgsw.bookice.catalog;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.index.IsbnFilter;
+import com.dgsw.bookice.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 카탈로그 묶음 하나를 한 트랜잭션으로 저장
+ * 이미 등록된 ISBN 은 ISBN 필터가 있을 수 있다고 한 것만 IN 조회 한 번으로 걸러내고, 나머지는 persist 후 한 번에 flush 해 배치 INSERT 로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogBatchWriter {
+
+    private final BookRepository bookRepository;
+    private final IsbnFilter isbnFilter;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 이미 등록된 ISBN 이라 건너뛴 줄
+     */
+    @Transactional
+    public List<CatalogLine> write(List<CatalogLine> lines) {
+        List<String> isbns = lines.stream()
+                .map(line -> line.request().getIsbn())
+                .filter(Objects::nonNull)
+                .filter(isbnFilter::mightContain)
+                .toList();
+        Set<String> existing = isbns.isEmpty() ? Set.of() : new HashSet<>(bookRepository.findIsbnsByIsbnIn(isbns));
+
+        List<CatalogLine> duplicates = new ArrayList<>();
+        List<BookResponse> created = new ArrayList<>(lines.size());
+        for (CatalogLine line : lines) {
+            if (line.request().getIsbn() != null && existing.contains(line.request().getIsbn())) {
+                duplicates.add(line);
+                continue;
+            }
+            Book book = line.request().toEntity();
+            entityManager.persist(book);
+            created.add(BookResponse.from(book));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        created.forEach(book -> eventPublisher.publishEvent(BookChangedEvent.created(book)));
+        return duplicates;
+    }
+}
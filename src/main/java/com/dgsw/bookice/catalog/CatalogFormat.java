@@ -0,0 +1,19 @@
+package com.dgsw.bookice.catalog;
+
+/**
+ * 카탈로그 파일 형식 (CSV 는 첫 줄이 헤더, NDJSON 은 한 줄에 한 권)
+ */
+public enum CatalogFormat {
+
+    CSV,
+    NDJSON;
+
+    public static CatalogFormat from(String value) {
+        for (CatalogFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,230 @@
+package com.dgsw.bookice.catalog;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카탈로그 가져오기 작업의 진행 상태
+ * 전체 오류는 오류 보고서 파일에 쓰고, 메모리에는 앞쪽 일부만 둔다.
+ * committedLine 은 그 줄까지 모두 커밋됐거나 저장 실패가 오류 보고서에 기록된 위치로, 작업이 중단되면 이 값부터 이어서 가져올 수 있다.
+ * 실패한 묶음은 오류 보고서를 보고 따로 다시 가져온다.
+ * 오류 보고서 쓰기(파일 I/O)를 잠근 채 하므로 synchronized 대신 ReentrantLock 을 쓴다 (가상 스레드 고정 방지).
+ */
+@Slf4j
+public class CatalogImportJob {
+
+    /**
+     * 메모리에 두는 오류 줄 수
+     */
+    private static final int MAX_ERRORS = 100;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String file;
+    @Getter
+    private final CatalogFormat format;
+    @Getter
+    private final long resumeAfterLine;
+    @Getter
+    private final Path errorReport;
+    @Getter
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicLong readLines = new AtomicLong();
+    private final AtomicLong importedBooks = new AtomicLong();
+    private final AtomicLong duplicateLines = new AtomicLong();
+    private final AtomicLong invalidLines = new AtomicLong();
+    private final AtomicLong failedLines = new AtomicLong();
+
+    @Getter
+    private volatile Status status = Status.RUNNING;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+    @Getter
+    private volatile String failure;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<String> errors = new ArrayList<>();
+    private final NavigableMap<Long, Long> committedRanges = new TreeMap<>();
+    private long committedLine;
+    private BufferedWriter errorWriter;
+
+    CatalogImportJob(String id, String file, CatalogFormat format, long resumeAfterLine, Path errorReport) {
+        this.id = id;
+        this.file = file;
+        this.format = format;
+        this.resumeAfterLine = resumeAfterLine;
+        this.errorReport = errorReport;
+        this.committedLine = resumeAfterLine;
+    }
+
+    void openErrorReport() throws IOException {
+        lock.lock();
+        try {
+            errorWriter = Files.newBufferedWriter(errorReport);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void read() {
+        readLines.incrementAndGet();
+    }
+
+    void invalid(long lineNo, String reason) {
+        invalidLines.incrementAndGet();
+        error(lineNo + "행: " + reason);
+    }
+
+    void duplicate(long lineNo, String isbn) {
+        duplicateLines.incrementAndGet();
+        error(lineNo + "행: 중복된 ISBN입니다: " + isbn);
+    }
+
+    /**
+     * 묶음 커밋 (묶음 범위는 firstLine~lastLine 이 빈틈없이 이어지며, 건너뛴 줄도 범위에 포함된다)
+     */
+    void committed(long firstLine, long lastLine, int imported) {
+        lock.lock();
+        try {
+            importedBooks.addAndGet(imported);
+            settle(firstLine, lastLine);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 묶음 저장 실패
+     * 실패가 오류 보고서에 기록되면 처리가 끝난 범위로 보고 committedLine 이 이 묶음을 넘어간다.
+     * 기록하지 못하면 다시 가져올 수 있도록 committedLine 은 이 묶음 앞에서 멈춘다.
+     */
+    void failed(long firstLine, long lastLine, int lines, String reason) {
+        lock.lock();
+        try {
+            failedLines.addAndGet(lines);
+            if (error(firstLine + "~" + lastLine + "행: 저장 실패 - " + reason, true)) {
+                settle(firstLine, lastLine);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void finish(String failure) {
+        lock.lock();
+        try {
+            this.failure = failure;
+            this.finishedAt = LocalDateTime.now();
+            this.status = failure == null ? Status.COMPLETED : Status.FAILED;
+            if (errorWriter != null) {
+                try {
+                    errorWriter.close();
+                } catch (IOException e) {
+                    log.warn("오류 보고서를 닫지 못했습니다: {}", errorReport, e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getReadLines() {
+        return readLines.get();
+    }
+
+    public long getImportedBooks() {
+        return importedBooks.get();
+    }
+
+    public long getDuplicateLines() {
+        return duplicateLines.get();
+    }
+
+    public long getInvalidLines() {
+        return invalidLines.get();
+    }
+
+    public long getFailedLines() {
+        return failedLines.get();
+    }
+
+    public long getCommittedLine() {
+        lock.lock();
+        try {
+            return committedLine;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<String> getErrors() {
+        lock.lock();
+        try {
+            return List.copyOf(errors);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리가 끝난 범위를 기록하고, 앞에서부터 빈틈없이 이어진 만큼 committedLine 을 옮긴다 (잠금 안에서 호출)
+     */
+    private void settle(long firstLine, long lastLine) {
+        committedRanges.put(firstLine, lastLine);
+        Long next;
+        while ((next = committedRanges.remove(committedLine + 1)) != null) {
+            committedLine = next;
+        }
+    }
+
+    private void error(String message) {
+        error(message, false);
+    }
+
+    /**
+     * @param flush 오류 보고서를 바로 디스크로 내보낼지 (작업이 중단돼도 기록이 남아야 할 때)
+     * @return 오류 보고서에 기록했으면 true
+     */
+    private boolean error(String message, boolean flush) {
+        lock.lock();
+        try {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+            if (errorWriter == null) {
+                return false;
+            }
+            try {
+                errorWriter.write(message);
+                errorWriter.newLine();
+                if (flush) {
+                    errorWriter.flush();
+                }
+                return true;
+            } catch (IOException e) {
+                log.warn("오류 보고서에 쓰지 못했습니다: {}", errorReport, e);
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.dgsw.bookice.catalog;
+
+import com.dgsw.bookice.dto.request.BookCreateRequest;
+import com.dgsw.bookice.exception.CatalogImportNotFoundException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 카탈로그 파일 가져오기 (CSV / NDJSON)
+ * 읽기 스레드 하나가 파일을 한 건씩 파싱/검증하고 ISBN 중복을 걸러 batch-size 건씩 묶으면, 작업자 풀이 묶음마다 한 트랜잭션으로 저장한다.
+ * 진행 중인 묶음은 작업자 수의 2배까지만 허용해 DB 가 느리면 읽기가 기다리므로, 메모리 사용량은 파일 크기와 무관하다.
+ * 파일 안 ISBN 중복은 압축 비트맵으로 걸러내고, 이미 등록된 ISBN 은 묶음마다 DB 에서 확인한다.
+ * 한 번에 하나의 작업만 실행한다.
+ */
+@Slf4j
+@Component
+public class CatalogImporter {
+
+    /**
+     * 진행 상황 로그 주기 (읽은 줄 수)
+     */
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final Map<String, CatalogImportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<CatalogImportJob> running = new AtomicReference<>();
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    private final CatalogBatchWriter catalogBatchWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final ThreadFactory readerThreads;
+    private final ExecutorService workerPool;
+
+    public CatalogImporter(CatalogBatchWriter catalogBatchWriter,
+                           Validator validator,
+                           ObjectMapper objectMapper,
+                           @Value("${bookice.catalog-import.directory:./imports}") String directory,
+                           @Value("${bookice.catalog-import.workers:4}") int workers,
+                           @Value("${bookice.catalog-import.batch-size:500}") int batchSize,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (workers < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("bookice.catalog-import.workers 와 batch-size 는 1 이상이어야 합니다.");
+        }
+        this.catalogBatchWriter = catalogBatchWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.maxInFlight = workers * 2;
+
+        // 가상 스레드 모드에서도 작업자 수는 그대로 두어 동시 트랜잭션 수(커넥션 사용량)를 제한한다
+        this.readerThreads = threads(virtualThreads, "catalog-import-reader-");
+        this.workerPool = Executors.newFixedThreadPool(workers, threads(virtualThreads, "catalog-import-worker-"));
+    }
+
+    /**
+     * 가져오기 시작 (파일은 가져오기 디렉터리 안에 있어야 한다)
+     *
+     * @param resumeAfterLine 이 줄까지는 건너뛴다 (이전 작업의 committedLine, 처음이면 0)
+     */
+    public CatalogImportJob start(String fileName, CatalogFormat format, long resumeAfterLine) {
+        if (resumeAfterLine < 0) {
+            throw new IllegalArgumentException("resumeAfterLine 은 0 이상이어야 합니다.");
+        }
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("가져오기 디렉터리 밖의 파일은 읽을 수 없습니다: " + fileName);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다: " + fileName);
+        }
+
+        String id = UUID.randomUUID().toString();
+        CatalogImportJob job = new CatalogImportJob(id, fileName, format, resumeAfterLine,
+                directory.resolve(id + ".errors.log"));
+        if (!running.compareAndSet(null, job)) {
+            throw new IllegalStateException("이미 진행 중인 카탈로그 가져오기가 있습니다.");
+        }
+        jobs.put(id, job);
+
+        readerThreads.newThread(() -> run(job, file)).start();
+        log.info("카탈로그 가져오기 시작: ID={}, 파일={}, 형식={}, {}행 이후부터", id, fileName, format, resumeAfterLine);
+        return job;
+    }
+
+    public CatalogImportJob get(String jobId) {
+        CatalogImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new CatalogImportNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    private void run(CatalogImportJob job, Path file) {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        String failure = null;
+        try (InputStream in = Files.newInputStream(file);
+             MappingIterator<BookCreateRequest> records = reader(job.getFormat()).readValues(in)) {
+            job.openErrorReport();
+            read(job, records, inFlight);
+        } catch (IOException | RuntimeException e) {
+            log.error("카탈로그 가져오기 중단: ID={}", job.getId(), e);
+            failure = e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = "가져오기가 중단되었습니다.";
+        }
+
+        inFlight.acquireUninterruptibly(maxInFlight);
+        job.finish(failure);
+        running.compareAndSet(job, null);
+        log.info("카탈로그 가져오기 종료: ID={}, 상태={}, 등록={}, 중복={}, 오류={}, 저장 실패={}, 커밋 위치={}",
+                job.getId(), job.getStatus(), job.getImportedBooks(), job.getDuplicateLines(),
+                job.getInvalidLines(), job.getFailedLines(), job.getCommittedLine());
+    }
+
+    /**
+     * 형식 오류(값 변환 실패)는 그 줄만 건너뛰고, 구문 오류는 더 읽을 수 없으므로 작업을 중단한다
+     */
+    private void read(CatalogImportJob job, MappingIterator<BookCreateRequest> records, Semaphore inFlight)
+            throws IOException, InterruptedException {
+        Roaring64Bitmap seenIsbns = new Roaring64Bitmap();
+        List<CatalogLine> batch = new ArrayList<>(batchSize);
+        long lineNo = 0;
+        long batchFirstLine = job.getResumeAfterLine() + 1;
+
+        while (records.hasNextValue()) {
+            lineNo++;
+            BookCreateRequest request;
+            try {
+                request = records.nextValue();
+            } catch (JsonMappingException e) {
+                if (lineNo > job.getResumeAfterLine()) {
+                    job.read();
+                    job.invalid(lineNo, "형식 오류 - " + e.getOriginalMessage());
+                }
+                continue;
+            }
+            if (lineNo <= job.getResumeAfterLine()) {
+                continue;
+            }
+            job.read();
+
+            String violation = validate(request);
+            if (violation != null) {
+                job.invalid(lineNo, violation);
+            } else if (request.getIsbn() != null && !markSeen(seenIsbns, request.getIsbn())) {
+                job.duplicate(lineNo, request.getIsbn());
+            } else {
+                batch.add(new CatalogLine(lineNo, request));
+            }
+
+            if (batch.size() == batchSize) {
+                submit(job, batchFirstLine, lineNo, batch, inFlight);
+                batchFirstLine = lineNo + 1;
+                batch = new ArrayList<>(batchSize);
+            }
+            if (lineNo % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("카탈로그 가져오기 진행: ID={}, {}행 읽음, 등록={}, 커밋 위치={}",
+                        job.getId(), lineNo, job.getImportedBooks(), job.getCommittedLine());
+            }
+        }
+        if (batchFirstLine <= lineNo) {
+            submit(job, batchFirstLine, lineNo, batch, inFlight);
+        }
+    }
+
+    /**
+     * 진행 중인 묶음이 가득 차면 자리가 날 때까지 기다린다
+     */
+    private void submit(CatalogImportJob job, long firstLine, long lastLine, List<CatalogLine> batch,
+                        Semaphore inFlight) throws InterruptedException {
+        if (batch.isEmpty()) {
+            job.committed(firstLine, lastLine, 0);
+            return;
+        }
+        inFlight.acquire();
+        try {
+            workerPool.execute(() -> {
+                try {
+                    write(job, firstLine, lastLine, batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw new IllegalStateException("가져오기 작업자가 종료되었습니다.", e);
+        }
+    }
+
+    private void write(CatalogImportJob job, long firstLine, long lastLine, List<CatalogLine> batch) {
+        try {
+            List<CatalogLine> duplicates = catalogBatchWriter.write(batch);
+            duplicates.forEach(line -> job.duplicate(line.lineNo(), line.request().getIsbn()));
+            job.committed(firstLine, lastLine, batch.size() - duplicates.size());
+        } catch (RuntimeException e) {
+            log.error("카탈로그 묶음 저장 실패: ID={}, {}~{}행", job.getId(), firstLine, lastLine, e);
+            job.failed(firstLine, lastLine, batch.size(), e.getMessage());
+        }
+    }
+
+    private String validate(BookCreateRequest request) {
+        if (request == null) {
+            return "빈 항목입니다.";
+        }
+        Set<ConstraintViolation<BookCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 처음 보는 ISBN 이면 기록하고 true (검증을 통과한 ISBN 은 13자리 숫자이므로 long 으로 담는다)
+     */
+    private static boolean markSeen(Roaring64Bitmap seenIsbns, String isbn) {
+        long value = Long.parseLong(isbn);
+        if (seenIsbns.contains(value)) {
+            return false;
+        }
+        seenIsbns.addLong(value);
+        return true;
+    }
+
+    private static ThreadFactory threads(boolean virtualThreads, String prefix) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        return Thread.ofPlatform().name(prefix, 1).daemon(true).factory();
+    }
+
+    private ObjectReader reader(CatalogFormat format) {
+        return switch (format) {
+            case NDJSON -> objectMapper.readerFor(BookCreateRequest.class);
+            case CSV -> csvMapper.readerFor(BookCreateRequest.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .with(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        };
+    }
+}
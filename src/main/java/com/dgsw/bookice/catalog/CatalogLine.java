@@ -0,0 +1,9 @@
+package com.dgsw.bookice.catalog;
+
+import com.dgsw.bookice.dto.request.BookCreateRequest;
+
+/**
+ * 카탈로그 한 건과 파일 안 위치 (1부터, CSV 헤더 제외)
+ */
+record CatalogLine(long lineNo, BookCreateRequest request) {
+}
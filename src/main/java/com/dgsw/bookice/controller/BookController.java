@@ -1,10 +1,23 @@
 package com.dgsw.bookice.controller;
 
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.dto.request.BookBulkCreateRequest;
 import com.dgsw.bookice.dto.request.BookCreateRequest;
 import com.dgsw.bookice.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.dto.request.CheckoutRequest;
+import com.dgsw.bookice.dto.request.StockAdjustmentRequest;
 import com.dgsw.bookice.dto.response.ApiResponse;
 import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.dto.response.BookVersion;
+import com.dgsw.bookice.dto.response.CatalogImportResponse;
+import com.dgsw.bookice.dto.response.CursorPageResponse;
+import com.dgsw.bookice.dto.response.ReservationResponse;
+import com.dgsw.bookice.dto.response.StockAdjustmentResponse;
 import com.dgsw.bookice.service.BookService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,13 +26,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "도서 관리", description = "도서 CRUD, 검색 및 재고 관리 API")
 @Slf4j
@@ -28,7 +52,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookController {
 
+    /**
+     * 스트리밍 응답을 클라이언트로 밀어내는 주기 (건수)
+     */
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final BookService bookService;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
 
     @Operation(summary = "도서 등록", description = "새로운 도서를 등록합니다.")
     @PostMapping
@@ -40,50 +71,204 @@ public class BookController {
                 .body(ApiResponse.success("도서가 성공적으로 등록되었습니다.", response));
     }
 
+    @Operation(summary = "도서 일괄 등록", description = "여러 도서를 한 번에 등록합니다. (최대 10,000권, ISBN 이 하나라도 겹치면 전부 실패)")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<BookResponse>>> createBooks(
+            @Valid @RequestBody BookBulkCreateRequest request) {
+        log.info("POST /api/books/bulk - 도서 일괄 등록 요청: {}권", request.getBooks().size());
+        List<BookResponse> response = bookService.createBooks(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("도서가 일괄 등록되었습니다.", response));
+    }
+
+    @Operation(summary = "카탈로그 가져오기 시작",
+            description = "가져오기 디렉터리의 CSV(헤더 포함) 또는 NDJSON 파일을 백그라운드로 등록합니다. "
+                    + "중단된 작업은 committedLine 을 resumeAfterLine 으로 넘겨 이어서 가져옵니다.")
+    @PostMapping("/imports")
+    public ResponseEntity<ApiResponse<CatalogImportResponse>> startCatalogImport(
+            @Parameter(description = "파일 이름 (가져오기 디렉터리 기준)", required = true) @RequestParam String file,
+            @Parameter(description = "파일 형식 (csv | ndjson)") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "이 줄까지는 건너뜀") @RequestParam(defaultValue = "0") long resumeAfterLine) {
+        log.info("POST /api/books/imports - 카탈로그 가져오기 요청: {}", file);
+        CatalogImportResponse response = bookService.startCatalogImport(file, format, resumeAfterLine);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("카탈로그 가져오기가 시작되었습니다.", response));
+    }
+
+    @Operation(summary = "카탈로그 가져오기 진행 상황", description = "건수, 커밋 위치, 앞쪽 오류 목록을 조회합니다. 전체 오류는 오류 보고서 파일에 있습니다.")
+    @GetMapping("/imports/{jobId}")
+    public ResponseEntity<ApiResponse<CatalogImportResponse>> getCatalogImport(
+            @Parameter(description = "가져오기 작업 ID", required = true) @PathVariable String jobId) {
+        log.info("GET /api/books/imports/{} - 카탈로그 가져오기 조회", jobId);
+        CatalogImportResponse response = bookService.getCatalogImport(jobId);
+        return ResponseEntity.ok(ApiResponse.success("카탈로그 가져오기 조회 성공", response));
+    }
+
     @Operation(summary = "도서 단건 조회", description = "ID로 특정 도서의 정보를 조회합니다.")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<BookResponse>> getBook(
-            @Parameter(description = "도서 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
         log.info("GET /api/books/{} - 도서 조회 요청", id);
+        BookVersion version = bookService.getBookVersion(id);
+        if (webRequest.checkNotModified(etag(version), lastModified(version))) {
+            return null;
+        }
         BookResponse response = bookService.getBook(id);
         return ResponseEntity.ok(ApiResponse.success("도서 조회 성공", response));
     }
 
     @Operation(summary = "전체 도서 목록 조회", description = "모든 도서 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<BookResponse>>> getAllBooks() {
+    public ResponseEntity<ApiResponse<List<BookResponse>>> getAllBooks(WebRequest webRequest) {
         log.info("GET /api/books - 전체 도서 목록 조회 요청");
+        if (notModified(webRequest)) {
+            return null;
+        }
         List<BookResponse> response = bookService.getAllBooks();
         return ResponseEntity.ok(ApiResponse.success("도서 목록 조회 성공", response));
     }
 
+    @Operation(summary = "전체 도서 스트리밍 내보내기",
+            description = "전체 도서를 NDJSON(한 줄에 한 권) 또는 JSON 배열로 조금씩 전송합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @Parameter(description = "응답 형식 (ndjson | json)") @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("GET /api/books/export - 전체 도서 스트리밍 요청: format={}", format);
+
+        boolean ndjson;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            ndjson = true;
+        } else if ("json".equalsIgnoreCase(format)) {
+            ndjson = false;
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+
+                int[] written = {0};
+                bookService.exportAllBooks(book -> {
+                    try {
+                        generator.writeObject(book);
+                        if (ndjson) {
+                            generator.writeRaw('\n');
+                        }
+                        if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @Operation(summary = "도서 키워드 검색", description = "키워드로 도서를 검색합니다. (페이징 지원)")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<BookResponse>>> searchBooks(
             @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         log.info("GET /api/books/search - 도서 검색 요청: keyword={}", keyword);
+        if (notModified(webRequest)) {
+            return null;
+        }
         Page<BookResponse> response = bookService.searchBooks(keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success("도서 검색 성공", response));
     }
 
+    @Operation(summary = "도서 키워드 검색 (Slice)", description = "전체 개수 없이 다음 페이지 존재 여부만 반환합니다.")
+    @GetMapping("/search/slice")
+    public ResponseEntity<ApiResponse<Slice<BookResponse>>> searchBooksSlice(
+            @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        log.info("GET /api/books/search/slice - 도서 검색 요청: keyword={}", keyword);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        Slice<BookResponse> response = bookService.searchBooksSlice(keyword, pageable);
+        return ResponseEntity.ok(ApiResponse.success("도서 검색 성공", response));
+    }
+
     @Operation(summary = "도서 상세 검색 (QueryDSL)", description = "제목, 저자, 카테고리를 조합하여 검색합니다.")
     @GetMapping("/search/advanced")
     public ResponseEntity<ApiResponse<Page<BookResponse>>> searchBooksAdvanced(
             @Parameter(description = "제목") @RequestParam(required = false) String title,
             @Parameter(description = "저자") @RequestParam(required = false) String author,
             @Parameter(description = "카테고리") @RequestParam(required = false) String category,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @Parameter(description = "재고가 있는 도서만") @RequestParam(defaultValue = "false") boolean inStock,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         log.info("GET /api/books/search/advanced - 동적 검색 요청");
-        Page<BookResponse> response = bookService.searchBooksByConditions(title, author, category, pageable);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        Page<BookResponse> response = bookService.searchBooksByConditions(title, author, category, inStock, pageable);
+        return ResponseEntity.ok(ApiResponse.success("도서 검색 성공", response));
+    }
+
+    @Operation(summary = "도서 상세 검색 (Slice)", description = "전체 개수 없이 다음 페이지 존재 여부만 반환합니다.")
+    @GetMapping("/search/advanced/slice")
+    public ResponseEntity<ApiResponse<Slice<BookResponse>>> searchBooksAdvancedSlice(
+            @Parameter(description = "제목") @RequestParam(required = false) String title,
+            @Parameter(description = "저자") @RequestParam(required = false) String author,
+            @Parameter(description = "카테고리") @RequestParam(required = false) String category,
+            @Parameter(description = "재고가 있는 도서만") @RequestParam(defaultValue = "false") boolean inStock,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        log.info("GET /api/books/search/advanced/slice - 동적 검색 요청");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        Slice<BookResponse> response = bookService.searchBooksByConditionsSlice(title, author, category, inStock, pageable);
+        return ResponseEntity.ok(ApiResponse.success("도서 검색 성공", response));
+    }
+
+    @Operation(summary = "도서 상세 검색 (커서)", description = "제목, 저자, 카테고리 조건으로 검색하며, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    @GetMapping("/search/advanced/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<BookResponse>>> searchBooksAdvancedByCursor(
+            @Parameter(description = "제목") @RequestParam(required = false) String title,
+            @Parameter(description = "저자") @RequestParam(required = false) String author,
+            @Parameter(description = "카테고리") @RequestParam(required = false) String category,
+            @Parameter(description = "재고가 있는 도서만") @RequestParam(defaultValue = "false") boolean inStock,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        log.info("GET /api/books/search/advanced/cursor - 커서 검색 요청");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        CursorPageResponse<BookResponse> response =
+                bookService.searchBooksByConditionsAfter(title, author, category, inStock, cursor, size);
         return ResponseEntity.ok(ApiResponse.success("도서 검색 성공", response));
     }
 
     @Operation(summary = "제목 검색", description = "제목에 특정 단어가 포함된 도서를 검색합니다.")
     @GetMapping("/search/title")
     public ResponseEntity<ApiResponse<List<BookResponse>>> searchByTitle(
-            @Parameter(description = "검색할 제목", required = true) @RequestParam String title) {
+            @Parameter(description = "검색할 제목", required = true) @RequestParam String title,
+            WebRequest webRequest) {
         log.info("GET /api/books/search/title - 제목 검색: {}", title);
+        if (notModified(webRequest)) {
+            return null;
+        }
         List<BookResponse> response = bookService.searchByTitle(title);
         return ResponseEntity.ok(ApiResponse.success("제목 검색 성공", response));
     }
@@ -91,8 +276,12 @@ public class BookController {
     @Operation(summary = "저자 검색", description = "저자 이름으로 도서를 검색합니다.")
     @GetMapping("/search/author")
     public ResponseEntity<ApiResponse<List<BookResponse>>> searchByAuthor(
-            @Parameter(description = "검색할 저자명", required = true) @RequestParam String author) {
+            @Parameter(description = "검색할 저자명", required = true) @RequestParam String author,
+            WebRequest webRequest) {
         log.info("GET /api/books/search/author - 저자 검색: {}", author);
+        if (notModified(webRequest)) {
+            return null;
+        }
         List<BookResponse> response = bookService.searchByAuthor(author);
         return ResponseEntity.ok(ApiResponse.success("저자 검색 성공", response));
     }
@@ -100,8 +289,12 @@ public class BookController {
     @Operation(summary = "카테고리 검색", description = "특정 카테고리의 도서를 검색합니다.")
     @GetMapping("/search/category")
     public ResponseEntity<ApiResponse<List<BookResponse>>> searchByCategory(
-            @Parameter(description = "검색할 카테고리", required = true) @RequestParam String category) {
+            @Parameter(description = "검색할 카테고리", required = true) @RequestParam String category,
+            WebRequest webRequest) {
         log.info("GET /api/books/search/category - 카테고리 검색: {}", category);
+        if (notModified(webRequest)) {
+            return null;
+        }
         List<BookResponse> response = bookService.searchByCategory(category);
         return ResponseEntity.ok(ApiResponse.success("카테고리 검색 성공", response));
     }
@@ -110,20 +303,53 @@ public class BookController {
     @GetMapping("/search/price")
     public ResponseEntity<ApiResponse<List<BookResponse>>> searchByPriceRange(
             @Parameter(description = "최소 가격", required = true) @RequestParam Integer minPrice,
-            @Parameter(description = "최대 가격", required = true) @RequestParam Integer maxPrice) {
+            @Parameter(description = "최대 가격", required = true) @RequestParam Integer maxPrice,
+            WebRequest webRequest) {
         log.info("GET /api/books/search/price - 가격 범위 검색: {} ~ {}", minPrice, maxPrice);
+        if (notModified(webRequest)) {
+            return null;
+        }
         List<BookResponse> response = bookService.searchByPriceRange(minPrice, maxPrice);
         return ResponseEntity.ok(ApiResponse.success("가격 범위 검색 성공", response));
     }
 
+    @Operation(summary = "가격 범위 검색 (페이징)", description = "최소 가격과 최대 가격 사이의 도서를 가격 오름차순으로 페이지 단위로 조회합니다.")
+    @GetMapping("/search/price/page")
+    public ResponseEntity<ApiResponse<Page<BookResponse>>> searchByPriceRangePage(
+            @Parameter(description = "최소 가격", required = true) @RequestParam Integer minPrice,
+            @Parameter(description = "최대 가격", required = true) @RequestParam Integer maxPrice,
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest) {
+        log.info("GET /api/books/search/price/page - 가격 범위 검색: {} ~ {}", minPrice, maxPrice);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        Page<BookResponse> response = bookService.searchByPriceRange(minPrice, maxPrice, pageable);
+        return ResponseEntity.ok(ApiResponse.success("가격 범위 검색 성공", response));
+    }
+
     @Operation(summary = "재고 보유 도서 조회", description = "재고가 1권 이상인 도서만 조회합니다.")
     @GetMapping("/in-stock")
-    public ResponseEntity<ApiResponse<List<BookResponse>>> getBooksInStock() {
+    public ResponseEntity<ApiResponse<List<BookResponse>>> getBooksInStock(WebRequest webRequest) {
         log.info("GET /api/books/in-stock - 재고 있는 도서 조회");
+        if (notModified(webRequest)) {
+            return null;
+        }
         List<BookResponse> response = bookService.getBooksInStock();
         return ResponseEntity.ok(ApiResponse.success("재고 있는 도서 조회 성공", response));
     }
 
+    @Operation(summary = "카테고리별 도서 수 조회", description = "카테고리별 도서 수를 카테고리 이름순으로 조회합니다.")
+    @GetMapping("/categories/counts")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getCategoryCounts(WebRequest webRequest) {
+        log.info("GET /api/books/categories/counts - 카테고리별 도서 수 조회");
+        if (notModified(webRequest)) {
+            return null;
+        }
+        Map<String, Long> response = bookService.getCategoryCounts();
+        return ResponseEntity.ok(ApiResponse.success("카테고리별 도서 수 조회 성공", response));
+    }
+
     @Operation(summary = "도서 정보 수정", description = "도서의 정보를 수정합니다.")
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<BookResponse>> updateBook(
@@ -162,4 +388,132 @@ public class BookController {
         BookResponse response = bookService.decreaseStock(id, quantity);
         return ResponseEntity.ok(ApiResponse.success("재고가 감소되었습니다.", response));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "재고 분할", description = "인기 도서의 재고를 여러 행으로 나눠 동시 구매 처리량을 높입니다.")
+    @PostMapping("/{id}/stock/shards")
+    public ResponseEntity<ApiResponse<BookResponse>> shardStock(
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "샤드 수 (2~64)", required = true) @RequestParam int count) {
+        log.info("POST /api/books/{}/stock/shards - 재고 분할 요청: {}", id, count);
+        BookResponse response = bookService.shardStock(id, count);
+        return ResponseEntity.ok(ApiResponse.success("재고가 분할되었습니다.", response));
+    }
+
+    @Operation(summary = "재고 분할 해제", description = "분할된 재고를 합쳐 도서 재고로 되돌립니다.")
+    @DeleteMapping("/{id}/stock/shards")
+    public ResponseEntity<ApiResponse<BookResponse>> unshardStock(
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long id) {
+        log.info("DELETE /api/books/{}/stock/shards - 재고 분할 해제 요청", id);
+        BookResponse response = bookService.unshardStock(id);
+        return ResponseEntity.ok(ApiResponse.success("재고 분할이 해제되었습니다.", response));
+    }
+
+    @Operation(summary = "재고 예약", description = "재고를 차감해 지정한 시간 동안 잡아 둡니다. 그 안에 확정하지 않으면 재고를 되돌립니다.")
+    @PostMapping("/{id}/reservations")
+    public ResponseEntity<ApiResponse<ReservationResponse>> reserveStock(
+            @Parameter(description = "도서 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "예약 수량", required = true) @RequestParam int quantity,
+            @Parameter(description = "예약 유지 시간(초)") @RequestParam(defaultValue = "300") long ttlSeconds) {
+        log.info("POST /api/books/{}/reservations - 재고 예약 요청: {}, {}초", id, quantity, ttlSeconds);
+        ReservationResponse response = bookService.reserveStock(id, quantity, Duration.ofSeconds(ttlSeconds));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("재고가 예약되었습니다.", response));
+    }
+
+    @Operation(summary = "재고 예약 확정", description = "예약할 때 차감한 재고로 구매를 확정합니다.")
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public ResponseEntity<ApiResponse<BookResponse>> confirmReservation(
+            @Parameter(description = "예약 ID", required = true) @PathVariable String reservationId) {
+        log.info("POST /api/books/reservations/{}/confirm - 재고 예약 확정 요청", reservationId);
+        BookResponse response = bookService.confirmReservation(reservationId);
+        return ResponseEntity.ok(ApiResponse.success("재고 예약이 확정되었습니다.", response));
+    }
+
+    @Operation(summary = "재고 예약 취소", description = "예약을 취소하고 예약할 때 차감한 재고를 되돌립니다.")
+    @DeleteMapping("/reservations/{reservationId}")
+    public ResponseEntity<ApiResponse<Void>> releaseReservation(
+            @Parameter(description = "예약 ID", required = true) @PathVariable String reservationId) {
+        log.info("DELETE /api/books/reservations/{} - 재고 예약 취소 요청", reservationId);
+        bookService.releaseReservation(reservationId);
+        return ResponseEntity.ok(ApiResponse.success("재고 예약이 취소되었습니다."));
+    }
+
+    @Operation(summary = "일괄 주문", description = "여러 도서의 재고를 한 번에 차감합니다. 한 도서라도 실패하면 아무 재고도 바뀌지 않습니다.")
+    @PostMapping("/checkout")
+    public ResponseEntity<ApiResponse<List<BookResponse>>> checkout(
+            @Valid @RequestBody CheckoutRequest request) {
+        log.info("POST /api/books/checkout - 일괄 주문 요청: {}줄", request.getLines().size());
+        List<BookResponse> response = bookService.checkout(request);
+        return ResponseEntity.ok(ApiResponse.success("주문이 처리되었습니다.", response));
+    }
+
+    @Operation(summary = "일괄 재고 조정",
+            description = "{bookId 또는 isbn, delta} 목록을 JSON 배열 또는 NDJSON 으로 받아 1,000줄 단위 트랜잭션으로 반영합니다. "
+                    + "묶음별 결과를 반환하며, 중간에 본문을 읽지 못하면 이전 묶음은 이미 반영된 상태입니다.")
+    @PostMapping("/stock/adjustments")
+    public ResponseEntity<ApiResponse<StockAdjustmentResponse>> adjustStockInBulk(InputStream body) throws IOException {
+        log.info("POST /api/books/stock/adjustments - 일괄 재고 조정 요청");
+        StockAdjustmentResponse response;
+        try (MappingIterator<StockAdjustmentRequest> values =
+                     objectMapper.readerFor(StockAdjustmentRequest.class).readValues(body)) {
+            response = bookService.adjustStockInBulk(adjustmentLines(values));
+        } catch (JsonProcessingException e) {
+            throw invalidAdjustmentLine(e);
+        }
+        return ResponseEntity.ok(ApiResponse.success("재고가 조정되었습니다.", response));
+    }
+
+    /**
+     * 목록/검색 응답의 조건부 요청 처리 (카탈로그 버전이 같으면 조회 없이 304)
+     * 버전은 조회 전에 읽으므로 응답 내용이 ETag 보다 오래되는 일은 없다.
+     */
+    private boolean notModified(WebRequest webRequest) {
+        CatalogVersion.Stamp stamp = catalogVersion.current();
+        return webRequest.checkNotModified(catalogVersion.etag(stamp), stamp.modifiedAt());
+    }
+
+    /**
+     * 단건 ETag (재고는 장부 방식에서 updatedAt 과 무관하게 바뀌므로 함께 넣는다)
+     * 버전은 도서 조회 전에 읽으므로 응답 내용이 ETag 보다 오래되는 일은 없다.
+     */
+    private static String etag(BookVersion book) {
+        return "\"book-" + book.getId() + "-" + lastModified(book) + "-" + book.getStockQuantity() + "\"";
+    }
+
+    private static long lastModified(BookVersion book) {
+        if (book.getUpdatedAt() == null) {
+            return -1;
+        }
+        return book.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 본문을 한 줄씩 읽는 Iterator (형식 오류는 IllegalArgumentException 으로 바꾼다)
+     */
+    private static Iterator<StockAdjustmentRequest> adjustmentLines(MappingIterator<StockAdjustmentRequest> values) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return values.hasNextValue();
+                } catch (IOException e) {
+                    throw invalidAdjustmentLine(e);
+                }
+            }
+
+            @Override
+            public StockAdjustmentRequest next() {
+                try {
+                    return values.nextValue();
+                } catch (IOException e) {
+                    throw invalidAdjustmentLine(e);
+                }
+            }
+        };
+    }
+
+    private static IllegalArgumentException invalidAdjustmentLine(IOException e) {
+        String message = e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage();
+        return new IllegalArgumentException("조정 항목을 읽을 수 없습니다 (이전 묶음은 이미 반영됨): " + message, e);
+    }
+}
@@ -0,0 +1,22 @@
+package com.dgsw.bookice.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookBulkCreateRequest {
+
+    @NotEmpty(message = "등록할 도서는 필수입니다.")
+    @Size(max = 10_000, message = "한 번에 10,000권을 초과하여 등록할 수 없습니다.")
+    private List<@Valid BookCreateRequest> books;
+}
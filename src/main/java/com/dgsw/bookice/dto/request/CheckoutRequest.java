@@ -0,0 +1,37 @@
+package com.dgsw.bookice.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckoutRequest {
+
+    @NotEmpty(message = "주문 항목은 필수입니다.")
+    @Size(max = 100, message = "주문 항목은 100개를 초과할 수 없습니다.")
+    private List<@Valid Line> lines;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+
+        @NotNull(message = "도서 ID는 필수입니다.")
+        private Long bookId;
+
+        @NotNull(message = "수량은 필수입니다.")
+        @Min(value = 1, message = "수량은 1 이상이어야 합니다.")
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dgsw.bookice.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 재고 조정 한 줄 (도서 ID 가 없으면 ISBN 으로 찾는다, 변경량은 음수면 차감)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockAdjustmentRequest {
+
+    private Long bookId;
+    private String isbn;
+    private Integer delta;
+}
@@ -0,0 +1,23 @@
+package com.dgsw.bookice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 단건 조회의 조건부 요청(ETag/Last-Modified) 확인용 버전
+ * 수정 시각과 재고만 담으므로 도서 전체를 읽지 않고 만들 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookVersion {
+
+    private Long id;
+    private LocalDateTime updatedAt;
+    private Integer stockQuantity;
+
+    public static BookVersion from(BookResponse book) {
+        return new BookVersion(book.getId(), book.getUpdatedAt(), book.getStockQuantity());
+    }
+}
@@ -0,0 +1,61 @@
+package com.dgsw.bookice.dto.response;
+
+import com.dgsw.bookice.catalog.CatalogImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogImportResponse {
+
+    private String jobId;
+    private String file;
+    private String format;
+    private String status;
+    private Long resumeAfterLine;
+    private Long readLines;
+    private Long importedBooks;
+    private Long duplicateLines;
+    private Long invalidLines;
+    private Long failedLines;
+    private Long committedLine;
+    private Long booksPerSecond;
+    private String failure;
+    private String errorReport;
+    private List<String> errors;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static CatalogImportResponse from(CatalogImportJob job) {
+        LocalDateTime until = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long elapsedMillis = Math.max(Duration.between(job.getStartedAt(), until).toMillis(), 1);
+
+        return CatalogImportResponse.builder()
+                .jobId(job.getId())
+                .file(job.getFile())
+                .format(job.getFormat().name())
+                .status(job.getStatus().name())
+                .resumeAfterLine(job.getResumeAfterLine())
+                .readLines(job.getReadLines())
+                .importedBooks(job.getImportedBooks())
+                .duplicateLines(job.getDuplicateLines())
+                .invalidLines(job.getInvalidLines())
+                .failedLines(job.getFailedLines())
+                .committedLine(job.getCommittedLine())
+                .booksPerSecond(job.getImportedBooks() * 1000 / elapsedMillis)
+                .failure(job.getFailure())
+                .errorReport(job.getErrorReport().getFileName().toString())
+                .errors(job.getErrors())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.dgsw.bookice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 요청에 그대로 넘길 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPageResponse<>(content, size, nextCursor != null, nextCursor);
+    }
+}
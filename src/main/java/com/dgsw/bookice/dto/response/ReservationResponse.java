@@ -0,0 +1,30 @@
+package com.dgsw.bookice.dto.response;
+
+import com.dgsw.bookice.reservation.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationResponse {
+
+    private String reservationId;
+    private Long bookId;
+    private Integer quantity;
+    private LocalDateTime expiresAt;
+
+    public static ReservationResponse from(Reservation reservation) {
+        return ReservationResponse.builder()
+                .reservationId(reservation.id())
+                .bookId(reservation.bookId())
+                .quantity(reservation.quantity())
+                .expiresAt(reservation.expiresAt())
+                .build();
+    }
+}
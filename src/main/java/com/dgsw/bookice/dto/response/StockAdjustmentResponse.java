@@ -0,0 +1,46 @@
+package com.dgsw.bookice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockAdjustmentResponse {
+
+    private Integer lines;
+    private Integer applied;
+    private Integer rejected;
+    private List<Chunk> chunks;
+
+    public static StockAdjustmentResponse of(List<Chunk> chunks) {
+        return StockAdjustmentResponse.builder()
+                .lines(chunks.stream().mapToInt(Chunk::getLines).sum())
+                .applied(chunks.stream().mapToInt(Chunk::getApplied).sum())
+                .rejected(chunks.stream().mapToInt(Chunk::getRejected).sum())
+                .chunks(chunks)
+                .build();
+    }
+
+    /**
+     * 한 트랜잭션으로 처리한 묶음의 결과 (errors 는 앞쪽 일부 줄만 담는다)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Chunk {
+
+        private Integer chunk;
+        private Integer firstLine;
+        private Integer lines;
+        private Integer applied;
+        private Integer rejected;
+        private List<String> errors;
+    }
+}
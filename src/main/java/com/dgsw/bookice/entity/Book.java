@@ -5,15 +5,32 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
+/**
+ * 2차 캐시는 l2cache 프로필에서만 활성화된다 (application-l2cache.yml)
+ * READ_WRITE 전략이므로 update 변경은 커밋 시 캐시 항목에 반영된다.
+ */
 @Entity
-@Table(name = "books")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Book.CACHE_REGION)
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_created_at_id", columnList = "created_at, book_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Book extends BaseTimeEntity {
 
+    public static final String CACHE_REGION = "book";
+
+    /**
+     * 시퀀스에서 ID 를 allocationSize 개씩 미리 받아 INSERT 를 JDBC 배치로 묶을 수 있게 한다 (IDENTITY 는 배치 불가)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     @Column(name = "book_id")
     private Long id;
 
@@ -35,12 +52,24 @@ public class Book extends BaseTimeEntity {
     @Column(name = "price", nullable = false)
     private Integer price;
 
-    @Column(name = "stock_quantity", nullable = false)
+    /**
+     * 재고는 조건부 UPDATE (StockDeltaWriter, 분할 전환/동기화는 BookRepository) 로만 바꾼다
+     * 도서 정보 수정의 UPDATE 에서 빠지므로, 수정 도중 커밋된 재고 변경을 읽어 둔 값으로 덮어쓰지 않는다.
+     */
+    @Column(name = "stock_quantity", nullable = false, updatable = false)
     private Integer stockQuantity;
 
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    /**
+     * 재고 샤드 수 (0 이면 stock_quantity 가 재고, 0 보다 크면 book_stock_shards 합계가 재고)
+     * 분할 상태에서 stock_quantity 는 재고 유무(0 / 0 초과)만 맞춰 두며, 전환은 BookRepository 의 UPDATE 로만 한다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "stock_shards", nullable = false, updatable = false)
+    private int stockShards;
+
     @Builder
     public Book(String title, String author, String category, String publisher,
                 String isbn, Integer price, Integer stockQuantity, String description) {
@@ -66,21 +95,4 @@ public class Book extends BaseTimeEntity {
         this.price = price;
         this.description = description;
     }
-
-    /**
-     * 재고 증가
-     */
-    public void increaseStock(int quantity) {
-        this.stockQuantity += quantity;
-    }
-
-    /**
-     * 재고 감소
-     */
-    public void decreaseStock(int quantity) {
-        if (this.stockQuantity < quantity) {
-            throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + this.stockQuantity);
-        }
-        this.stockQuantity -= quantity;
-    }
 }
@@ -0,0 +1,41 @@
+package com.dgsw.bookice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 재고 샤드 (인기 도서의 재고를 N 개 행으로 나눠 행 잠금 경합을 분산한다)
+ * 분할된 도서의 실제 재고는 샤드 수량의 합계이다.
+ */
+@Entity
+@Table(name = "book_stock_shards", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_book_stock_shards_book_shard", columnNames = {"book_id", "shard_no"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "shard_id")
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Builder
+    public BookStockShard(Long bookId, Integer shardNo, Integer quantity) {
+        this.bookId = bookId;
+        this.shardNo = shardNo;
+        this.quantity = quantity;
+    }
+}
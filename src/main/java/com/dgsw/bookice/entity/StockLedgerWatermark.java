@@ -0,0 +1,25 @@
+package com.dgsw.bookice.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 장부(ledger 방식)가 books 에 마지막으로 반영한 묶음 순번
+ * 변경량 반영과 순번 전진을 한 트랜잭션에서 하므로, 같은 묶음을 다시 반영해도 두 번 더해지지 않는다.
+ * 쓰기는 LedgerWatermark 의 JDBC 로만 한다.
+ */
+@Entity
+@Table(name = "stock_ledger_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockLedgerWatermark {
+
+    @Id
+    @Column(name = "ledger_id")
+    private Long id;
+
+    @Column(name = "flushed_seq", nullable = false)
+    private Long flushedSeq;
+}
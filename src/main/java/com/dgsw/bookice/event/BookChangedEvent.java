@@ -0,0 +1,47 @@
+package com.dgsw.bookice.event;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서 변경 이벤트
+ * 커밋 이후 인메모리 인덱스와 캐시를 갱신하는 데 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BookChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, STOCK_CHANGED
+    }
+
+    private final Type type;
+    private final BookResponse before;
+    private final BookResponse after;
+
+    public static BookChangedEvent created(BookResponse after) {
+        return new BookChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static BookChangedEvent updated(BookResponse before, BookResponse after) {
+        return new BookChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static BookChangedEvent deleted(BookResponse before) {
+        return new BookChangedEvent(Type.DELETED, before, null);
+    }
+
+    /**
+     * 재고 수량만 바뀐 경우 (제목/저자 등 검색 필드는 그대로)
+     * 재고는 조건부 UPDATE 로 바로 바꾸므로 변경 전 스냅샷은 없다.
+     */
+    public static BookChangedEvent stockChanged(BookResponse after) {
+        return new BookChangedEvent(Type.STOCK_CHANGED, null, after);
+    }
+
+    public Long getBookId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
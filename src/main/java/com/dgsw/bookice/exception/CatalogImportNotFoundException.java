@@ -0,0 +1,8 @@
+package com.dgsw.bookice.exception;
+
+public class CatalogImportNotFoundException extends RuntimeException {
+
+    public CatalogImportNotFoundException(String jobId) {
+        super("가져오기 작업을 찾을 수 없습니다. ID: " + jobId);
+    }
+}
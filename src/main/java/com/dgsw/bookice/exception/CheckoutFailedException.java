@@ -0,0 +1,22 @@
+package com.dgsw.bookice.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 일괄 주문 실패 (한 줄이라도 실패하면 아무 재고도 바뀌지 않는다)
+ */
+@Getter
+public class CheckoutFailedException extends RuntimeException {
+
+    /**
+     * 실패한 도서 ID → 실패 사유 (도서 ID 순)
+     */
+    private final Map<Long, String> errors;
+
+    public CheckoutFailedException(Map<Long, String> errors) {
+        super("주문을 처리할 수 없습니다. 실패한 도서: " + errors.size() + "건");
+        this.errors = errors;
+    }
+}
@@ -10,18 +10,60 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 404 로그 주기 (없는 ID 를 반복 조회해도 로그가 넘치지 않도록 주기마다 한 줄만 남긴다)
+     */
+    private static final long NOT_FOUND_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong notFoundLoggedAt = new AtomicLong(System.nanoTime() - NOT_FOUND_LOG_INTERVAL_NANOS);
+    private final AtomicLong suppressedNotFound = new AtomicLong();
+
     /**
      * 도서를 찾을 수 없을 때 예외 처리
      */
     @ExceptionHandler(BookNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleBookNotFoundException(BookNotFoundException e) {
-        log.error("BookNotFoundException: {}", e.getMessage());
+        logNotFound(e);
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * 예약을 찾을 수 없을 때 예외 처리 (이미 확정/취소/만료된 예약 포함)
+     */
+    @ExceptionHandler(ReservationNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleReservationNotFoundException(ReservationNotFoundException e) {
+        log.error("ReservationNotFoundException: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * 카탈로그 가져오기 작업을 찾을 수 없을 때 예외 처리
+     */
+    @ExceptionHandler(CatalogImportNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCatalogImportNotFoundException(CatalogImportNotFoundException e) {
+        log.error("CatalogImportNotFoundException: {}", e.getMessage());
 
         ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.NOT_FOUND.value(),
@@ -58,6 +100,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * 일괄 주문 실패 예외 처리 (실패한 도서별 사유를 fieldErrors 로 전달)
+     */
+    @ExceptionHandler(CheckoutFailedException.class)
+    public ResponseEntity<ErrorResponse> handleCheckoutFailedException(CheckoutFailedException e) {
+        log.error("CheckoutFailedException: {}", e.getMessage());
+
+        List<ErrorResponse.FieldError> fieldErrors = e.getErrors().entrySet()
+                .stream()
+                .map(error -> new ErrorResponse.FieldError(
+                        "bookId:" + error.getKey(),
+                        error.getValue()
+                ))
+                .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                e.getMessage(),
+                fieldErrors
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * IllegalStateException 예외 처리 (재고 부족 등)
      */
@@ -74,6 +141,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * IllegalArgumentException 예외 처리 (잘못된 커서 등)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.error("IllegalArgumentException: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * 기타 모든 예외 처리
      */
@@ -89,4 +172,14 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
+
+    private void logNotFound(BookNotFoundException e) {
+        long now = System.nanoTime();
+        long last = notFoundLoggedAt.get();
+        if (now - last < NOT_FOUND_LOG_INTERVAL_NANOS || !notFoundLoggedAt.compareAndSet(last, now)) {
+            suppressedNotFound.incrementAndGet();
+            return;
+        }
+        log.warn("BookNotFoundException: {} (직전 주기 생략 {}건)", e.getMessage(), suppressedNotFound.getAndSet(0));
+    }
 }
@@ -0,0 +1,8 @@
+package com.dgsw.bookice.exception;
+
+public class ReservationNotFoundException extends RuntimeException {
+
+    public ReservationNotFoundException(String reservationId) {
+        super("예약을 찾을 수 없습니다. ID: " + reservationId);
+    }
+}
@@ -0,0 +1,120 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 존재하는 도서 ID 비트맵 (없는 ID 조회를 DB 까지 보내지 않는다)
+ * 추가/삭제는 커밋 이후에 반영되므로, 방금 등록된 도서는 이벤트 반영 전까지 잠시 없다고 볼 수 있다.
+ * ID 가 int 범위를 넘으면 비활성화하고 항상 DB 로 확인한다.
+ */
+@Slf4j
+@Component
+public class BookIdIndex implements BookIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap ids = new RoaringBitmap();
+
+    private volatile boolean ready;
+    private volatile boolean disabled;
+
+    /**
+     * 비트맵 사용 가능 여부 (false 이면 mightExist 는 항상 true)
+     */
+    public boolean isReady() {
+        return ready && !disabled;
+    }
+
+    /**
+     * 존재할 수 있는지 (false 면 확실히 없다)
+     * 비트맵이 켜져 있다면 int 범위를 넘는 ID 의 도서는 없다.
+     */
+    public boolean mightExist(Long id) {
+        if (!isReady()) {
+            return true;
+        }
+        if (id == null || id < 1 || id > Integer.MAX_VALUE) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return ids.contains(id.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(BookResponse book) {
+        if (!indexable(book.getId())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            ids.add(book.getId().intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookResponse book) {
+        if (book.getId() == null || book.getId() > Integer.MAX_VALUE) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            ids.remove(book.getId().intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ID 는 바뀌지 않으므로 변경은 무시한다
+     */
+    @Override
+    public void replace(BookResponse before, BookResponse after) {
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            ids.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            ids.runOptimize();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("도서 ID 비트맵 준비 완료: {}건", ids.getCardinality());
+    }
+
+    private boolean indexable(Long id) {
+        if (id == null) {
+            return false;
+        }
+        if (id > Integer.MAX_VALUE) {
+            if (!disabled) {
+                log.warn("도서 ID 가 비트맵 범위를 벗어나 ID 비트맵을 비활성화합니다: ID={}", id);
+            }
+            disabled = true;
+            return false;
+        }
+        return true;
+    }
+}
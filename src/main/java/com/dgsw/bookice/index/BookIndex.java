@@ -0,0 +1,48 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * 도서 변경 이벤트로 유지되는 인메모리 인덱스
+ * 기동 시 {@link BookIndexMaintainer}가 전체 도서로 채운 뒤 markReady 를 호출한다.
+ * 커밋 이후 이벤트는 커밋 순서와 다르게 도착할 수 있으므로, 등록/수정은 리스너에서 다시 읽은 현재 값으로 반영한다.
+ */
+public interface BookIndex {
+
+    /**
+     * 도서 추가 (같은 도서를 다시 추가해도 결과가 같아야 하고, 값이 다르면 이전 값을 교체한다)
+     */
+    void add(BookResponse book);
+
+    /**
+     * 도서 제거
+     */
+    void remove(BookResponse book);
+
+    /**
+     * 도서 변경 (after 는 다시 읽은 현재 값이며, before 는 인덱스에 들어 있는 값과 다를 수 있다)
+     */
+    default void replace(BookResponse before, BookResponse after) {
+        remove(before);
+        add(after);
+    }
+
+    /**
+     * 재고 수량 변경 (재고와 무관한 인덱스는 무시한다)
+     * after 의 재고는 이후 커밋에 밀린 값일 수 있으므로, 인덱스를 바꿔야 할 때는 currentStock 으로 현재 재고를 다시 읽는다.
+     */
+    default void changeStock(BookResponse after, ToIntFunction<Long> currentStock) {
+    }
+
+    /**
+     * 인덱스 초기화 (재구축 전 호출)
+     */
+    void clear();
+
+    /**
+     * 초기 적재 완료 표시
+     */
+    void markReady();
+}
@@ -0,0 +1,112 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.repository.BookRepository;
+import com.dgsw.bookice.stock.StockStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인메모리 도서 인덱스 적재 및 갱신
+ * 기동 시 ID 순으로 끊어 읽어 모든 {@link BookIndex}를 채우고,
+ * 이후에는 커밋된 {@link BookChangedEvent}를 반영한다.
+ * 커밋 이후 리스너는 커밋 순서대로 실행된다는 보장이 없으므로, 등록/수정은 이벤트 값 대신 현재 값을 다시 읽어 반영하고
+ * 재고 변경은 인덱스를 바꿔야 할 때만 현재 재고를 다시 읽는다. 같은 도서의 반영은 도서별 잠금으로 한 번에 하나씩 하므로
+ * 마지막으로 다시 읽은 값이 마지막 커밋 이후의 값이 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookIndexMaintainer {
+
+    private static final int WARM_UP_CHUNK_SIZE = 1000;
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * 도서별 반영 잠금 (도서 ID 로 나눠 쓴다, 잠근 채로 DB 를 읽으므로 synchronized 대신 ReentrantLock)
+     */
+    private final ReentrantLock[] locks = newLocks();
+
+    private final BookRepository bookRepository;
+    private final StockStore stockStore;
+    private final List<BookIndex> indexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        indexes.forEach(BookIndex::clear);
+
+        long lastId = 0L;
+        int total = 0;
+        List<BookResponse> chunk;
+        do {
+            chunk = bookRepository.findIndexRowsAfter(lastId, PageRequest.of(0, WARM_UP_CHUNK_SIZE));
+            for (BookResponse row : chunk) {
+                indexes.forEach(index -> index.add(row));
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            total += chunk.size();
+        } while (chunk.size() == WARM_UP_CHUNK_SIZE);
+
+        indexes.forEach(BookIndex::markReady);
+        log.info("도서 인덱스 적재 완료: {}건, {}ms", total, System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        ReentrantLock lock = locks[Math.floorMod(event.getBookId().hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            switch (event.getType()) {
+                // 그 사이 삭제됐다면 삭제 이벤트가 인덱스에서 뺀다
+                case CREATED -> reload(event.getBookId())
+                        .ifPresent(current -> indexes.forEach(index -> index.add(current)));
+                case UPDATED -> reload(event.getBookId())
+                        .ifPresent(current -> indexes.forEach(index -> index.replace(event.getBefore(), current)));
+                case DELETED -> indexes.forEach(index -> index.remove(event.getBefore()));
+                case STOCK_CHANGED -> indexes.forEach(index -> index.changeStock(event.getAfter(), this::currentStock));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 현재 값 (재고는 재고 처리 방식이 기준으로 삼는 값)
+     */
+    private Optional<BookResponse> reload(Long id) {
+        return bookRepository.findResponseById(id).map(stockStore::overlay);
+    }
+
+    /**
+     * 현재 재고 (삭제된 도서는 0, 삭제 이벤트가 인덱스에서 뺀다)
+     */
+    private int currentStock(Long id) {
+        try {
+            return stockStore.currentStock(id);
+        } catch (BookNotFoundException e) {
+            return 0;
+        }
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
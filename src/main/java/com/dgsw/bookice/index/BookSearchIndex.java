@@ -0,0 +1,127 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 제목/저자 부분 검색용 n-gram 인덱스
+ * LIKE '%keyword%' 전체 스캔 대신 후보 도서 ID 를 메모리에서 계산한다.
+ */
+@Slf4j
+@Component
+public class BookSearchIndex implements BookIndex {
+
+    private final NgramIndex titleIndex = new NgramIndex();
+    private final NgramIndex authorIndex = new NgramIndex();
+
+    private volatile boolean ready;
+    private volatile boolean disabled;
+
+    /**
+     * 인덱스 사용 가능 여부 (false 이면 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready && !disabled;
+    }
+
+    @Override
+    public void add(BookResponse book) {
+        if (!indexable(book.getId())) {
+            return;
+        }
+        int id = book.getId().intValue();
+        titleIndex.put(id, book.getTitle());
+        authorIndex.put(id, book.getAuthor());
+    }
+
+    @Override
+    public void remove(BookResponse book) {
+        if (!indexable(book.getId())) {
+            return;
+        }
+        int id = book.getId().intValue();
+        titleIndex.remove(id);
+        authorIndex.remove(id);
+    }
+
+    @Override
+    public void clear() {
+        ready = false;
+        titleIndex.clear();
+        authorIndex.clear();
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("검색 인덱스 준비 완료: {}건", titleIndex.size());
+    }
+
+    /**
+     * 인덱스와 같은 방식으로 검색어 정규화 (NFC, 소문자), DB 검색으로 대체할 때도 같은 값을 넘긴다
+     */
+    public static String normalize(String query) {
+        return NgramIndex.normalize(query);
+    }
+
+    /**
+     * 제목 부분 일치 도서 ID (오름차순)
+     */
+    public List<Long> findByTitle(String title) {
+        return toIds(titleIndex.search(title));
+    }
+
+    /**
+     * 저자 부분 일치 도서 ID (오름차순)
+     */
+    public List<Long> findByAuthor(String author) {
+        return toIds(authorIndex.search(author));
+    }
+
+    /**
+     * 제목 또는 저자 부분 일치 도서 ID (오름차순)
+     */
+    public List<Long> findByKeyword(String keyword) {
+        return toIds(RoaringBitmap.or(titleIndex.search(keyword), authorIndex.search(keyword)));
+    }
+
+    /**
+     * 제목과 저자 조건을 모두 만족하는 도서 ID (비어 있는 조건은 무시)
+     */
+    public List<Long> findByTitleAndAuthor(String title, String author) {
+        if (!StringUtils.hasText(title)) {
+            return findByAuthor(author);
+        }
+        if (!StringUtils.hasText(author)) {
+            return findByTitle(title);
+        }
+        return toIds(RoaringBitmap.and(titleIndex.search(title), authorIndex.search(author)));
+    }
+
+    private boolean indexable(Long id) {
+        if (id == null) {
+            return false;
+        }
+        if (id > Integer.MAX_VALUE) {
+            // 비트맵은 int 범위만 다루므로 이후로는 DB 검색을 사용한다
+            if (!disabled) {
+                log.warn("도서 ID 가 인덱스 범위를 벗어나 검색 인덱스를 비활성화합니다: ID={}", id);
+            }
+            disabled = true;
+            return false;
+        }
+        return true;
+    }
+
+    private static List<Long> toIds(RoaringBitmap bitmap) {
+        List<Long> ids = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int id) -> ids.add((long) id));
+        return ids;
+    }
+}
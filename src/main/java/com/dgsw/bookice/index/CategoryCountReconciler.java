@@ -0,0 +1,40 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카테고리 집계 주기적 대조 (실제 GROUP BY 결과와 비교)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCountReconciler {
+
+    private final BookRepository bookRepository;
+    private final CategoryCounter categoryCounter;
+
+    @Scheduled(initialDelayString = "${bookice.category-count.reconcile-interval:5m}",
+            fixedDelayString = "${bookice.category-count.reconcile-interval:5m}")
+    public void reconcile() {
+        if (!categoryCounter.isReady()) {
+            return;
+        }
+
+        long version = categoryCounter.version();
+        Map<String, Long> actual = new HashMap<>();
+        for (Object[] row : bookRepository.countBooksByCategory()) {
+            actual.put((String) row[0], (Long) row[1]);
+        }
+
+        if (!categoryCounter.reconcile(actual, version)) {
+            log.debug("카테고리 집계 대조 건너뜀 - 조회 중 변경 발생");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 카테고리별 도서 수 (GROUP BY 대신 변경 이벤트로 유지)
+ * 카테고리마다 속한 도서 ID 비트맵을 두고 그 크기를 도서 수로 쓰므로, 같은 도서를 다시 추가해도 두 번 세지 않는다.
+ * 조회는 카테고리 수에 비례하며, {@link CategoryCountReconciler}가 주기적으로 DB 와 대조한다.
+ */
+@Slf4j
+@Component
+public class CategoryCounter implements BookIndex {
+
+    private final Map<String, RoaringBitmap> members = new HashMap<>();
+
+    /**
+     * DB 대조로 생긴 보정값 (비트맵 크기 + 보정값 = 도서 수, 놓친 이벤트가 없으면 비어 있다)
+     */
+    private final Map<String, Long> corrections = new HashMap<>();
+
+    /**
+     * 반영된 변경 횟수 (대조 도중 변경이 있었는지 판단)
+     */
+    private long version;
+
+    private volatile boolean ready;
+    private volatile boolean disabled;
+
+    /**
+     * 집계 사용 가능 여부 (false 이면 GROUP BY 로 대체)
+     */
+    public boolean isReady() {
+        return ready && !disabled;
+    }
+
+    /**
+     * 다른 카테고리에 들어 있던 도서면 그 카테고리에서 옮긴다 (카테고리 수만큼만 확인한다)
+     */
+    @Override
+    public synchronized void add(BookResponse book) {
+        if (!indexable(book.getId())) {
+            return;
+        }
+        int id = book.getId().intValue();
+        RoaringBitmap target = members.computeIfAbsent(book.getCategory(), category -> new RoaringBitmap());
+        if (target.contains(id)) {
+            return;
+        }
+        members.values().forEach(bitmap -> bitmap.remove(id));
+        target.add(id);
+        version++;
+    }
+
+    @Override
+    public synchronized void remove(BookResponse book) {
+        if (!indexable(book.getId())) {
+            return;
+        }
+        int id = book.getId().intValue();
+        boolean removed = false;
+        for (RoaringBitmap bitmap : members.values()) {
+            removed |= bitmap.checkedRemove(id);
+        }
+        if (removed) {
+            version++;
+        }
+    }
+
+    /**
+     * add 가 이전 카테고리에서 옮겨 주므로 변경 후 값만 반영한다
+     */
+    @Override
+    public synchronized void replace(BookResponse before, BookResponse after) {
+        add(after);
+    }
+
+    @Override
+    public synchronized void clear() {
+        ready = false;
+        members.clear();
+        corrections.clear();
+        version++;
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("카테고리 집계 준비 완료: {}개 카테고리", members.size());
+    }
+
+    /**
+     * 카테고리별 도서 수 (카테고리 이름순)
+     */
+    public synchronized Map<String, Long> snapshot() {
+        Map<String, Long> counts = new TreeMap<>();
+        Set<String> categories = new HashSet<>(members.keySet());
+        categories.addAll(corrections.keySet());
+        for (String category : categories) {
+            long count = cardinality(category) + corrections.getOrDefault(category, 0L);
+            if (count > 0) {
+                counts.put(category, count);
+            }
+        }
+        return counts;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * DB 집계와 대조해 다르면 DB 값에 맞도록 보정값을 바꾼다
+     *
+     * @param actual          DB GROUP BY 결과
+     * @param expectedVersion DB 조회 직전의 version (그 사이 변경이 반영됐다면 이번 대조는 건너뛴다)
+     * @return 대조를 수행했으면 true
+     */
+    public synchronized boolean reconcile(Map<String, Long> actual, long expectedVersion) {
+        if (!isReady() || version != expectedVersion) {
+            return false;
+        }
+
+        Map<String, Long> current = snapshot();
+        if (!current.equals(actual)) {
+            log.warn("카테고리 집계 불일치 - 보정합니다: 집계={}, DB={}", current, new TreeMap<>(actual));
+            corrections.clear();
+            Set<String> categories = new HashSet<>(members.keySet());
+            categories.addAll(actual.keySet());
+            for (String category : categories) {
+                long correction = actual.getOrDefault(category, 0L) - cardinality(category);
+                if (correction != 0) {
+                    corrections.put(category, correction);
+                }
+            }
+            version++;
+        }
+        return true;
+    }
+
+    private long cardinality(String category) {
+        RoaringBitmap bitmap = members.get(category);
+        return bitmap != null ? bitmap.getLongCardinality() : 0L;
+    }
+
+    private boolean indexable(Long id) {
+        if (id == null) {
+            return false;
+        }
+        if (id > Integer.MAX_VALUE) {
+            // 비트맵은 int 범위만 다루므로 이후로는 GROUP BY 를 사용한다
+            if (!disabled) {
+                log.warn("도서 ID 가 인덱스 범위를 벗어나 카테고리 집계를 비활성화합니다: ID={}", id);
+            }
+            disabled = true;
+            return false;
+        }
+        return true;
+    }
+}
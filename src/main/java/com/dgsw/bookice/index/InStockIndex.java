@@ -0,0 +1,207 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * 재고 보유 도서 비트맵 (stockQuantity > 0 인 도서 ID)
+ * 재고 변경은 0 을 넘나들 때만 비트를 바꾸므로 대부분 읽기 잠금만 잡는다.
+ * 비트가 바뀔 때마다 버전을 올리므로, 재고 조건 검색 결과는 이 버전을 키에 넣어 캐시할 수 있다.
+ * 재고 변경 이벤트는 순서가 뒤바뀔 수 있어, 비트를 바꿔야 하는 이벤트는 현재 재고를 다시 읽어 확인한 뒤 바꾼다
+ * (뒤늦게 도착한 "0 으로 차감" 이벤트가 이후의 입고를 지우지 않는다).
+ */
+@Slf4j
+@Component
+public class InStockIndex implements BookIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap inStock = new RoaringBitmap();
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean ready;
+    private volatile boolean disabled;
+
+    /**
+     * 인덱스 사용 가능 여부 (false 이면 stockQuantity > 0 조건으로 대체)
+     */
+    public boolean isReady() {
+        return ready && !disabled;
+    }
+
+    @Override
+    public void add(BookResponse book) {
+        apply(book);
+    }
+
+    @Override
+    public void remove(BookResponse book) {
+        if (!indexable(book.getId())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (inStock.checkedRemove(book.getId().intValue())) {
+                version.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void replace(BookResponse before, BookResponse after) {
+        apply(after);
+    }
+
+    /**
+     * 이벤트의 재고가 비트와 같으면 그대로 두고, 다르면 현재 재고로 비트를 맞춘다
+     * 같은 도서의 이벤트는 호출자가 한 번에 하나씩 넘긴다 (BookIndexMaintainer 의 도서별 잠금).
+     */
+    @Override
+    public void changeStock(BookResponse after, ToIntFunction<Long> currentStock) {
+        if (!indexable(after.getId()) || after.getStockQuantity() == null) {
+            return;
+        }
+        if (contains(after.getId()) == after.getStockQuantity() > 0) {
+            return;
+        }
+        apply(after.toBuilder().stockQuantity(currentStock.applyAsInt(after.getId())).build());
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            inStock.clear();
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            inStock.runOptimize();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("재고 비트맵 준비 완료: {}건", cardinality());
+    }
+
+    public boolean contains(Long id) {
+        if (id == null || id > Integer.MAX_VALUE) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return inStock.contains(id.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재고 보유 도서 구성이 바뀔 때마다 올라가는 버전
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public int cardinality() {
+        lock.readLock().lock();
+        try {
+            return inStock.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재고 보유 도서 ID (오름차순)
+     */
+    public List<Long> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(inStock.getCardinality());
+            inStock.forEach((int id) -> ids.add((long) id));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 후보 ID 중 재고 보유 도서만 남긴다 (순서 유지)
+     */
+    public List<Long> filter(List<Long> ids) {
+        lock.readLock().lock();
+        try {
+            List<Long> filtered = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                if (id <= Integer.MAX_VALUE && inStock.contains(id.intValue())) {
+                    filtered.add(id);
+                }
+            }
+            return filtered;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 후 재고 수량으로 비트를 맞춘다 (이미 같으면 쓰기 잠금 없이 반환)
+     */
+    private void apply(BookResponse book) {
+        if (!indexable(book.getId()) || book.getStockQuantity() == null) {
+            return;
+        }
+        int id = book.getId().intValue();
+        boolean available = book.getStockQuantity() > 0;
+
+        lock.readLock().lock();
+        try {
+            if (inStock.contains(id) == available) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            boolean changed = available ? inStock.checkedAdd(id) : inStock.checkedRemove(id);
+            if (changed) {
+                version.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean indexable(Long id) {
+        if (id == null) {
+            return false;
+        }
+        if (id > Integer.MAX_VALUE) {
+            // 비트맵은 int 범위만 다루므로 이후로는 DB 조건을 사용한다
+            if (!disabled) {
+                log.warn("도서 ID 가 비트맵 범위를 벗어나 재고 비트맵을 비활성화합니다: ID={}", id);
+            }
+            disabled = true;
+            return false;
+        }
+        return true;
+    }
+}
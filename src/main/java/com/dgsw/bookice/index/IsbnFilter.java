@@ -0,0 +1,176 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 등록된 ISBN 의 카운팅 블룸 필터 (도서 등록 시 ISBN 중복 조회를 줄인다)
+ * 없다고 답하면 확실히 없고, 있다고 답하면 DB 로 확인해야 한다. 삭제를 반영하려고 비트 대신 1바이트 카운터를 쓴다.
+ * 카운터가 255 에 닿으면 더 이상 줄이지 않으므로(오탐만 늘어난다) 거짓 음성은 생기지 않는다.
+ * 커밋 이후에 추가되므로 같은 ISBN 을 동시에 등록하면 둘 다 통과할 수 있으며, 이 경우는 DB 유니크 제약이 막는다.
+ */
+@Slf4j
+@Component
+public class IsbnFilter implements BookIndex {
+
+    private static final int MAX_COUNT = 0xFF;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final byte[] counters;
+    private final int hashCount;
+
+    private int size;
+    private volatile boolean ready;
+
+    /**
+     * @param expectedInsertions 예상 ISBN 수 (넘으면 오탐률이 올라간다)
+     * @param falsePositiveRate  목표 오탐률
+     */
+    public IsbnFilter(@Value("${bookice.isbn-filter.expected-insertions:1000000}") int expectedInsertions,
+                      @Value("${bookice.isbn-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("bookice.isbn-filter 설정이 올바르지 않습니다.");
+        }
+        double ln2 = Math.log(2);
+        long counterCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.counters = new byte[(int) Math.min(Math.max(counterCount, 64), Integer.MAX_VALUE - 8)];
+        this.hashCount = Math.max(1, (int) Math.round((double) counters.length / expectedInsertions * ln2));
+    }
+
+    /**
+     * 필터 사용 가능 여부 (false 이면 mightContain 은 항상 true)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 등록되어 있을 수 있는지 (false 면 확실히 없다)
+     */
+    public boolean mightContain(String isbn) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(isbn);
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < hashCount; i++) {
+                if (counters[slot(hash, i)] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 같은 도서를 두 번 추가하면 카운터가 한 번 더 오를 뿐이다 (오탐만 늘어난다)
+     */
+    @Override
+    public void add(BookResponse book) {
+        if (book.getIsbn() == null) {
+            return;
+        }
+        long hash = hash(book.getIsbn());
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < hashCount; i++) {
+                int slot = slot(hash, i);
+                int count = counters[slot] & MAX_COUNT;
+                if (count < MAX_COUNT) {
+                    counters[slot] = (byte) (count + 1);
+                }
+            }
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 중에는 아직 추가되지 않았을 수 있으므로 제거하지 않는다 (오탐만 남는다)
+     */
+    @Override
+    public void remove(BookResponse book) {
+        if (book.getIsbn() == null || !ready) {
+            return;
+        }
+        long hash = hash(book.getIsbn());
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < hashCount; i++) {
+                if (counters[slot(hash, i)] == 0) {
+                    return;
+                }
+            }
+            for (int i = 0; i < hashCount; i++) {
+                int slot = slot(hash, i);
+                int count = counters[slot] & MAX_COUNT;
+                if (count < MAX_COUNT) {
+                    counters[slot] = (byte) (count - 1);
+                }
+            }
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ISBN 은 수정할 수 없으므로 변경은 무시한다
+     */
+    @Override
+    public void replace(BookResponse before, BookResponse after) {
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            Arrays.fill(counters, (byte) 0);
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+        log.info("ISBN 필터 준비 완료: {}건, 카운터 {}개, 해시 {}개", size, counters.length, hashCount);
+    }
+
+    /**
+     * 이중 해싱으로 i 번째 위치 계산 (h1 + i * h2)
+     */
+    private int slot(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return Math.floorMod(h1 + i * h2, counters.length);
+    }
+
+    /**
+     * FNV-1a 후 MurmurHash3 fmix64 로 비트를 섞는다
+     */
+    private static long hash(String isbn) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < isbn.length(); i++) {
+            hash ^= isbn.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,172 @@
+package com.dgsw.bookice.index;
+
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자열 필드용 n-gram 역색인 (유니그램 + 바이그램)
+ * 한글은 음절 단위로 n-gram 을 만들며, 자모로 분해된(NFD) 입력도 NFC 로 정규화해 같은 음절로 취급한다.
+ * 대소문자는 구분하지 않는다. 세 글자 이상 검색어는 후보를 원문과 대조해 거짓 양성을 제거한다.
+ */
+public class NgramIndex {
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, String> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 등록 (이미 있으면 교체)
+     */
+    public void put(int id, String text) {
+        String normalized = normalize(text);
+
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+            if (normalized == null || normalized.isEmpty()) {
+                return;
+            }
+            documents.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     */
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 부분 문자열 검색
+     * 반환되는 비트맵은 호출자가 자유롭게 수정해도 되는 사본이다.
+     */
+    public RoaringBitmap search(String query) {
+        String normalized = normalize(query);
+        if (normalized == null || normalized.isEmpty()) {
+            return new RoaringBitmap();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> lists = new ArrayList<>();
+            for (String gram : queryGrams(normalized)) {
+                RoaringBitmap posting = postings.get(gram);
+                if (posting == null) {
+                    return new RoaringBitmap();
+                }
+                lists.add(posting);
+            }
+
+            // 가장 짧은 posting 부터 교집합을 구한다
+            lists.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            RoaringBitmap candidates = lists.get(0).clone();
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.and(lists.get(i));
+            }
+
+            // 한두 글자 검색어는 gram 하나와 정확히 일치하므로 검증이 필요 없다
+            if (normalized.length() <= 2) {
+                return candidates;
+            }
+
+            RoaringBitmap verified = new RoaringBitmap();
+            PeekableIntIterator iterator = candidates.getIntIterator();
+            while (iterator.hasNext()) {
+                int id = iterator.next();
+                String document = documents.get(id);
+                if (document != null && document.contains(normalized)) {
+                    verified.add(id);
+                }
+            }
+            return verified;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private void unindex(int id) {
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            RoaringBitmap posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,288 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가격 범위 검색용 정렬 인덱스
+ * (가격, ID) 순으로 정렬된 int[]/long[] 병렬 배열이며, 범위는 이진 탐색으로 찾는다.
+ * 초기 적재 중에는 뒤에 붙이기만 하고 markReady 에서 한 번에 정렬한다.
+ * 도서별 현재 가격을 따로 들고 있어, 이벤트에 실린 이전 가격과 무관하게 ID 로 교체/제거한다.
+ */
+@Slf4j
+@Component
+public class PriceIndex implements BookIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+    /**
+     * 도서 ID → 인덱스에 들어 있는 가격
+     */
+    private final Map<Long, Integer> priceById = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void add(BookResponse book) {
+        if (book.getId() == null || book.getPrice() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = priceById.put(book.getId(), book.getPrice());
+            if (previous != null) {
+                if (previous.equals(book.getPrice())) {
+                    return;
+                }
+                removeEntry(previous, book.getId());
+            }
+            if (!ready) {
+                append(book.getPrice(), book.getId());
+                return;
+            }
+            insertAt(-indexOf(book.getPrice(), book.getId()) - 1, book.getPrice(), book.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(BookResponse book) {
+        if (book.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = priceById.remove(book.getId());
+            if (previous != null) {
+                removeEntry(previous, book.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * add 가 같은 도서의 이전 가격을 지워 주므로 변경 후 값만 반영한다
+     */
+    @Override
+    public void replace(BookResponse before, BookResponse after) {
+        add(after);
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            prices = new int[INITIAL_CAPACITY];
+            ids = new long[INITIAL_CAPACITY];
+            size = 0;
+            priceById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            sortAndDeduplicate();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("가격 인덱스 준비 완료: {}건", size);
+    }
+
+    /**
+     * 가격 범위 조회 (가격 오름차순, 같은 가격은 ID 오름차순)
+     *
+     * @param offset 건너뛸 건수
+     * @param limit  최대 반환 건수
+     */
+    public Result find(int minPrice, int maxPrice, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (minPrice > maxPrice) {
+                return new Result(List.of(), 0);
+            }
+            int from = lowerBound(minPrice);
+            int to = upperBound(maxPrice);
+            int total = to - from;
+
+            long start = Math.min(from + offset, to);
+            int end = (int) Math.min(start + limit, to);
+            List<Long> page = new ArrayList<>(end - (int) start);
+            for (int i = (int) start; i < end; i++) {
+                page.add(ids[i]);
+            }
+            return new Result(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * (가격, ID) 위치 이진 탐색 (없으면 -(삽입 위치) - 1)
+     */
+    private int indexOf(int price, long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compare = compare(prices[mid], ids[mid], price, id);
+            if (compare < 0) {
+                low = mid + 1;
+            } else if (compare > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void removeEntry(int price, long id) {
+        int position = ready ? indexOf(price, id) : linearIndexOf(price, id);
+        if (position >= 0) {
+            removeAt(position);
+        }
+    }
+
+    private int linearIndexOf(int price, long id) {
+        for (int i = 0; i < size; i++) {
+            if (prices[i] == price && ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * price 이상인 첫 위치
+     */
+    private int lowerBound(int price) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * price 초과인 첫 위치
+     */
+    private int upperBound(int price) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] <= price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void append(int price, long id) {
+        ensureCapacity(size + 1);
+        prices[size] = price;
+        ids[size] = id;
+        size++;
+    }
+
+    private void insertAt(int position, int price, long id) {
+        ensureCapacity(size + 1);
+        System.arraycopy(prices, position, prices, position + 1, size - position);
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        prices[position] = price;
+        ids[position] = id;
+        size++;
+    }
+
+    private void removeAt(int position) {
+        System.arraycopy(prices, position + 1, prices, position, size - position - 1);
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > prices.length) {
+            int newCapacity = Math.max(capacity, prices.length + (prices.length >> 1));
+            prices = Arrays.copyOf(prices, newCapacity);
+            ids = Arrays.copyOf(ids, newCapacity);
+        }
+    }
+
+    private void sortAndDeduplicate() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> prices[i]).thenComparingLong(i -> ids[i]));
+
+        int[] sortedPrices = new int[Math.max(size, INITIAL_CAPACITY)];
+        long[] sortedIds = new long[sortedPrices.length];
+        int count = 0;
+        for (Integer i : order) {
+            if (count > 0 && sortedPrices[count - 1] == prices[i] && sortedIds[count - 1] == ids[i]) {
+                continue;
+            }
+            sortedPrices[count] = prices[i];
+            sortedIds[count] = ids[i];
+            count++;
+        }
+
+        prices = sortedPrices;
+        ids = sortedIds;
+        size = count;
+    }
+
+    private static int compare(int price, long id, int otherPrice, long otherId) {
+        int compare = Integer.compare(price, otherPrice);
+        return compare != 0 ? compare : Long.compare(id, otherId);
+    }
+
+    /**
+     * 범위 조회 결과 (요청한 구간의 ID 와 범위 전체 건수)
+     */
+    public record Result(List<Long> ids, int total) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.dgsw.bookice.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (createdAt DESC, id DESC 정렬의 마지막 위치)
+ * 클라이언트에는 Base64URL 로 인코딩한 불투명 문자열로만 노출한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new BookCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 도 IllegalArgumentException 이다
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -1,16 +1,54 @@
 package com.dgsw.bookice.repository;
 
+import com.dgsw.bookice.dto.response.BookResponse;
 import com.dgsw.bookice.entity.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
 
+    /**
+     * 응답의 재고 (분할된 도서는 샤드 합계, 분할되지 않은 도서는 샤드를 조회하지 않는다)
+     * 분할 상태의 stock_quantity 는 재고 유무만 맞춰 두므로 목록/검색 응답도 같은 쿼리에서 합계로 바꾼다.
+     */
+    String STOCK_QUANTITY_SELECT = "CAST(CASE WHEN b.stockShards > 0 THEN " +
+            "(SELECT COALESCE(SUM(s.quantity), 0) FROM BookStockShard s WHERE s.bookId = b.id) " +
+            "ELSE b.stockQuantity END AS Integer)";
+
+    /**
+     * 조회 전용 DTO 로 바로 읽는 SELECT 절 (엔티티 생성/스냅샷 없음)
+     */
+    String RESPONSE_SELECT = "SELECT new com.dgsw.bookice.dto.response.BookResponse(" +
+            "b.id, b.title, b.author, b.category, b.publisher, b.isbn, b.price, " + STOCK_QUANTITY_SELECT + ", " +
+            "b.description, b.createdAt, b.updatedAt) FROM Book b ";
+
+    /**
+     * 조회 결과 캐시 영역 (l2cache 프로필에서만 사용, books 테이블 변경 시 자동 무효화)
+     */
+    String QUERY_CACHE_REGION = "book-queries";
+
+    /**
+     * 제목 또는 저자 부분 일치 (n-gram 인덱스와 같은 결과가 나오도록 대소문자를 구분하지 않는다)
+     * 검색어는 호출하는 쪽에서 BookSearchIndex.normalize 로 NFC 정규화해 넘긴다.
+     */
+    String KEYWORD_CONDITION = "(:keyword IS NULL " +
+            "OR LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')))";
+
     /**
      * Query Method: 제목으로 검색 (부분 일치)
      */
@@ -24,6 +62,10 @@ public interface BookRepository extends JpaRepository<Book, Long>, BookRepositor
     /**
      * Query Method: 카테고리로 검색 (정확히 일치)
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<Book> findByCategory(String category);
 
     /**
@@ -41,19 +83,221 @@ public interface BookRepository extends JpaRepository<Book, Long>, BookRepositor
     /**
      * JPQL: 재고가 있는 도서만 조회
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     @Query("SELECT b FROM Book b WHERE b.stockQuantity > 0")
     List<Book> findBooksInStock();
 
     /**
      * JPQL: 제목 또는 저자로 검색 (페이징)
      */
-    @Query("SELECT b FROM Book b WHERE " +
-            "(:keyword IS NULL OR b.title LIKE %:keyword% OR b.author LIKE %:keyword%)")
+    @Query("SELECT b FROM Book b WHERE " + KEYWORD_CONDITION)
     Page<Book> searchBooks(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * JPQL: 제목 또는 저자로 검색 - 전체 개수
+     */
+    @Query("SELECT COUNT(b) FROM Book b WHERE " + KEYWORD_CONDITION)
+    long countSearchBooks(@Param("keyword") String keyword);
+
     /**
      * JPQL: 카테고리별 도서 수 조회
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     @Query("SELECT b.category, COUNT(b) FROM Book b GROUP BY b.category")
     List<Object[]> countBooksByCategory();
+
+    /**
+     * JPQL: 현재 재고 수량 조회
+     */
+    @Query("SELECT b.stockQuantity FROM Book b WHERE b.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") Long id);
+
+    /**
+     * JPQL: ISBN 목록 중 이미 등록된 ISBN 조회
+     */
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findIsbnsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * JPQL: ISBN 목록으로 도서 ID 조회 ([도서 ID, ISBN])
+     */
+    @Query("SELECT b.id, b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<Object[]> findIdsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * JPQL: 단건 조건부 요청용 버전 조회 ([수정 시각, 재고], 도서 전체를 읽지 않는다)
+     */
+    @Query("SELECT b.updatedAt, b.stockQuantity FROM Book b WHERE b.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    /**
+     * JPQL: 응답 재고 조회 ([도서 ID, 재고], 분할된 도서는 샤드 합계)
+     */
+    @Query("SELECT b.id, " + STOCK_QUANTITY_SELECT + " FROM Book b WHERE b.id IN :ids")
+    List<Object[]> findStockQuantitiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * JPQL: 재고 상태 조회 ([도서 ID, 재고, 재고 샤드 수])
+     */
+    @Query("SELECT b.id, b.stockQuantity, b.stockShards FROM Book b WHERE b.id IN :ids")
+    List<Object[]> findStockStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * JPQL: 재고 샤드 수 조회 (0 이면 분할되지 않은 도서)
+     */
+    @Query("SELECT b.stockShards FROM Book b WHERE b.id = :id")
+    Optional<Integer> findStockShardsById(@Param("id") Long id);
+
+    /**
+     * JPQL: 재고 분할 시작 (분할되지 않은 도서만, 행 잠금은 커밋까지 유지된다)
+     *
+     * @return 변경된 행 수 (0 이면 도서가 없거나 이미 분할된 도서)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET b.stockShards = :shards, b.updatedAt = :now " +
+            "WHERE b.id = :id AND b.stockShards = 0")
+    int startStockSharding(@Param("id") Long id, @Param("shards") int shards, @Param("now") LocalDateTime now);
+
+    /**
+     * JPQL: 재고 분할 해제 (샤드 합계를 stock_quantity 로 되돌린다)
+     *
+     * @return 변경된 행 수 (0 이면 도서가 없거나 분할되지 않은 도서)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET b.stockShards = 0, b.stockQuantity = :stockQuantity, b.updatedAt = :now " +
+            "WHERE b.id = :id AND b.stockShards > 0")
+    int finishStockSharding(@Param("id") Long id, @Param("stockQuantity") int stockQuantity,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 분할된 도서의 books 행을 잠근다 (샤드가 0 을 넘나든 트랜잭션끼리 합계 확인을 직렬화, 트랜잭션이 끝날 때까지 유지)
+     * 잠금을 기다린 뒤 실행하는 다음 문장은 먼저 잠갔던 트랜잭션이 커밋한 샤드 값을 본다.
+     *
+     * @return 잠근 도서 ID (비어 있으면 도서가 없거나 분할되지 않은 도서)
+     */
+    @Query(value = "SELECT book_id FROM books WHERE book_id = :id AND stock_shards > 0 FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockShardedBook(@Param("id") Long id);
+
+    /**
+     * JPQL: 분할된 도서의 stock_quantity 를 샤드 합계로 맞춘다 (lockShardedBook 으로 잠근 뒤 호출)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Book b SET b.stockQuantity = " +
+            "(SELECT COALESCE(SUM(s.quantity), 0) FROM BookStockShard s WHERE s.bookId = b.id), " +
+            "b.updatedAt = :now WHERE b.id = :id AND b.stockShards > 0")
+    int syncShardedStock(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * JPQL: 전체 도서 스트리밍 조회 (순방향 커서, 읽기 전용)
+     * 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b ORDER BY b.id")
+    Stream<Book> streamAllBy();
+
+    /**
+     * JPQL: 인메모리 인덱스 적재용 조회 (ID 순 키셋)
+     */
+    @Query(RESPONSE_SELECT + "WHERE b.id > :lastId ORDER BY b.id")
+    List<BookResponse> findIndexRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Projection: ID 로 조회
+     */
+    @Query(RESPONSE_SELECT + "WHERE b.id = :id")
+    Optional<BookResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Projection: 전체 도서 조회
+     */
+    @Query(RESPONSE_SELECT)
+    List<BookResponse> findAllResponses();
+
+    /**
+     * Projection: ID 목록으로 조회
+     */
+    @Query(RESPONSE_SELECT + "WHERE b.id IN :ids")
+    List<BookResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection: ID 목록 중 재고가 있는 도서만 조회 (재고 비트맵 후보를 DB 재고로 다시 확인한다)
+     */
+    @Query(RESPONSE_SELECT + "WHERE b.id IN :ids AND b.stockQuantity > 0")
+    List<BookResponse> findResponsesInStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection: 후보 ID 목록 중 페이지 조회 (count 쿼리 없음)
+     */
+    @Query(RESPONSE_SELECT + "WHERE b.id IN :ids")
+    List<BookResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    /**
+     * Projection: 제목으로 검색 (부분 일치, 대소문자 무시)
+     */
+    @Query(RESPONSE_SELECT + "WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    List<BookResponse> findResponsesByTitleContaining(@Param("title") String title);
+
+    /**
+     * Projection: 저자로 검색 (부분 일치, 대소문자 무시)
+     */
+    @Query(RESPONSE_SELECT + "WHERE LOWER(b.author) LIKE LOWER(CONCAT('%', :author, '%'))")
+    List<BookResponse> findResponsesByAuthorContaining(@Param("author") String author);
+
+    /**
+     * Projection: 카테고리로 검색 (정확히 일치)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query(RESPONSE_SELECT + "WHERE b.category = :category")
+    List<BookResponse> findResponsesByCategory(@Param("category") String category);
+
+    /**
+     * Projection: 가격 범위로 검색
+     */
+    @Query(RESPONSE_SELECT + "WHERE b.price BETWEEN :minPrice AND :maxPrice")
+    List<BookResponse> findResponsesByPriceRange(@Param("minPrice") Integer minPrice,
+                                                 @Param("maxPrice") Integer maxPrice);
+
+    /**
+     * Projection: 가격 범위로 검색 (페이징)
+     */
+    @Query(value = RESPONSE_SELECT + "WHERE b.price BETWEEN :minPrice AND :maxPrice",
+            countQuery = "SELECT COUNT(b) FROM Book b WHERE b.price BETWEEN :minPrice AND :maxPrice")
+    Page<BookResponse> findResponsesByPriceRange(@Param("minPrice") Integer minPrice,
+                                                 @Param("maxPrice") Integer maxPrice,
+                                                 Pageable pageable);
+
+    /**
+     * Projection: 재고가 있는 도서만 조회
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query(RESPONSE_SELECT + "WHERE b.stockQuantity > 0")
+    List<BookResponse> findResponsesInStock();
+
+    /**
+     * Projection: 제목 또는 저자로 검색 - 내용만 조회 (count 쿼리 없음)
+     */
+    @Query(RESPONSE_SELECT + "WHERE " + KEYWORD_CONDITION)
+    List<BookResponse> searchBookResponses(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * Projection: 제목 또는 저자로 검색 (Slice, count 쿼리 없음)
+     */
+    @Query(RESPONSE_SELECT + "WHERE " + KEYWORD_CONDITION)
+    Slice<BookResponse> searchBookResponseSlice(@Param("keyword") String keyword, Pageable pageable);
 }
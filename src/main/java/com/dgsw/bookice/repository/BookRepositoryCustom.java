@@ -1,8 +1,12 @@
 package com.dgsw.bookice.repository;
 
+import com.dgsw.bookice.dto.response.BookResponse;
 import com.dgsw.bookice.entity.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface BookRepositoryCustom {
 
@@ -10,4 +14,30 @@ public interface BookRepositoryCustom {
      * 동적 검색 쿼리 (제목, 저자, 카테고리)
      */
     Page<Book> searchByConditions(String title, String author, String category, Pageable pageable);
+
+    /**
+     * 동적 검색 쿼리 (검색 조건 객체)
+     */
+    Page<Book> searchByConditions(BookSearchCondition condition, Pageable pageable);
+
+    /**
+     * 동적 검색 쿼리 - DTO 로 내용만 조회 (count 쿼리 없음)
+     */
+    List<BookResponse> findResponsesByConditions(BookSearchCondition condition, Pageable pageable);
+
+    /**
+     * 동적 검색 조건의 전체 개수
+     */
+    long countByConditions(BookSearchCondition condition);
+
+    /**
+     * 동적 검색 쿼리 - DTO Slice (pageSize + 1 건 조회로 다음 페이지 여부만 판단)
+     */
+    Slice<BookResponse> findResponseSliceByConditions(BookSearchCondition condition, Pageable pageable);
+
+    /**
+     * 동적 검색 쿼리 - DTO 키셋 페이지네이션 (createdAt DESC, id DESC)
+     * cursor 가 null 이면 첫 페이지를 조회한다.
+     */
+    List<BookResponse> findResponsesByConditionsAfter(BookSearchCondition condition, BookCursor cursor, int limit);
 }
@@ -1,13 +1,20 @@
 package com.dgsw.bookice.repository;
 
+import com.dgsw.bookice.dto.response.BookResponse;
 import com.dgsw.bookice.entity.Book;
 import com.dgsw.bookice.entity.QBook;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -17,41 +24,148 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepositoryCustom {
 
+    /**
+     * 분할된 도서는 샤드 합계를 재고로 읽는다 (BookRepository.STOCK_QUANTITY_SELECT 와 같은 식)
+     */
+    private static final NumberExpression<Integer> STOCK_QUANTITY = Expressions.numberTemplate(Integer.class,
+            "CAST(CASE WHEN {0} > 0 THEN (SELECT COALESCE(SUM(s.quantity), 0) FROM BookStockShard s " +
+                    "WHERE s.bookId = {1}) ELSE {2} END AS Integer)",
+            QBook.book.stockShards, QBook.book.id, QBook.book.stockQuantity);
+
+    /**
+     * 조회 전용 DTO 프로젝션 (엔티티 생성/스냅샷 없이 BookResponse 생성자로 바로 매핑)
+     */
+    private static final ConstructorExpression<BookResponse> BOOK_RESPONSE = Projections.constructor(
+            BookResponse.class,
+            QBook.book.id,
+            QBook.book.title,
+            QBook.book.author,
+            QBook.book.category,
+            QBook.book.publisher,
+            QBook.book.isbn,
+            QBook.book.price,
+            STOCK_QUANTITY,
+            QBook.book.description,
+            QBook.book.createdAt,
+            QBook.book.updatedAt
+    );
+
     private final JPAQueryFactory queryFactory;
 
     @Override
     public Page<Book> searchByConditions(String title, String author, String category, Pageable pageable) {
+        return searchByConditions(BookSearchCondition.of(title, author, category), pageable);
+    }
+
+    @Override
+    public Page<Book> searchByConditions(BookSearchCondition condition, Pageable pageable) {
         QBook book = QBook.book;
 
-        // 동적 쿼리 생성
-        BooleanBuilder builder = new BooleanBuilder();
+        List<Book> books = queryFactory
+                .selectFrom(book)
+                .where(where(condition))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(book.createdAt.desc())
+                .fetch();
 
-        if (StringUtils.hasText(title)) {
-            builder.and(book.title.containsIgnoreCase(title));
-        }
+        // 첫 페이지가 덜 찼거나 마지막 페이지면 count 쿼리를 생략한다
+        return PageableExecutionUtils.getPage(books, pageable, () -> countByConditions(condition));
+    }
 
-        if (StringUtils.hasText(author)) {
-            builder.and(book.author.containsIgnoreCase(author));
-        }
+    @Override
+    public List<BookResponse> findResponsesByConditions(BookSearchCondition condition, Pageable pageable) {
+        QBook book = QBook.book;
 
-        if (StringUtils.hasText(category)) {
-            builder.and(book.category.eq(category));
-        }
+        return queryFactory
+                .select(BOOK_RESPONSE)
+                .from(book)
+                .where(where(condition))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(book.createdAt.desc())
+                .fetch();
+    }
+
+    @Override
+    public long countByConditions(BookSearchCondition condition) {
+        QBook book = QBook.book;
 
         Long total = queryFactory
                 .select(book.count())
                 .from(book)
-                .where(builder)
+                .where(where(condition))
                 .fetchOne();
 
-        List<Book> books = queryFactory
-                .selectFrom(book)
-                .where(builder)
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public Slice<BookResponse> findResponseSliceByConditions(BookSearchCondition condition, Pageable pageable) {
+        QBook book = QBook.book;
+
+        // 한 건 더 읽어 다음 페이지 존재 여부만 판단한다 (count 쿼리 없음)
+        List<BookResponse> books = queryFactory
+                .select(BOOK_RESPONSE)
+                .from(book)
+                .where(where(condition))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1L)
                 .orderBy(book.createdAt.desc())
                 .fetch();
 
-        return new PageImpl<>(books, pageable, total != null ? total : 0L);
+        boolean hasNext = books.size() > pageable.getPageSize();
+        List<BookResponse> content = hasNext ? books.subList(0, pageable.getPageSize()) : books;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<BookResponse> findResponsesByConditionsAfter(BookSearchCondition condition, BookCursor cursor,
+                                                             int limit) {
+        QBook book = QBook.book;
+
+        BooleanBuilder builder = where(condition);
+
+        // OFFSET 대신 마지막 위치 다음부터 읽는다 (idx_books_created_at_id 사용)
+        if (cursor != null) {
+            builder.and(book.createdAt.lt(cursor.getCreatedAt())
+                    .or(book.createdAt.eq(cursor.getCreatedAt()).and(book.id.lt(cursor.getId()))));
+        }
+
+        return queryFactory
+                .select(BOOK_RESPONSE)
+                .from(book)
+                .where(builder)
+                .orderBy(book.createdAt.desc(), book.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanBuilder where(BookSearchCondition condition) {
+        QBook book = QBook.book;
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (condition.getBookIds() != null) {
+            builder.and(book.id.in(condition.getBookIds()));
+        }
+
+        if (StringUtils.hasText(condition.getTitle())) {
+            builder.and(book.title.containsIgnoreCase(condition.getTitle()));
+        }
+
+        if (StringUtils.hasText(condition.getAuthor())) {
+            builder.and(book.author.containsIgnoreCase(condition.getAuthor()));
+        }
+
+        if (StringUtils.hasText(condition.getCategory())) {
+            builder.and(book.category.eq(condition.getCategory()));
+        }
+
+        if (condition.isInStock()) {
+            builder.and(book.stockQuantity.gt(0));
+        }
+
+        return builder;
     }
 }
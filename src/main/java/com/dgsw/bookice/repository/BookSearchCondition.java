@@ -0,0 +1,36 @@
+package com.dgsw.bookice.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 동적 검색 조건
+ */
+@Getter
+@Builder
+public class BookSearchCondition {
+
+    private final String title;
+    private final String author;
+    private final String category;
+
+    /**
+     * true 이면 재고가 있는 도서만
+     */
+    private final boolean inStock;
+
+    /**
+     * 인덱스로 미리 좁힌 후보 도서 ID (null 이면 제한 없음)
+     */
+    private final Collection<Long> bookIds;
+
+    public static BookSearchCondition of(String title, String author, String category) {
+        return BookSearchCondition.builder()
+                .title(title)
+                .author(author)
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.dgsw.bookice.repository;
+
+import com.dgsw.bookice.entity.BookStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookStockShardRepository extends JpaRepository<BookStockShard, Long> {
+
+    /**
+     * JPQL: 샤드 하나에서 재고 차감 (수량이 충분할 때만)
+     *
+     * @return 변경된 행 수 (0 이면 샤드가 없거나 수량 부족)
+     */
+    @Modifying
+    @Query("UPDATE BookStockShard s SET s.quantity = s.quantity - :quantity " +
+            "WHERE s.bookId = :bookId AND s.shardNo = :shardNo AND s.quantity >= :quantity")
+    int decrease(@Param("bookId") Long bookId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    /**
+     * JPQL: 샤드 하나에 재고 추가
+     *
+     * @return 변경된 행 수 (0 이면 샤드 없음)
+     */
+    @Modifying
+    @Query("UPDATE BookStockShard s SET s.quantity = s.quantity + :quantity " +
+            "WHERE s.bookId = :bookId AND s.shardNo = :shardNo")
+    int increase(@Param("bookId") Long bookId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    /**
+     * JPQL: 샤드 수량 합계 (샤드가 없으면 null)
+     */
+    @Query("SELECT SUM(s.quantity) FROM BookStockShard s WHERE s.bookId = :bookId")
+    Long sumQuantityByBookId(@Param("bookId") Long bookId);
+
+    /**
+     * JPQL: 샤드 하나의 수량 (같은 트랜잭션에서 바꾼 샤드는 잠겨 있으므로 바꾼 직후의 값이다)
+     */
+    @Query("SELECT s.quantity FROM BookStockShard s WHERE s.bookId = :bookId AND s.shardNo = :shardNo")
+    Optional<Integer> findQuantity(@Param("bookId") Long bookId, @Param("shardNo") int shardNo);
+
+    /**
+     * 도서의 전체 샤드를 잠그고 조회 (샤드 번호 순으로 잠가 교착을 피한다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<BookStockShard> findAllByBookIdOrderByShardNo(Long bookId);
+
+    /**
+     * JPQL: 분할된 도서별 샤드 수
+     */
+    @Query("SELECT s.bookId, COUNT(s) FROM BookStockShard s GROUP BY s.bookId")
+    List<Object[]> countShardsByBook();
+
+    /**
+     * JPQL: 도서의 전체 샤드 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM BookStockShard s WHERE s.bookId = :bookId")
+    int deleteByBookId(@Param("bookId") Long bookId);
+}
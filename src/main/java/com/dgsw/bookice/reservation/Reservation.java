@@ -0,0 +1,9 @@
+package com.dgsw.bookice.reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 (예약할 때 재고를 차감하고, 예약 자체는 확정/취소/만료 전까지 메모리에만 있다)
+ */
+public record Reservation(String id, Long bookId, int quantity, LocalDateTime expiresAt) {
+}
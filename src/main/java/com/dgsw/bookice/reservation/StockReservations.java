@@ -0,0 +1,184 @@
+package com.dgsw.bookice.reservation;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.exception.ReservationNotFoundException;
+import com.dgsw.bookice.stock.StockStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 예약 (hold → confirm / release)
+ * 예약할 때 재고를 바로 차감해 확보하므로, 예약을 거치지 않는 단건 차감과 일괄 주문도 예약된 수량을 가져갈 수 없다.
+ * 확정은 예약만 지우고 DB 를 건드리지 않으며, 취소/만료는 차감했던 수량을 재고에 되돌린다 (만료는 도서별로 합쳐 한 번에).
+ * 예약은 이 인스턴스 메모리에만 있으므로, 비정상 종료되면 진행 중인 예약 수량은 차감된 채로 남는다.
+ * 확정/취소된 예약은 타이머 휠에서도 바로 지운다.
+ */
+@Slf4j
+@Component
+public class StockReservations {
+
+    private static final int WHEEL_SLOTS = 512;
+
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+
+    private final StockStore stockStore;
+    private final Duration maxTtl;
+    private final TimerWheel<String> timerWheel;
+
+    public StockReservations(StockStore stockStore,
+                             @Value("${bookice.reservation.max-ttl:30m}") Duration maxTtl,
+                             @Value("${bookice.reservation.tick:1s}") Duration tick) {
+        this.stockStore = stockStore;
+        this.maxTtl = maxTtl;
+        this.timerWheel = new TimerWheel<>(System.nanoTime(), tick.toNanos(), WHEEL_SLOTS);
+    }
+
+    /**
+     * 재고 예약 (재고를 차감해 확보한다, 재고가 부족하면 IllegalStateException)
+     */
+    public Reservation hold(Long bookId, int quantity, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero() || ttl.compareTo(maxTtl) > 0) {
+            throw new IllegalArgumentException("예약 유지 시간은 0 보다 크고 " + maxTtl.toSeconds() + "초 이하이어야 합니다.");
+        }
+
+        BookResponse book = stockStore.decrease(bookId, quantity);
+
+        Reservation reservation = new Reservation(UUID.randomUUID().toString(), bookId, quantity,
+                LocalDateTime.now().plus(ttl));
+        // 만료가 등록보다 먼저 꺼내도 예약이 이미 있도록 예약부터 넣는다
+        Hold hold = new Hold(reservation, book);
+        holds.put(reservation.id(), hold);
+        hold.timeout = timerWheel.schedule(reservation.id(), System.nanoTime() + ttl.toNanos());
+        return reservation;
+    }
+
+    /**
+     * 예약 확정 (예약할 때 이미 차감했으므로 예약만 지운다)
+     * 유지 시간이 지났는데 아직 만료 처리되지 않은 예약은 재고를 되돌리고 없는 예약으로 처리한다.
+     *
+     * @return 현재 재고를 반영한 도서 정보
+     */
+    public BookResponse confirm(String reservationId) {
+        Hold hold = take(reservationId);
+        Reservation reservation = hold.reservation;
+        if (reservation.expiresAt().isBefore(LocalDateTime.now())) {
+            restore(reservation.bookId(), reservation.quantity());
+            throw new ReservationNotFoundException(reservationId);
+        }
+        return hold.book.toBuilder().stockQuantity(stockStore.currentStock(reservation.bookId())).build();
+    }
+
+    /**
+     * 예약 취소 (차감했던 수량을 되돌린다)
+     */
+    public void release(String reservationId) {
+        Reservation reservation = take(reservationId).reservation;
+        restore(reservation.bookId(), reservation.quantity());
+    }
+
+    /**
+     * 진행 중인 예약 수
+     */
+    public int size() {
+        return holds.size();
+    }
+
+    /**
+     * 만료된 예약 일괄 해제 (이미 확정/취소된 예약은 건너뛴다)
+     */
+    @Scheduled(fixedDelayString = "${bookice.reservation.tick:1s}")
+    public void expire() {
+        expire(System.nanoTime());
+    }
+
+    void expire(long nowNanos) {
+        List<String> expired = timerWheel.advance(nowNanos);
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (String reservationId : expired) {
+            Hold hold = holds.remove(reservationId);
+            if (hold != null) {
+                quantities.merge(hold.reservation.bookId(), hold.reservation.quantity(), Integer::sum);
+            }
+        }
+
+        // 같은 도서의 만료는 합쳐서 한 번만 되돌린다
+        quantities.forEach((bookId, quantity) -> {
+            try {
+                restore(bookId, quantity);
+            } catch (RuntimeException e) {
+                log.error("만료된 재고 예약 수량을 되돌리지 못했습니다: ID={}, 수량={}", bookId, quantity, e);
+            }
+        });
+        if (!quantities.isEmpty()) {
+            log.info("만료된 재고 예약 해제: {}개 도서", quantities.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.DELETED) {
+            holds.values().removeIf(hold -> {
+                if (!hold.reservation.bookId().equals(event.getBookId())) {
+                    return false;
+                }
+                cancelTimeout(hold);
+                return true;
+            });
+        }
+    }
+
+    private Hold take(String reservationId) {
+        Hold hold = holds.remove(reservationId);
+        if (hold == null) {
+            throw new ReservationNotFoundException(reservationId);
+        }
+        cancelTimeout(hold);
+        return hold;
+    }
+
+    private void cancelTimeout(Hold hold) {
+        TimerWheel.Timeout<String> timeout = hold.timeout;
+        if (timeout != null) {
+            timerWheel.cancel(timeout);
+        }
+    }
+
+    /**
+     * 예약으로 차감했던 수량을 되돌린다 (그 사이 삭제된 도서는 되돌릴 재고가 없다)
+     */
+    private void restore(Long bookId, int quantity) {
+        try {
+            stockStore.increase(bookId, quantity);
+        } catch (BookNotFoundException e) {
+            log.info("삭제된 도서의 재고 예약 해제: ID={}", bookId);
+        }
+    }
+
+    /**
+     * 진행 중인 예약과 예약할 때의 도서 정보, 타이머 휠 등록 정보
+     */
+    private static final class Hold {
+
+        private final Reservation reservation;
+        private final BookResponse book;
+        private volatile TimerWheel.Timeout<String> timeout;
+
+        private Hold(Reservation reservation, BookResponse book) {
+            this.reservation = reservation;
+            this.book = book;
+        }
+    }
+}
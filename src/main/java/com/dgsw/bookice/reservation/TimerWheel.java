@@ -0,0 +1,102 @@
+package com.dgsw.bookice.reservation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시 타이머 휠 (만료 시각을 tick 단위 슬롯에 나눠 담아, 매 tick 에 해당 슬롯만 확인한다)
+ * 등록/만료/취소 모두 슬롯 하나만 다루며, 한 바퀴보다 먼 만료는 다음 바퀴에 처리된다.
+ * 시각은 System.nanoTime 기준이며 호출자가 넘긴다.
+ */
+public class TimerWheel<T> {
+
+    private final long startNanos;
+    private final long tickNanos;
+    private final List<Timeout<T>>[] slots;
+    private final int mask;
+
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param slotCount 슬롯 수 (2 의 거듭제곱으로 올림)
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long startNanos, long tickNanos, int slotCount) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tick 은 0 보다 커야 합니다.");
+        }
+        int length = Integer.highestOneBit(Math.max(slotCount, 2) - 1) << 1;
+        this.startNanos = startNanos;
+        this.tickNanos = tickNanos;
+        this.slots = new List[length];
+        for (int i = 0; i < length; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.mask = length - 1;
+    }
+
+    /**
+     * deadlineNanos 이후 첫 tick 에 만료되도록 등록
+     *
+     * @return 취소할 때 넘길 등록 정보
+     */
+    public synchronized Timeout<T> schedule(T item, long deadlineNanos) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineNanos - startNanos, tickNanos), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick);
+        slots[(int) (deadlineTick & mask)].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 만료 전에 등록 취소 (등록된 슬롯만 확인한다)
+     *
+     * @return 취소했으면 true (이미 만료됐거나 취소된 경우 false)
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (!slots[(int) (timeout.deadlineTick() & mask)].remove(timeout)) {
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * nowNanos 까지 지난 tick 을 처리하고 만료된 항목을 반환
+     */
+    public synchronized List<T> advance(long nowNanos) {
+        long targetTick = Math.floorDiv(nowNanos - startNanos, tickNanos);
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+
+        List<T> expired = new ArrayList<>();
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인한다
+        long lastTick = Math.min(targetTick, currentTick + slots.length);
+        for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+            Iterator<Timeout<T>> iterator = slots[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.deadlineTick() <= targetTick) {
+                    expired.add(timeout.item());
+                    iterator.remove();
+                    size--;
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 등록된 항목과 만료 tick
+     */
+    public record Timeout<T>(T item, long deadlineTick) {
+    }
+}
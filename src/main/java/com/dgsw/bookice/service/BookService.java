@@ -1,12 +1,25 @@
 package com.dgsw.bookice.service;
 
+import com.dgsw.bookice.dto.request.BookBulkCreateRequest;
 import com.dgsw.bookice.dto.request.BookCreateRequest;
 import com.dgsw.bookice.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.dto.request.CheckoutRequest;
+import com.dgsw.bookice.dto.request.StockAdjustmentRequest;
 import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.dto.response.BookVersion;
+import com.dgsw.bookice.dto.response.CatalogImportResponse;
+import com.dgsw.bookice.dto.response.CursorPageResponse;
+import com.dgsw.bookice.dto.response.ReservationResponse;
+import com.dgsw.bookice.dto.response.StockAdjustmentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface BookService {
 
@@ -15,26 +28,62 @@ public interface BookService {
      */
     BookResponse createBook(BookCreateRequest request);
 
+    /**
+     * 도서 일괄 등록 (한 트랜잭션, ISBN 이 하나라도 겹치면 전부 실패)
+     *
+     * @return 등록된 도서 정보 (요청 순서)
+     */
+    List<BookResponse> createBooks(BookBulkCreateRequest request);
+
     /**
      * 도서 단건 조회
      */
     BookResponse getBook(Long id);
 
+    /**
+     * 도서 단건 버전 조회 (조건부 요청 확인용, 캐시에 없으면 수정 시각과 재고만 읽는다)
+     */
+    BookVersion getBookVersion(Long id);
+
     /**
      * 전체 도서 목록 조회
      */
     List<BookResponse> getAllBooks();
 
+    /**
+     * 전체 도서 스트리밍 조회 (한 건씩 consumer 로 전달, 메모리 사용량이 도서 수와 무관)
+     */
+    void exportAllBooks(Consumer<BookResponse> consumer);
+
     /**
      * 도서 검색 (페이징)
      */
     Page<BookResponse> searchBooks(String keyword, Pageable pageable);
 
+    /**
+     * 도서 검색 (Slice, 전체 개수 없이 다음 페이지 여부만 제공)
+     */
+    Slice<BookResponse> searchBooksSlice(String keyword, Pageable pageable);
+
     /**
      * 동적 조건 검색 (QueryDSL, 페이징)
+     *
+     * @param inStock true 이면 재고가 있는 도서만
+     */
+    Page<BookResponse> searchBooksByConditions(String title, String author, String category,
+                                               boolean inStock, Pageable pageable);
+
+    /**
+     * 동적 조건 검색 (Slice, 전체 개수 없이 다음 페이지 여부만 제공)
      */
-    Page<BookResponse> searchBooksByConditions(String title, String author,
-                                               String category, Pageable pageable);
+    Slice<BookResponse> searchBooksByConditionsSlice(String title, String author, String category,
+                                                     boolean inStock, Pageable pageable);
+
+    /**
+     * 동적 조건 검색 (키셋 페이지네이션)
+     */
+    CursorPageResponse<BookResponse> searchBooksByConditionsAfter(String title, String author, String category,
+                                                                  boolean inStock, String cursor, int size);
 
     /**
      * 제목으로 검색
@@ -56,11 +105,21 @@ public interface BookService {
      */
     List<BookResponse> searchByPriceRange(Integer minPrice, Integer maxPrice);
 
+    /**
+     * 가격 범위로 검색 (페이징, 가격 오름차순)
+     */
+    Page<BookResponse> searchByPriceRange(Integer minPrice, Integer maxPrice, Pageable pageable);
+
     /**
      * 재고가 있는 도서 조회
      */
     List<BookResponse> getBooksInStock();
 
+    /**
+     * 카테고리별 도서 수 조회 (카테고리 이름순)
+     */
+    Map<String, Long> getCategoryCounts();
+
     /**
      * 도서 정보 수정
      */
@@ -80,4 +139,56 @@ public interface BookService {
      * 재고 감소
      */
     BookResponse decreaseStock(Long id, int quantity);
+
+    /**
+     * 인기 도서 재고 분할 (재고를 shards 개 행으로 나눠 동시 구매를 분산)
+     */
+    BookResponse shardStock(Long id, int shards);
+
+    /**
+     * 재고 분할 해제
+     */
+    BookResponse unshardStock(Long id);
+
+    /**
+     * 재고 예약 (예약할 때 재고를 차감해 ttl 동안 잡아 두며, 확정하지 않으면 되돌린다)
+     */
+    ReservationResponse reserveStock(Long id, int quantity, Duration ttl);
+
+    /**
+     * 재고 예약 확정 (예약할 때 차감한 재고를 그대로 둔다)
+     */
+    BookResponse confirmReservation(String reservationId);
+
+    /**
+     * 재고 예약 취소 (차감한 재고를 되돌린다)
+     */
+    void releaseReservation(String reservationId);
+
+    /**
+     * 일괄 주문 (여러 도서 재고를 한 트랜잭션으로 차감, 전부 성공하거나 전부 실패)
+     *
+     * @return 차감 후 도서 정보 (도서 ID 순)
+     */
+    List<BookResponse> checkout(CheckoutRequest request);
+
+    /**
+     * 일괄 재고 조정 (묶음마다 한 트랜잭션으로 반영하므로 실패한 묶음 이전의 묶음은 이미 반영된다)
+     *
+     * @param lines 조정 항목 (읽는 대로 묶음 단위로 처리)
+     * @return 묶음별 처리 결과
+     */
+    StockAdjustmentResponse adjustStockInBulk(Iterator<StockAdjustmentRequest> lines);
+
+    /**
+     * 카탈로그 파일 가져오기 시작 (백그라운드로 진행)
+     *
+     * @param resumeAfterLine 이 줄까지는 건너뛴다 (중단된 작업의 committedLine)
+     */
+    CatalogImportResponse startCatalogImport(String file, String format, long resumeAfterLine);
+
+    /**
+     * 카탈로그 가져오기 진행 상황 조회
+     */
+    CatalogImportResponse getCatalogImport(String jobId);
 }
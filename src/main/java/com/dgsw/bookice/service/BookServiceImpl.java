@@ -1,20 +1,71 @@
 package com.dgsw.bookice.service;
 
+import com.dgsw.bookice.cache.BookCache;
+import com.dgsw.bookice.cache.SearchCountCache;
+import com.dgsw.bookice.cache.SearchResultCache;
+import com.dgsw.bookice.catalog.CatalogFormat;
+import com.dgsw.bookice.catalog.CatalogImporter;
+import com.dgsw.bookice.dto.request.BookBulkCreateRequest;
 import com.dgsw.bookice.dto.request.BookCreateRequest;
 import com.dgsw.bookice.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.dto.request.CheckoutRequest;
+import com.dgsw.bookice.dto.request.StockAdjustmentRequest;
 import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.dto.response.BookVersion;
+import com.dgsw.bookice.dto.response.CatalogImportResponse;
+import com.dgsw.bookice.dto.response.CursorPageResponse;
+import com.dgsw.bookice.dto.response.ReservationResponse;
+import com.dgsw.bookice.dto.response.StockAdjustmentResponse;
 import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.event.BookChangedEvent;
 import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.index.BookSearchIndex;
+import com.dgsw.bookice.index.CategoryCounter;
+import com.dgsw.bookice.index.InStockIndex;
+import com.dgsw.bookice.index.BookIdIndex;
+import com.dgsw.bookice.index.IsbnFilter;
+import com.dgsw.bookice.index.PriceIndex;
+import com.dgsw.bookice.repository.BookCursor;
 import com.dgsw.bookice.repository.BookRepository;
+import com.dgsw.bookice.repository.BookSearchCondition;
+import com.dgsw.bookice.reservation.Reservation;
+import com.dgsw.bookice.reservation.StockReservations;
+import com.dgsw.bookice.stock.StockAdjustmentWriter;
+import com.dgsw.bookice.stock.StockStore;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -22,44 +73,182 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookServiceImpl implements BookService {
 
+    /**
+     * 인덱스 후보가 이보다 많으면 IN 목록 대신 DB 검색을 사용한다
+     */
+    private static final int MAX_INDEX_CANDIDATES = 10_000;
+
+    /**
+     * ID 목록 조회 시 IN 절 하나에 넘기는 ID 수
+     */
+    private static final int ID_CHUNK_SIZE = 1_000;
+
+    /**
+     * 재고 분할 최대 샤드 수
+     */
+    private static final int MAX_STOCK_SHARDS = 64;
+
+    /**
+     * 일괄 재고 조정 시 한 트랜잭션에서 처리하는 줄 수
+     */
+    private static final int ADJUSTMENT_CHUNK_SIZE = 1_000;
+
+    /**
+     * 커서 페이지 최대 크기
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * 스트리밍 조회 시 영속성 컨텍스트를 비우는 주기 (fetch size 와 맞춘다)
+     */
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
+    /**
+     * 일괄 등록 시 flush/clear 주기 (hibernate.jdbc.batch_size 의 배수로 맞춘다)
+     */
+    private static final int BULK_FLUSH_INTERVAL = 500;
+
     private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final BookSearchIndex bookSearchIndex;
+    private final CategoryCounter categoryCounter;
+    private final PriceIndex priceIndex;
+    private final InStockIndex inStockIndex;
+    private final StockStore stockStore;
+    private final StockReservations stockReservations;
+    private final StockAdjustmentWriter stockAdjustmentWriter;
+    private final CatalogImporter catalogImporter;
+    private final IsbnFilter isbnFilter;
+    private final BookIdIndex bookIdIndex;
+    private final SearchCountCache searchCountCache;
+    private final SearchResultCache searchResultCache;
+    private final BookCache bookCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public BookResponse createBook(BookCreateRequest request) {
         log.info("도서 등록 요청: {}", request.getTitle());
 
-        // ISBN 중복 검증
-        if (request.getIsbn() != null && bookRepository.existsByIsbn(request.getIsbn())) {
+        // ISBN 중복 검증 (필터가 확실히 없다고 하면 DB 조회를 건너뛴다)
+        if (request.getIsbn() != null && isbnFilter.mightContain(request.getIsbn())
+                && bookRepository.existsByIsbn(request.getIsbn())) {
             throw new IllegalStateException("이미 존재하는 ISBN입니다: " + request.getIsbn());
         }
 
         Book book = request.toEntity();
         Book savedBook = bookRepository.save(book);
+        try {
+            // 동시에 같은 ISBN 이 등록되면 유니크 제약에 걸린다 (같은 오류로 돌려준다)
+            bookRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (request.getIsbn() == null) {
+                throw e;
+            }
+            throw new IllegalStateException("이미 존재하는 ISBN입니다: " + request.getIsbn(), e);
+        }
+        BookResponse response = BookResponse.from(savedBook);
+        eventPublisher.publishEvent(BookChangedEvent.created(response));
 
         log.info("도서 등록 완료: ID={}, 제목={}", savedBook.getId(), savedBook.getTitle());
-        return BookResponse.from(savedBook);
+        return response;
+    }
+
+    /**
+     * ISBN 중복은 요청 안에서 먼저 확인하고, DB 는 ISBN 필터가 있을 수 있다고 한 것만 IN 조회로 묶어서 확인한다
+     * 시퀀스 ID 라 persist 시점에 INSERT 가 나가지 않으므로, 주기적으로 flush 해 배치 INSERT 로 보내고 clear 로 메모리를 비운다.
+     */
+    @Override
+    @Transactional
+    public List<BookResponse> createBooks(BookBulkCreateRequest request) {
+        List<BookCreateRequest> books = request.getBooks();
+        log.info("도서 일괄 등록 요청: {}권", books.size());
+
+        Set<String> isbns = new HashSet<>();
+        for (BookCreateRequest book : books) {
+            if (book.getIsbn() != null && !isbns.add(book.getIsbn())) {
+                throw new IllegalStateException("요청 안에 중복된 ISBN이 있습니다: " + book.getIsbn());
+            }
+        }
+        List<String> isbnList = isbns.stream().filter(isbnFilter::mightContain).toList();
+        for (int from = 0; from < isbnList.size(); from += ID_CHUNK_SIZE) {
+            List<String> existing = bookRepository.findIsbnsByIsbnIn(
+                    isbnList.subList(from, Math.min(from + ID_CHUNK_SIZE, isbnList.size())));
+            if (!existing.isEmpty()) {
+                throw new IllegalStateException("이미 존재하는 ISBN입니다: " + existing.get(0));
+            }
+        }
+
+        List<BookResponse> responses = new ArrayList<>(books.size());
+        for (BookCreateRequest book : books) {
+            Book entity = book.toEntity();
+            entityManager.persist(entity);
+            responses.add(BookResponse.from(entity));
+            if (responses.size() % BULK_FLUSH_INTERVAL == 0) {
+                flushBulk(isbns);
+            }
+        }
+        flushBulk(isbns);
+        responses.forEach(response -> eventPublisher.publishEvent(BookChangedEvent.created(response)));
+
+        log.info("도서 일괄 등록 완료: {}권", responses.size());
+        return responses;
     }
 
     @Override
     public BookResponse getBook(Long id) {
         log.info("도서 조회 요청: ID={}", id);
+        requireKnownId(id);
 
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new BookNotFoundException(id));
+        return stockStore.overlay(bookCache.get(id, bookId -> bookRepository.findById(bookId)
+                .map(BookResponse::from)
+                .orElseThrow(() -> new BookNotFoundException(bookId))));
+    }
 
-        return BookResponse.from(book);
+    @Override
+    public BookVersion getBookVersion(Long id) {
+        requireKnownId(id);
+
+        BookResponse book = bookCache.getIfPresent(id);
+        if (book == null) {
+            Object[] version = bookRepository.findVersionById(id).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new BookNotFoundException(id));
+            book = BookResponse.builder()
+                    .id(id)
+                    .updatedAt((LocalDateTime) version[0])
+                    .stockQuantity((Integer) version[1])
+                    .build();
+        }
+        // 장부/분할 재고는 books 행과 따로 움직이므로 getBook 과 같은 재고를 넣는다
+        return BookVersion.from(stockStore.overlay(book));
     }
 
     @Override
     public List<BookResponse> getAllBooks() {
         log.info("전체 도서 목록 조회 요청");
 
-        List<Book> books = bookRepository.findAll();
+        return bookRepository.findAllResponses();
+    }
 
-        return books.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+    @Override
+    public void exportAllBooks(Consumer<BookResponse> consumer) {
+        log.info("전체 도서 스트리밍 조회 요청");
+
+        int count = 0;
+        try (Stream<Book> books = bookRepository.streamAllBy()) {
+            Iterator<Book> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(toResponse(iterator.next()));
+
+                // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 주기적으로 비운다
+                if (++count % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        log.info("전체 도서 스트리밍 조회 완료: {}건", count);
     }
 
     @Override
@@ -67,84 +256,209 @@ public class BookServiceImpl implements BookService {
         log.info("도서 검색 요청: keyword={}, page={}, size={}",
                 keyword, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Book> bookPage = bookRepository.searchBooks(keyword, pageable);
+        List<String> predicate = List.of("keyword", keyword != null ? keyword : "");
+        return searchResultCache.get(predicate, pageable, () -> {
+            if (StringUtils.hasText(keyword) && bookSearchIndex.isReady()) {
+                List<Long> ids = bookSearchIndex.findByKeyword(keyword);
+                if (ids.size() <= MAX_INDEX_CANDIDATES) {
+                    return findPageByIds(ids, pageable);
+                }
+            }
+
+            // 인덱스와 같은 결과가 나오도록 정규화한 검색어로 대소문자 없이 비교한다
+            String normalized = BookSearchIndex.normalize(keyword);
+            List<BookResponse> books = bookRepository.searchBookResponses(normalized, pageable);
+
+            return PageableExecutionUtils.getPage(books, pageable,
+                    () -> searchCountCache.get(predicate, () -> bookRepository.countSearchBooks(normalized)));
+        }, this::overlayStock);
+    }
+
+    @Override
+    public Slice<BookResponse> searchBooksSlice(String keyword, Pageable pageable) {
+        log.info("도서 검색 요청 (Slice): keyword={}, page={}, size={}",
+                keyword, pageable.getPageNumber(), pageable.getPageSize());
+
+        if (StringUtils.hasText(keyword) && bookSearchIndex.isReady()) {
+            List<Long> ids = bookSearchIndex.findByKeyword(keyword);
+            if (ids.size() <= MAX_INDEX_CANDIDATES) {
+                Page<BookResponse> bookPage = findPageByIds(ids, pageable);
+                return new SliceImpl<>(bookPage.getContent(), pageable, bookPage.hasNext());
+            }
+        }
 
-        return bookPage.map(BookResponse::from);
+        return bookRepository.searchBookResponseSlice(BookSearchIndex.normalize(keyword), pageable);
     }
 
     @Override
-    public Page<BookResponse> searchBooksByConditions(String title, String author,
-                                                      String category, Pageable pageable) {
-        log.info("도서 동적 검색 요청: title={}, author={}, category={}", title, author, category);
+    public Page<BookResponse> searchBooksByConditions(String title, String author, String category,
+                                                      boolean inStock, Pageable pageable) {
+        log.info("도서 동적 검색 요청: title={}, author={}, category={}, inStock={}",
+                title, author, category, inStock);
+
+        List<String> predicate = List.of(
+                "conditions",
+                SearchCountCache.normalizeIgnoreCase(title),
+                SearchCountCache.normalizeIgnoreCase(author),
+                SearchCountCache.normalize(category),
+                // 재고 조건 결과는 재고 보유 도서 구성이 바뀌면 달라지므로 재고 비트맵 버전을 함께 넣는다
+                inStock ? "inStock:" + inStockIndex.version() : "all"
+        );
+        Supplier<Page<BookResponse>> loader = () -> {
+            Optional<BookSearchCondition> condition = toSearchCondition(title, author, category, inStock);
+            if (condition.isEmpty()) {
+                return Page.empty(pageable);
+            }
+
+            BookSearchCondition resolved = condition.get();
+            List<BookResponse> books = bookRepository.findResponsesByConditions(resolved, pageable);
+
+            return PageableExecutionUtils.getPage(books, pageable,
+                    () -> countByConditions(title, author, category, resolved));
+        };
+        // 재고 비트맵을 쓸 수 없으면 재고 보유 도서 구성이 바뀌어도 알 수 없으므로 캐시하지 않는다
+        if (inStock && !inStockIndex.isReady()) {
+            return loader.get();
+        }
+        return searchResultCache.get(predicate, pageable, loader, this::overlayStock);
+    }
 
-        Page<Book> bookPage = bookRepository.searchByConditions(title, author, category, pageable);
+    @Override
+    public Slice<BookResponse> searchBooksByConditionsSlice(String title, String author, String category,
+                                                            boolean inStock, Pageable pageable) {
+        log.info("도서 동적 검색 요청 (Slice): title={}, author={}, category={}, inStock={}",
+                title, author, category, inStock);
+
+        Optional<BookSearchCondition> condition = toSearchCondition(title, author, category, inStock);
+        if (condition.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
 
-        return bookPage.map(BookResponse::from);
+        return bookRepository.findResponseSliceByConditions(condition.get(), pageable);
+    }
+
+    @Override
+    public CursorPageResponse<BookResponse> searchBooksByConditionsAfter(String title, String author, String category,
+                                                                         boolean inStock, String cursor, int size) {
+        log.info("도서 동적 검색 요청 (커서): title={}, author={}, category={}, inStock={}",
+                title, author, category, inStock);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        BookCursor after = StringUtils.hasText(cursor) ? BookCursor.decode(cursor) : null;
+
+        Optional<BookSearchCondition> condition = toSearchCondition(title, author, category, inStock);
+        if (condition.isEmpty()) {
+            return CursorPageResponse.of(List.of(), pageSize, null);
+        }
+
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다
+        List<BookResponse> books =
+                bookRepository.findResponsesByConditionsAfter(condition.get(), after, pageSize + 1);
+        boolean hasNext = books.size() > pageSize;
+        List<BookResponse> content = hasNext ? books.subList(0, pageSize) : books;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BookResponse last = content.get(content.size() - 1);
+            nextCursor = new BookCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.of(content, pageSize, nextCursor);
     }
 
     @Override
     public List<BookResponse> searchByTitle(String title) {
         log.info("제목으로 도서 검색: {}", title);
 
-        List<Book> books = bookRepository.findByTitleContaining(title);
-
-        return books.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+        return StringUtils.hasText(title) && bookSearchIndex.isReady()
+                ? findResponsesByIds(bookSearchIndex.findByTitle(title))
+                : bookRepository.findResponsesByTitleContaining(BookSearchIndex.normalize(title));
     }
 
     @Override
     public List<BookResponse> searchByAuthor(String author) {
         log.info("저자로 도서 검색: {}", author);
 
-        List<Book> books = bookRepository.findByAuthorContaining(author);
-
-        return books.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+        return StringUtils.hasText(author) && bookSearchIndex.isReady()
+                ? findResponsesByIds(bookSearchIndex.findByAuthor(author))
+                : bookRepository.findResponsesByAuthorContaining(BookSearchIndex.normalize(author));
     }
 
     @Override
     public List<BookResponse> searchByCategory(String category) {
         log.info("카테고리로 도서 검색: {}", category);
 
-        List<Book> books = bookRepository.findByCategory(category);
-
-        return books.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+        return bookRepository.findResponsesByCategory(category);
     }
 
     @Override
     public List<BookResponse> searchByPriceRange(Integer minPrice, Integer maxPrice) {
         log.info("가격 범위로 도서 검색: {}원 ~ {}원", minPrice, maxPrice);
 
-        List<Book> books = bookRepository.findByPriceRange(minPrice, maxPrice);
+        if (priceIndex.isReady()) {
+            PriceIndex.Result result = priceIndex.find(minPrice, maxPrice, 0, MAX_INDEX_CANDIDATES + 1);
+            if (result.total() <= MAX_INDEX_CANDIDATES) {
+                return findResponsesInOrder(result.ids());
+            }
+        }
 
-        return books.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+        return bookRepository.findResponsesByPriceRange(minPrice, maxPrice);
+    }
+
+    @Override
+    public Page<BookResponse> searchByPriceRange(Integer minPrice, Integer maxPrice, Pageable pageable) {
+        log.info("가격 범위로 도서 검색 (페이징): {}원 ~ {}원, page={}, size={}",
+                minPrice, maxPrice, pageable.getPageNumber(), pageable.getPageSize());
+
+        if (priceIndex.isReady()) {
+            PriceIndex.Result result = priceIndex.find(minPrice, maxPrice,
+                    pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(findResponsesInOrder(result.ids()), pageable, result.total());
+        }
+
+        // 인덱스와 같은 순서 (가격, ID 오름차순)
+        Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by("price", "id"));
+        return bookRepository.findResponsesByPriceRange(minPrice, maxPrice, sorted);
     }
 
     @Override
     public List<BookResponse> getBooksInStock() {
         log.info("재고가 있는 도서 조회");
 
-        List<Book> books = bookRepository.findBooksInStock();
+        // 비트맵은 커밋 이후 이벤트로 갱신되어 순서가 뒤바뀔 수 있으므로 후보만 구하고 재고는 DB 에서 다시 확인한다
+        if (inStockIndex.isReady() && inStockIndex.cardinality() <= MAX_INDEX_CANDIDATES) {
+            return findResponsesByIds(inStockIndex.findAll(), bookRepository::findResponsesInStockByIdIn);
+        }
+
+        return bookRepository.findResponsesInStock();
+    }
 
-        return books.stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+    @Override
+    public Map<String, Long> getCategoryCounts() {
+        log.info("카테고리별 도서 수 조회 요청");
+
+        if (categoryCounter.isReady()) {
+            return categoryCounter.snapshot();
+        }
+
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : bookRepository.countBooksByCategory()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
     }
 
     @Override
     @Transactional
     public BookResponse updateBook(Long id, BookUpdateRequest request) {
         log.info("도서 수정 요청: ID={}", id);
+        requireKnownId(id);
 
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new BookNotFoundException(id));
 
+        BookResponse before = BookResponse.from(book);
         book.update(
                 request.getTitle(),
                 request.getAuthor(),
@@ -154,48 +468,331 @@ public class BookServiceImpl implements BookService {
                 request.getDescription()
         );
 
+        BookResponse response = toResponse(book);
+        eventPublisher.publishEvent(BookChangedEvent.updated(before, response));
+
         log.info("도서 수정 완료: ID={}, 제목={}", book.getId(), book.getTitle());
-        return BookResponse.from(book);
+        return response;
     }
 
     @Override
     @Transactional
     public void deleteBook(Long id) {
         log.info("도서 삭제 요청: ID={}", id);
+        requireKnownId(id);
 
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new BookNotFoundException(id));
 
         bookRepository.delete(book);
+        eventPublisher.publishEvent(BookChangedEvent.deleted(BookResponse.from(book)));
         log.info("도서 삭제 완료: ID={}", id);
     }
 
+    /**
+     * 트랜잭션은 재고 처리 방식(StockStore)이 필요할 때만 연다
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookResponse increaseStock(Long id, int quantity) {
         log.info("재고 증가 요청: ID={}, 수량={}", id, quantity);
+        validateQuantity(quantity);
+        requireKnownId(id);
 
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new BookNotFoundException(id));
-
-        book.increaseStock(quantity);
+        BookResponse response = stockStore.increase(id, quantity);
 
-        log.info("재고 증가 완료: ID={}, 현재 재고={}", id, book.getStockQuantity());
-        return BookResponse.from(book);
+        log.info("재고 증가 완료: ID={}, 현재 재고={}", id, response.getStockQuantity());
+        return response;
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookResponse decreaseStock(Long id, int quantity) {
         log.info("재고 감소 요청: ID={}, 수량={}", id, quantity);
+        validateQuantity(quantity);
+        requireKnownId(id);
 
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new BookNotFoundException(id));
+        BookResponse response = stockStore.decrease(id, quantity);
+
+        log.info("재고 감소 완료: ID={}, 현재 재고={}", id, response.getStockQuantity());
+        return response;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookResponse shardStock(Long id, int shards) {
+        log.info("재고 분할 요청: ID={}, 샤드={}", id, shards);
+        if (shards < 2 || shards > MAX_STOCK_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 2 이상 " + MAX_STOCK_SHARDS + " 이하이어야 합니다.");
+        }
+        requireKnownId(id);
+        return stockStore.shard(id, shards);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookResponse unshardStock(Long id) {
+        log.info("재고 분할 해제 요청: ID={}", id);
+        requireKnownId(id);
+        return stockStore.unshard(id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReservationResponse reserveStock(Long id, int quantity, Duration ttl) {
+        log.info("재고 예약 요청: ID={}, 수량={}, 유지 시간={}", id, quantity, ttl);
+        validateQuantity(quantity);
+        requireKnownId(id);
 
-        book.decreaseStock(quantity);
+        Reservation reservation = stockReservations.hold(id, quantity, ttl);
 
-        log.info("재고 감소 완료: ID={}, 현재 재고={}", id, book.getStockQuantity());
-        return BookResponse.from(book);
+        log.info("재고 예약 완료: 예약 ID={}", reservation.id());
+        return ReservationResponse.from(reservation);
     }
-}
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookResponse confirmReservation(String reservationId) {
+        log.info("재고 예약 확정 요청: 예약 ID={}", reservationId);
+
+        BookResponse response = stockReservations.confirm(reservationId);
+
+        log.info("재고 예약 확정 완료: ID={}, 현재 재고={}", response.getId(), response.getStockQuantity());
+        return response;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void releaseReservation(String reservationId) {
+        log.info("재고 예약 취소 요청: 예약 ID={}", reservationId);
+        stockReservations.release(reservationId);
+    }
+
+    /**
+     * 같은 도서가 여러 줄이면 수량을 합치고, 도서 ID 순으로 정렬해 잠금 순서를 고정한다
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BookResponse> checkout(CheckoutRequest request) {
+        log.info("일괄 주문 요청: {}줄", request.getLines().size());
+
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (CheckoutRequest.Line line : request.getLines()) {
+            validateQuantity(line.getQuantity());
+            quantities.merge(line.getBookId(), line.getQuantity(), Math::addExact);
+        }
+
+        List<BookResponse> responses = stockStore.checkout(quantities);
+
+        log.info("일괄 주문 완료: 도서 {}권", responses.size());
+        return responses;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StockAdjustmentResponse adjustStockInBulk(Iterator<StockAdjustmentRequest> lines) {
+        if (!stockStore.supportsDirectWrites()) {
+            throw new IllegalStateException("현재 재고 처리 방식에서는 일괄 재고 조정을 지원하지 않습니다.");
+        }
+
+        List<StockAdjustmentResponse.Chunk> chunks = new ArrayList<>();
+        List<StockAdjustmentRequest> buffer = new ArrayList<>(ADJUSTMENT_CHUNK_SIZE);
+        int firstLine = 1;
+        while (lines.hasNext()) {
+            buffer.add(lines.next());
+            if (buffer.size() == ADJUSTMENT_CHUNK_SIZE || !lines.hasNext()) {
+                StockAdjustmentResponse.Chunk chunk = stockAdjustmentWriter.apply(chunks.size() + 1, firstLine, buffer);
+                log.info("일괄 재고 조정 묶음 {} 반영: {}행 중 {}행", chunk.getChunk(), chunk.getLines(), chunk.getApplied());
+                chunks.add(chunk);
+                firstLine += buffer.size();
+                buffer = new ArrayList<>(ADJUSTMENT_CHUNK_SIZE);
+            }
+        }
+        if (chunks.isEmpty()) {
+            throw new IllegalArgumentException("조정 항목이 없습니다.");
+        }
+
+        StockAdjustmentResponse response = StockAdjustmentResponse.of(chunks);
+        log.info("일괄 재고 조정 완료: {}행 중 {}행 반영, {}행 거절",
+                response.getLines(), response.getApplied(), response.getRejected());
+        return response;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogImportResponse startCatalogImport(String file, String format, long resumeAfterLine) {
+        log.info("카탈로그 가져오기 요청: 파일={}, 형식={}, {}행 이후부터", file, format, resumeAfterLine);
+        return CatalogImportResponse.from(catalogImporter.start(file, CatalogFormat.from(format), resumeAfterLine));
+    }
+
+    @Override
+    public CatalogImportResponse getCatalogImport(String jobId) {
+        return CatalogImportResponse.from(catalogImporter.get(jobId));
+    }
+
+    /**
+     * 동적 검색 조건 생성
+     * 제목/저자 조건은 인덱스로 후보 ID 를 먼저 구하고, 재고 조건은 재고 비트맵과 교집합을 구한다.
+     * 후보가 없으면 empty 를 반환한다.
+     */
+    private Optional<BookSearchCondition> toSearchCondition(String title, String author, String category,
+                                                            boolean inStock) {
+        List<Long> ids = null;
+        if ((StringUtils.hasText(title) || StringUtils.hasText(author)) && bookSearchIndex.isReady()) {
+            ids = bookSearchIndex.findByTitleAndAuthor(title, author);
+            if (inStock && inStockIndex.isReady()) {
+                ids = inStockIndex.filter(ids);
+            }
+        } else if (inStock && inStockIndex.isReady()
+                && !StringUtils.hasText(title) && !StringUtils.hasText(author)
+                && inStockIndex.cardinality() <= MAX_INDEX_CANDIDATES) {
+            ids = inStockIndex.findAll();
+        }
+
+        if (ids != null && ids.isEmpty()) {
+            return Optional.empty();
+        }
+        if (ids != null && ids.size() <= MAX_INDEX_CANDIDATES) {
+            // 재고 조건은 DB 에서도 다시 확인한다 (비트맵은 커밋 직후에만 갱신된다)
+            return Optional.of(BookSearchCondition.builder()
+                    .category(category)
+                    .inStock(inStock)
+                    .bookIds(ids)
+                    .build());
+        }
+        return Optional.of(BookSearchCondition.builder()
+                .title(title)
+                .author(author)
+                .category(category)
+                .inStock(inStock)
+                .build());
+    }
+
+    /**
+     * 동적 검색 전체 개수
+     * 인덱스 후보만으로 결정되면 후보 수를 쓰고, 아니면 조건별 캐시를 거쳐 count 쿼리를 실행한다.
+     * 재고 조건이 있으면 재고 변경마다 개수가 바뀌므로 캐시하지 않고, 재고 비트맵 후보 수도 믿지 않고 DB 에서 센다.
+     */
+    private long countByConditions(String title, String author, String category,
+                                   BookSearchCondition resolved) {
+        if (resolved.getBookIds() != null && !StringUtils.hasText(category) && !resolved.isInStock()) {
+            return resolved.getBookIds().size();
+        }
+        if (resolved.isInStock()) {
+            return bookRepository.countByConditions(resolved);
+        }
+        List<String> predicate = List.of(
+                "conditions",
+                SearchCountCache.normalizeIgnoreCase(title),
+                SearchCountCache.normalizeIgnoreCase(author),
+                SearchCountCache.normalize(category)
+        );
+        return searchCountCache.get(predicate, () -> bookRepository.countByConditions(resolved));
+    }
+
+    /**
+     * 캐시된 검색 결과의 재고를 현재 값으로 바꾼다 (페이지 도서의 재고만 한 번에 읽는다)
+     * 캐시하지 않은 검색과 같이 DB 기준 재고이며, 분할된 도서는 샤드 합계이다.
+     */
+    private List<BookResponse> overlayStock(List<BookResponse> books) {
+        List<Long> ids = books.stream().map(BookResponse::getId).toList();
+        Map<Long, Integer> stock = new HashMap<>(ids.size() * 2);
+        for (Object[] row : bookRepository.findStockQuantitiesByIdIn(ids)) {
+            stock.put((Long) row[0], (Integer) row[1]);
+        }
+
+        List<BookResponse> overlaid = new ArrayList<>(books.size());
+        for (BookResponse book : books) {
+            Integer stockQuantity = stock.get(book.getId());
+            overlaid.add(stockQuantity == null ? book : book.toBuilder().stockQuantity(stockQuantity).build());
+        }
+        return overlaid;
+    }
+
+    /**
+     * 인덱스가 돌려준 ID 목록으로 도서 조회 (ID 가 없으면 DB 를 거치지 않는다)
+     */
+    private List<BookResponse> findResponsesByIds(List<Long> ids) {
+        return findResponsesByIds(ids, bookRepository::findResponsesByIdIn);
+    }
+
+    /**
+     * ID 목록을 IN 절 크기로 나눠 조회
+     */
+    private List<BookResponse> findResponsesByIds(List<Long> ids, Function<List<Long>, List<BookResponse>> loader) {
+        List<BookResponse> books = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            books.addAll(loader.apply(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()))));
+        }
+        return books;
+    }
+
+    /**
+     * 일괄 등록 중 flush 후 영속성 컨텍스트 비우기
+     * 확인 이후 동시에 같은 ISBN 이 등록되면 유니크 제약에 걸린다 (단건 등록과 같은 오류로 돌려준다)
+     * 예외 변환을 받도록 EntityManager 대신 리포지토리로 flush 한다.
+     */
+    private void flushBulk(Set<String> isbns) {
+        try {
+            bookRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isbns.isEmpty()) {
+                throw e;
+            }
+            throw new IllegalStateException("이미 존재하는 ISBN입니다: 동시에 등록된 도서와 중복됩니다.", e);
+        }
+        entityManager.clear();
+    }
+
+    /**
+     * 엔티티로 만든 응답 (분할된 도서의 stock_quantity 는 재고 유무만 맞으므로 샤드 합계로 바꾼다)
+     */
+    private BookResponse toResponse(Book book) {
+        BookResponse response = BookResponse.from(book);
+        return book.getStockShards() > 0 ? stockStore.overlay(response) : response;
+    }
+
+    private void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * ID 비트맵에 없는 도서는 DB 를 거치지 않고 바로 404 (비트맵 적재 전에는 항상 통과)
+     */
+    private void requireKnownId(Long id) {
+        if (!bookIdIndex.mightExist(id)) {
+            throw new BookNotFoundException(id);
+        }
+    }
+
+    /**
+     * ID 목록 순서를 유지한 조회 (IN 절은 순서를 보장하지 않는다)
+     */
+    private List<BookResponse> findResponsesInOrder(List<Long> ids) {
+        Map<Long, BookResponse> byId = new HashMap<>(ids.size() * 2);
+        for (BookResponse book : findResponsesByIds(ids)) {
+            byId.put(book.getId(), book);
+        }
+
+        List<BookResponse> books = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BookResponse book = byId.get(id);
+            if (book != null) {
+                books.add(book);
+            }
+        }
+        return books;
+    }
+
+    /**
+     * 후보 ID 목록 안에서 페이지 조회 (전체 개수는 후보 수로 계산하므로 count 쿼리가 없다)
+     */
+    private Page<BookResponse> findPageByIds(List<Long> ids, Pageable pageable) {
+        if (ids.isEmpty() || pageable.getOffset() >= ids.size()) {
+            return new PageImpl<>(List.of(), pageable, ids.size());
+        }
+        return new PageImpl<>(bookRepository.findResponsesByIdIn(ids, pageable), pageable, ids.size());
+    }
+}
@@ -0,0 +1,218 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.repository.BookRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재고 변경 묶음 처리 (bookice.stock.engine=combining)
+ * 요청을 큐에 넣고 전담 스레드가 window 동안(최대 max-batch 건) 모아 한 트랜잭션으로 커밋한다.
+ * 호출자는 자기 요청의 결과(성공 또는 재고 부족)를 커밋 이후에 받는다.
+ * window 를 늘리면 커밋 수가 줄고 요청 지연이 늘며, 0 이면 이전 커밋 중에 쌓인 요청만 묶는다.
+ * 종료 시에는 새 요청을 받지 않고, 이미 받은 요청은 진행 중인 묶음까지 끝까지 처리한 뒤 스레드를 멈춘다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bookice.stock.engine", havingValue = "combining")
+public class CombiningStockStore implements StockStore {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /**
+     * 종료 시 남은 요청을 처리하도록 기다리는 최대 시간 (지나면 남은 요청은 실패시킨다)
+     */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final BlockingQueue<StockRequest> queue = new LinkedBlockingQueue<>();
+    /**
+     * 요청 넣기(읽기 잠금)와 종료(쓰기 잠금)를 배제해, 종료 이후에는 큐에 요청이 들어가지 않게 한다
+     */
+    private final ReentrantReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    private final BookRepository bookRepository;
+    private final StockBatchApplier stockBatchApplier;
+    private final StockDeltaWriter stockDeltaWriter;
+    private final long windowNanos;
+    private final int maxBatch;
+
+    private volatile boolean running;
+    private Thread combiner;
+
+    public CombiningStockStore(BookRepository bookRepository,
+                               StockBatchApplier stockBatchApplier,
+                               StockDeltaWriter stockDeltaWriter,
+                               @Value("${bookice.stock.combining.window:1ms}") Duration window,
+                               @Value("${bookice.stock.combining.max-batch:256}") int maxBatch) {
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("bookice.stock.combining.max-batch 는 1 이상이어야 합니다.");
+        }
+        this.bookRepository = bookRepository;
+        this.stockBatchApplier = stockBatchApplier;
+        this.stockDeltaWriter = stockDeltaWriter;
+        this.windowNanos = window.toNanos();
+        this.maxBatch = maxBatch;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        combiner = new Thread(this::combineLoop, "stock-combiner");
+        combiner.setDaemon(true);
+        combiner.start();
+        log.info("재고 묶음 처리 시작: window={}us, max-batch={}", TimeUnit.NANOSECONDS.toMicros(windowNanos), maxBatch);
+    }
+
+    @Override
+    public BookResponse increase(Long id, int quantity) {
+        return submit(new StockRequest(id, quantity));
+    }
+
+    @Override
+    public BookResponse decrease(Long id, int quantity) {
+        return submit(new StockRequest(id, -quantity));
+    }
+
+    @Override
+    public int currentStock(Long id) {
+        return bookRepository.findStockQuantityById(id).orElseThrow(() -> new BookNotFoundException(id));
+    }
+
+    /**
+     * 새 요청을 막고 큐에 남은 요청을 모두 처리한 뒤 종료한다
+     * 진행 중인 트랜잭션은 인터럽트하지 않으며, 제한 시간 안에 처리하지 못한 요청은 명시적으로 실패시킨다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+
+        combiner.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (combiner.isAlive()) {
+            log.warn("재고 묶음 처리 스레드가 제한 시간 안에 끝나지 않았습니다 - 진행 중인 묶음은 끝나는 대로 결과를 전달합니다.");
+        }
+
+        List<StockRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(request -> request.fail(
+                new IllegalStateException("재고 처리기가 종료되어 요청을 처리하지 못했습니다.")));
+        if (remaining.isEmpty()) {
+            log.info("재고 묶음 처리 종료 - 받은 요청 처리 완료");
+        } else {
+            log.error("재고 묶음 처리 종료 - 처리하지 못한 요청: {}건", remaining.size());
+        }
+    }
+
+    /**
+     * 요청을 넣고 커밋 결과를 기다린다
+     * 대기 중 인터럽트되어도 이미 넣은 요청은 처리될 수 있다.
+     */
+    private BookResponse submit(StockRequest request) {
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("재고 처리기가 종료되었습니다.");
+            }
+            queue.add(request);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        try {
+            return request.future().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("재고 처리에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 처리 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 종료 요청 후에도 큐가 빌 때까지 처리한다
+     */
+    private void combineLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                StockRequest first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    process(collect(first));
+                }
+            } catch (InterruptedException e) {
+                if (running) {
+                    log.warn("재고 묶음 처리 스레드가 인터럽트되었습니다 - 계속 진행합니다.");
+                }
+            }
+        }
+    }
+
+    /**
+     * 큐에서 처리를 기다리는 요청 수
+     */
+    int queued() {
+        return queue.size();
+    }
+
+    /**
+     * 첫 요청부터 window 가 지나거나 max-batch 건이 찰 때까지 모은다
+     */
+    List<StockRequest> collect(StockRequest first) throws InterruptedException {
+        List<StockRequest> batch = new ArrayList<>(Math.min(maxBatch, 64));
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0) {
+                break;
+            }
+            StockRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 한 트랜잭션으로 처리하고 커밋된 뒤 요청별 결과를 전달한다 (트랜잭션이 실패하면 모두 실패)
+     */
+    void process(List<StockRequest> batch) {
+        try {
+            stockBatchApplier.apply(batch);
+        } catch (RuntimeException e) {
+            log.error("재고 묶음 처리 실패: {}건", batch.size(), e);
+            batch.forEach(request -> request.fail(e));
+            return;
+        }
+
+        if (batch.stream().anyMatch(StockRequest::isAccepted)) {
+            stockDeltaWriter.evictCaches();
+        }
+        batch.forEach(StockRequest::complete);
+        log.debug("재고 묶음 처리 완료: {}건", batch.size());
+    }
+}
@@ -0,0 +1,219 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.exception.CheckoutFailedException;
+import com.dgsw.bookice.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 재고를 DB 에서 바로 변경 (기본값)
+ * 조건부 UPDATE 한 문장으로 확인과 변경을 처리하므로 동시 요청에도 갱신이 유실되지 않는다.
+ * 변경된 행은 같은 문장에서 돌려받으므로 성공한 요청은 DB 를 한 번만 왕복한다.
+ * 분할된 인기 도서는 books 행 대신 재고 샤드(HotStockShards)에서 차감한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookice.stock.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseStockStore implements StockStore {
+
+    /**
+     * 분할/해제와 겹쳐 books 행과 샤드 사이를 오갈 수 있는 최대 횟수
+     */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final BookRepository bookRepository;
+    private final HotStockShards hotStockShards;
+    private final StockDeltaWriter stockDeltaWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public BookResponse increase(Long id, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (hotStockShards.isHot(id)) {
+                Integer stockQuantity = hotStockShards.increase(id, quantity, now);
+                if (stockQuantity != null) {
+                    return publishStockChanged(id, stockQuantity);
+                }
+            }
+            Optional<BookResponse> increased = stockDeltaWriter.increaseReturning(id, quantity, now);
+            if (increased.isPresent()) {
+                return publishStockChanged(increased.get());
+            }
+            if (!hotStockShards.refresh(id)) {
+                throw new BookNotFoundException(id);
+            }
+        }
+        throw stockShardingInProgress(id);
+    }
+
+    @Override
+    @Transactional
+    public BookResponse decrease(Long id, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (hotStockShards.isHot(id)) {
+                Integer stockQuantity = hotStockShards.decrease(id, quantity, now);
+                if (stockQuantity != null) {
+                    return publishStockChanged(id, stockQuantity);
+                }
+            }
+            Optional<BookResponse> decreased = stockDeltaWriter.decreaseReturning(id, quantity, now);
+            if (decreased.isPresent()) {
+                return publishStockChanged(decreased.get());
+            }
+            Integer stockQuantity = bookRepository.findStockQuantityById(id)
+                    .orElseThrow(() -> new BookNotFoundException(id));
+            if (!hotStockShards.refresh(id)) {
+                throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + stockQuantity);
+            }
+        }
+        throw stockShardingInProgress(id);
+    }
+
+    /**
+     * 일괄 주문
+     * 일반 도서 행은 ID 순으로 한 번에 잠근 뒤 모든 줄을 확인하고, 변경은 JDBC 배치 한 번으로 반영한다.
+     * 분할된 도서는 같은 트랜잭션에서 ID 순으로 샤드 차감을 한다. 한 줄이라도 실패하면 전체를 롤백한다.
+     */
+    @Override
+    @Transactional
+    public List<BookResponse> checkout(SortedMap<Long, Integer> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> stock = stockDeltaWriter.lockStock(quantities.keySet());
+
+        Map<Long, String> errors = new TreeMap<>();
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        List<Long> shardedIds = new ArrayList<>();
+        quantities.forEach((id, quantity) -> {
+            Integer current = stock.get(id);
+            if (current == null) {
+                if (hotStockShards.refresh(id)) {
+                    shardedIds.add(id);
+                } else {
+                    errors.put(id, new BookNotFoundException(id).getMessage());
+                }
+            } else if (current < quantity) {
+                errors.put(id, "재고가 부족합니다. 현재 재고: " + current);
+            } else {
+                deltas.put(id, -quantity);
+            }
+        });
+        if (!errors.isEmpty()) {
+            throw new CheckoutFailedException(errors);
+        }
+
+        Map<Long, Integer> shardedStock = new HashMap<>();
+        for (Long id : shardedIds) {
+            try {
+                Integer remaining = hotStockShards.decrease(id, quantities.get(id), now);
+                if (remaining == null) {
+                    errors.put(id, stockShardingInProgress(id).getMessage());
+                } else {
+                    shardedStock.put(id, remaining);
+                }
+            } catch (IllegalStateException e) {
+                errors.put(id, e.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new CheckoutFailedException(errors);
+        }
+
+        if (!deltas.isEmpty()) {
+            stockDeltaWriter.write(deltas);
+            stockDeltaWriter.evictCachesAfterCommit();
+        }
+
+        List<BookResponse> responses = new ArrayList<>(quantities.size());
+        for (BookResponse book : bookRepository.findResponsesByIdIn(quantities.keySet())) {
+            Integer remaining = shardedStock.get(book.getId());
+            BookResponse response = remaining == null ? book : book.toBuilder().stockQuantity(remaining).build();
+            eventPublisher.publishEvent(BookChangedEvent.stockChanged(response));
+            responses.add(response);
+        }
+        responses.sort(Comparator.comparing(BookResponse::getId));
+        return responses;
+    }
+
+    @Override
+    public int currentStock(Long id) {
+        Integer stockQuantity = hotStockShards.totalQuantity(id);
+        if (stockQuantity != null) {
+            return stockQuantity;
+        }
+        return bookRepository.findStockQuantityById(id).orElseThrow(() -> new BookNotFoundException(id));
+    }
+
+    @Override
+    public BookResponse overlay(BookResponse book) {
+        Integer stockQuantity = hotStockShards.totalQuantity(book.getId());
+        return stockQuantity == null ? book : book.toBuilder().stockQuantity(stockQuantity).build();
+    }
+
+    @Override
+    @Transactional
+    public BookResponse shard(Long id, int shards) {
+        int stockQuantity = hotStockShards.promote(id, shards, LocalDateTime.now());
+        return publishStockChanged(id, stockQuantity);
+    }
+
+    @Override
+    @Transactional
+    public BookResponse unshard(Long id) {
+        hotStockShards.demote(id, LocalDateTime.now());
+        return publishStockChanged(id);
+    }
+
+    /**
+     * 재고 변경 후 상태 조회 및 이벤트 발행 (커밋 이후 캐시/인덱스에 반영된다)
+     */
+    private BookResponse publishStockChanged(Long id) {
+        BookResponse response = bookRepository.findResponseById(id)
+                .orElseThrow(() -> new BookNotFoundException(id));
+        eventPublisher.publishEvent(BookChangedEvent.stockChanged(response));
+        return response;
+    }
+
+    /**
+     * UPDATE 가 돌려준 행으로 이벤트 발행 (다시 조회하지 않는다)
+     */
+    private BookResponse publishStockChanged(BookResponse response) {
+        stockDeltaWriter.evictAfterCommit(response.getId());
+        eventPublisher.publishEvent(BookChangedEvent.stockChanged(response));
+        return response;
+    }
+
+    /**
+     * 분할된 도서는 샤드 합계를 재고로 응답한다
+     */
+    private BookResponse publishStockChanged(Long id, int stockQuantity) {
+        BookResponse response = bookRepository.findResponseById(id)
+                .map(book -> book.toBuilder().stockQuantity(stockQuantity).build())
+                .orElseThrow(() -> new BookNotFoundException(id));
+        eventPublisher.publishEvent(BookChangedEvent.stockChanged(response));
+        return response;
+    }
+
+    private IllegalStateException stockShardingInProgress(Long id) {
+        return new IllegalStateException("재고 분할 상태가 변경되는 중입니다. 잠시 후 다시 시도해 주세요. ID: " + id);
+    }
+}
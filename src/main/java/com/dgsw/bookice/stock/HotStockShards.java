@@ -0,0 +1,283 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.entity.BookStockShard;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.repository.BookRepository;
+import com.dgsw.bookice.repository.BookStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * 인기 도서 분할 재고
+ * 재고를 book_stock_shards 의 N 개 행으로 나누고, 차감은 임의의 샤드부터 시도해 다른 샤드로 넘어간다.
+ * 구매가 서로 다른 행을 잠그므로 한 도서의 처리량이 샤드 수에 비례해 늘어난다.
+ * books.stock_quantity 는 재고 유무만 맞춰 재고 조건 검색이 그대로 동작하게 하고,
+ * 응답의 재고 수량은 조회 쿼리가 샤드 합계로 바꿔 읽는다 (BookRepository.STOCK_QUANTITY_SELECT).
+ * 서로 다른 샤드를 비우는 트랜잭션은 각자 상대의 커밋 전 변경을 보지 못해 합계가 0 이 된 것을 놓칠 수 있으므로,
+ * 바꾼 샤드가 0 이 되거나 0 에서 벗어난 트랜잭션만 books 행을 잠그고 합계를 다시 맞춘다 (나중에 잠근 쪽이 먼저 커밋된 변경을 본다).
+ * 샤드가 0 을 넘나들지 않는 차감/증가는 books 행을 잠그지 않는다.
+ * 모든 메서드는 호출자(DatabaseStockStore)의 트랜잭션 안에서 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookice.stock.engine", havingValue = "database", matchIfMissing = true)
+public class HotStockShards {
+
+    /**
+     * 분할된 도서 ID → 샤드 수 (DB 가 기준이며, 어긋나면 차감 경로에서 다시 맞춘다)
+     */
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    private final BookRepository bookRepository;
+    private final BookStockShardRepository shardRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Object[] row : shardRepository.countShardsByBook()) {
+            shardCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        if (!shardCounts.isEmpty()) {
+            log.info("분할 재고 도서 적재 완료: {}건", shardCounts.size());
+        }
+    }
+
+    public boolean isHot(Long bookId) {
+        return shardCounts.containsKey(bookId);
+    }
+
+    /**
+     * DB 의 분할 상태로 다시 맞춘다
+     *
+     * @return 분할된 도서이면 true
+     */
+    public boolean refresh(Long bookId) {
+        int shards = bookRepository.findStockShardsById(bookId).orElse(0);
+        if (shards > 0) {
+            shardCounts.put(bookId, shards);
+            return true;
+        }
+        shardCounts.remove(bookId);
+        return false;
+    }
+
+    /**
+     * 분할 재고 합계 (분할되지 않았거나 샤드가 없으면 null)
+     */
+    public Integer totalQuantity(Long bookId) {
+        if (!isHot(bookId)) {
+            return null;
+        }
+        Long total = shardRepository.sumQuantityByBookId(bookId);
+        return total != null ? total.intValue() : null;
+    }
+
+    /**
+     * 재고 분할 (현재 재고를 샤드에 고르게 나눈다)
+     *
+     * @return 분할 시점 재고
+     */
+    public int promote(Long bookId, int shards, LocalDateTime now) {
+        if (bookRepository.startStockSharding(bookId, shards, now) == 0) {
+            bookRepository.findStockQuantityById(bookId).orElseThrow(() -> new BookNotFoundException(bookId));
+            throw new IllegalStateException("이미 재고가 분할된 도서입니다. ID: " + bookId);
+        }
+        int stockQuantity = bookRepository.findStockQuantityById(bookId)
+                .orElseThrow(() -> new BookNotFoundException(bookId));
+
+        List<BookStockShard> rows = new ArrayList<>(shards);
+        for (int shardNo = 0; shardNo < shards; shardNo++) {
+            int quantity = stockQuantity / shards + (shardNo < stockQuantity % shards ? 1 : 0);
+            rows.add(BookStockShard.builder()
+                    .bookId(bookId)
+                    .shardNo(shardNo)
+                    .quantity(quantity)
+                    .build());
+        }
+        shardRepository.saveAll(rows);
+
+        // 커밋 전에 등록해도 다른 요청은 커밋 전 샤드를 보지 못해 books 행 UPDATE 로 돌아간다
+        shardCounts.put(bookId, shards);
+        afterCompletion(status -> {
+            if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                shardCounts.remove(bookId);
+            }
+        });
+
+        log.info("재고 분할 완료: ID={}, 샤드={}, 재고={}", bookId, shards, stockQuantity);
+        return stockQuantity;
+    }
+
+    /**
+     * 재고 분할 해제 (샤드를 모두 잠근 뒤 합계를 stock_quantity 로 되돌린다)
+     *
+     * @return 해제 시점 재고
+     */
+    public int demote(Long bookId, LocalDateTime now) {
+        int stockQuantity = shardRepository.findAllByBookIdOrderByShardNo(bookId).stream()
+                .mapToInt(BookStockShard::getQuantity)
+                .sum();
+
+        if (bookRepository.finishStockSharding(bookId, stockQuantity, now) == 0) {
+            bookRepository.findStockQuantityById(bookId).orElseThrow(() -> new BookNotFoundException(bookId));
+            throw new IllegalStateException("재고가 분할되지 않은 도서입니다. ID: " + bookId);
+        }
+        shardRepository.deleteByBookId(bookId);
+
+        // 커밋 전까지는 샤드가 남아 있으므로 등록 해제는 커밋 이후에 한다
+        afterCompletion(status -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                shardCounts.remove(bookId);
+            }
+        });
+
+        log.info("재고 분할 해제 완료: ID={}, 재고={}", bookId, stockQuantity);
+        return stockQuantity;
+    }
+
+    /**
+     * 분할 재고 차감
+     * 임의의 샤드부터 한 샤드씩 조건부 UPDATE 를 시도하고, 어느 샤드도 혼자 감당하지 못하면
+     * 전체 샤드를 잠가 여러 샤드에서 나눠 차감한다.
+     *
+     * @return 차감 후 재고 (샤드가 없으면 null, 분할이 해제된 경우)
+     */
+    public Integer decrease(Long bookId, int quantity, LocalDateTime now) {
+        Integer shards = shardCounts.get(bookId);
+        if (shards == null) {
+            return null;
+        }
+
+        int taken = -1;
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards && taken < 0; i++) {
+            int shardNo = (start + i) % shards;
+            if (shardRepository.decrease(bookId, shardNo, quantity) > 0) {
+                taken = shardNo;
+            }
+        }
+        if (taken < 0) {
+            // 여러 샤드에서 나눠 차감하면 대개 샤드가 비므로 항상 합계를 맞춘다
+            if (!decreaseAcrossShards(bookId, quantity)) {
+                return null;
+            }
+            return syncStockQuantity(bookId, now);
+        }
+
+        if (shardRepository.findQuantity(bookId, taken).orElse(0) == 0) {
+            return syncStockQuantity(bookId, now);
+        }
+        return currentTotal(bookId);
+    }
+
+    /**
+     * 분할 재고 증가 (임의의 샤드 하나에 더한다)
+     *
+     * @return 증가 후 재고 (샤드가 없으면 null, 분할이 해제된 경우)
+     */
+    public Integer increase(Long bookId, int quantity, LocalDateTime now) {
+        Integer shards = shardCounts.get(bookId);
+        if (shards == null) {
+            return null;
+        }
+
+        int shardNo = ThreadLocalRandom.current().nextInt(shards);
+        if (shardRepository.increase(bookId, shardNo, quantity) == 0) {
+            return null;
+        }
+
+        if (shardRepository.findQuantity(bookId, shardNo).orElse(0) == quantity) {
+            return syncStockQuantity(bookId, now);
+        }
+        return currentTotal(bookId);
+    }
+
+    /**
+     * 분할된 도서 삭제 시 같은 트랜잭션에서 샤드도 삭제한다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookDeleted(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.DELETED && isHot(event.getBookId())) {
+            shardRepository.deleteByBookId(event.getBookId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.DELETED) {
+            shardCounts.remove(event.getBookId());
+        }
+    }
+
+    private boolean decreaseAcrossShards(Long bookId, int quantity) {
+        List<BookStockShard> locked = shardRepository.findAllByBookIdOrderByShardNo(bookId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+
+        int total = locked.stream().mapToInt(BookStockShard::getQuantity).sum();
+        if (total < quantity) {
+            throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + total);
+        }
+
+        int left = quantity;
+        for (BookStockShard shard : locked) {
+            int taken = Math.min(shard.getQuantity(), left);
+            if (taken > 0) {
+                shardRepository.decrease(bookId, shard.getShardNo(), taken);
+                left -= taken;
+            }
+            if (left == 0) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * books 행을 잠근 뒤 stock_quantity 를 샤드 합계로 맞춘다 (바꾼 샤드가 0 을 넘나들었을 때만 호출)
+     * 잠금을 기다린 뒤 합계를 읽으므로, 먼저 잠갔던 트랜잭션이 커밋한 샤드 변경까지 포함된다.
+     *
+     * @return 현재 재고 (샤드 합계)
+     */
+    private int syncStockQuantity(Long bookId, LocalDateTime now) {
+        bookRepository.lockShardedBook(bookId);
+        bookRepository.syncShardedStock(bookId, now);
+        return currentTotal(bookId);
+    }
+
+    private int currentTotal(Long bookId) {
+        Long total = shardRepository.sumQuantityByBookId(bookId);
+        return total != null ? total.intValue() : 0;
+    }
+
+    private void afterCompletion(IntConsumer callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(TransactionSynchronization.STATUS_COMMITTED);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status);
+            }
+        });
+    }
+}
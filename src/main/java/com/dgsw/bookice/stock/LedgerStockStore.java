@@ -0,0 +1,238 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.BookCache;
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.repository.BookRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인메모리 재고 장부 (bookice.stock.engine=ledger)
+ * 도서별 원자 변수로 재고를 차감하고, 누적 변경량만 주기적으로 묶어 DB 에 반영한다 (차감마다 DB 를 거치지 않는다).
+ * 묶음은 순번(LedgerWatermark)과 함께 한 트랜잭션으로 반영하므로 일부만 반영되거나,
+ * 커밋 결과를 모른 채 다시 반영해도 두 번 더해지는 일이 없다.
+ * 장부에 올라간 도서의 재고는 장부가 기준이며, 목록/검색 응답의 재고는 최대 한 반영 주기만큼 늦을 수 있다.
+ * 반영이 커밋되면 재고 버전을 올려 목록 ETag 와 캐시된 검색 결과의 재고가 반영된 값으로 바뀌게 한다.
+ * 반영 사이에 프로세스가 비정상 종료되면 마지막 반영 이후의 변경량은 유실된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookice.stock.engine", havingValue = "ledger")
+public class LedgerStockStore implements StockStore {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * 반영 중에는 JDBC 를 기다리므로 synchronized 대신 ReentrantLock 을 쓴다 (가상 스레드 고정 방지)
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+    /**
+     * 마지막 반영 이후 재고 유무가 바뀐 도서가 있는지 (반영 후 재고 조건 조회 캐시를 비울지 판단)
+     */
+    private final AtomicBoolean inStockChanged = new AtomicBoolean();
+    /**
+     * 반영하지 못한 묶음 (다음 주기에 같은 순번으로 다시 반영한다, flushLock 으로 보호)
+     */
+    private Batch inFlight;
+    /**
+     * 마지막으로 반영된 묶음 순번 (-1 이면 아직 DB 에서 읽지 않음, flushLock 으로 보호)
+     */
+    private long flushedSeq = -1;
+
+    private final BookRepository bookRepository;
+    private final BookCache bookCache;
+    private final LedgerWatermark ledgerWatermark;
+    private final StockDeltaWriter stockDeltaWriter;
+    private final CatalogVersion catalogVersion;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public BookResponse increase(Long id, int quantity) {
+        Entry entry = entry(id);
+        int after = entry.available.addAndGet(quantity);
+        entry.pending.addAndGet(quantity);
+
+        BookResponse response = snapshot(id, after);
+        if (after - quantity <= 0 && after > 0) {
+            inStockChanged.set(true);
+            eventPublisher.publishEvent(BookChangedEvent.stockChanged(response));
+        }
+        return response;
+    }
+
+    @Override
+    public BookResponse decrease(Long id, int quantity) {
+        Entry entry = entry(id);
+        int current;
+        do {
+            current = entry.available.get();
+            if (current < quantity) {
+                throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + current);
+            }
+        } while (!entry.available.compareAndSet(current, current - quantity));
+        entry.pending.addAndGet(-quantity);
+
+        int after = current - quantity;
+        BookResponse response = snapshot(id, after);
+        if (after == 0) {
+            inStockChanged.set(true);
+            eventPublisher.publishEvent(BookChangedEvent.stockChanged(response));
+        }
+        return response;
+    }
+
+    @Override
+    public BookResponse overlay(BookResponse book) {
+        Entry entry = entries.get(book.getId());
+        return entry == null ? book : book.toBuilder().stockQuantity(entry.available.get()).build();
+    }
+
+    @Override
+    public int currentStock(Long id) {
+        return available(id);
+    }
+
+    @Override
+    public boolean supportsDirectWrites() {
+        return false;
+    }
+
+    /**
+     * 장부 기준 현재 재고 (장부에 없으면 DB 에서 읽어 올린다)
+     */
+    public int available(Long id) {
+        return entry(id).available.get();
+    }
+
+    /**
+     * 누적 변경량 반영 (반영한 도서의 2차 캐시 항목만 비운다)
+     * 지난 주기에 실패한 묶음이 있으면 먼저 같은 순번으로 다시 반영하고, 그동안 쌓인 변경량은 새 묶음으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${bookice.stock.ledger.flush-interval:200ms}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (inFlight != null && !applyInFlight()) {
+                return;
+            }
+
+            // 변경량을 꺼내기 전에 확인하므로, 여기서 본 재고 유무 변경의 변경량은 이번 묶음에 들어 있다
+            boolean queryRegions = inStockChanged.getAndSet(false);
+            Map<Long, Integer> deltas = new HashMap<>();
+            entries.forEach((id, entry) -> {
+                int delta = entry.pending.getAndSet(0);
+                if (delta != 0) {
+                    deltas.put(id, delta);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return;
+            }
+            inFlight = new Batch(deltas, queryRegions);
+            applyInFlight();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        long remaining = entries.values().stream().filter(entry -> entry.pending.get() != 0).count()
+                + (inFlight != null ? inFlight.deltas().size() : 0);
+        if (remaining > 0) {
+            log.error("종료 전 재고 변경량을 반영하지 못했습니다: {}건", remaining);
+        } else {
+            log.info("재고 장부 종료 - 변경량 반영 완료");
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.DELETED) {
+            entries.remove(event.getBookId());
+        }
+    }
+
+    /**
+     * DB 조회는 computeIfAbsent(synchronized) 밖에서 한다 (가상 스레드 고정 방지)
+     * 같은 도서를 동시에 올리면 먼저 들어간 항목을 쓴다.
+     */
+    private Entry entry(Long id) {
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            return entry;
+        }
+        Entry loaded = new Entry(bookRepository.findStockQuantityById(id)
+                .orElseThrow(() -> new BookNotFoundException(id)));
+        Entry existing = entries.putIfAbsent(id, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private BookResponse snapshot(Long id, int stockQuantity) {
+        BookResponse book = bookCache.get(id, key -> bookRepository.findResponseById(key)
+                .orElseThrow(() -> new BookNotFoundException(key)));
+        return book.toBuilder().stockQuantity(stockQuantity).build();
+    }
+
+    /**
+     * 반영 중인 묶음을 순번과 함께 반영 (flushLock 안에서 호출)
+     * 실패하면 묶음을 그대로 두고 다음 주기에 같은 순번으로 다시 반영한다.
+     * 커밋 후 응답만 유실됐다면 순번이 이미 지나 있으므로 다시 더하지 않는다.
+     *
+     * @return 반영이 끝났는지
+     */
+    private boolean applyInFlight() {
+        try {
+            if (flushedSeq < 0) {
+                flushedSeq = ledgerWatermark.current();
+            }
+            ledgerWatermark.apply(flushedSeq + 1, inFlight.deltas());
+        } catch (RuntimeException e) {
+            log.error("재고 변경량 반영 실패 - 다음 주기에 다시 시도합니다: {}건", inFlight.deltas().size(), e);
+            return false;
+        }
+        flushedSeq++;
+        stockDeltaWriter.evict(inFlight.deltas().keySet(), inFlight.queryRegions());
+        // 재고 변경 이벤트는 재고 유무가 바뀔 때만 발행하므로 반영된 재고는 여기서 버전을 올린다
+        catalogVersion.bumpStock();
+        log.debug("재고 변경량 반영 완료: {}건", inFlight.deltas().size());
+        inFlight = null;
+        return true;
+    }
+
+    /**
+     * 반영할 변경량 묶음 (queryRegions: 재고 유무가 바뀌어 조회 캐시도 비워야 하는지)
+     */
+    private record Batch(Map<Long, Integer> deltas, boolean queryRegions) {
+    }
+
+    /**
+     * 도서별 장부 항목 (available: 현재 재고, pending: 아직 DB 에 반영하지 않은 변경량)
+     */
+    private static final class Entry {
+
+        private final AtomicInteger available;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Entry(int available) {
+            this.available = new AtomicInteger(available);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.dgsw.bookice.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 재고 장부 반영 순번 (stock_ledger_watermark, bookice.stock.engine=ledger)
+ * 반영 묶음마다 순번을 붙이고, 순번 전진과 변경량 반영을 한 트랜잭션에서 한다.
+ * 커밋 결과를 모른 채 같은 묶음을 다시 반영해도 순번이 이미 지나 있으면 건너뛰므로 반영은 멱등이다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookice.stock.engine", havingValue = "ledger")
+public class LedgerWatermark {
+
+    private static final long LEDGER_ID = 1L;
+
+    private static final String SELECT_SQL = "SELECT flushed_seq FROM stock_ledger_watermark WHERE ledger_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO stock_ledger_watermark (ledger_id, flushed_seq) VALUES (?, 0)";
+
+    private static final String ADVANCE_SQL =
+            "UPDATE stock_ledger_watermark SET flushed_seq = ? WHERE ledger_id = ? AND flushed_seq = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockDeltaWriter stockDeltaWriter;
+
+    /**
+     * 마지막으로 반영된 묶음 순번 (처음이면 0 으로 만든다)
+     */
+    @Transactional
+    public long current() {
+        Long seq = read();
+        if (seq != null) {
+            return seq;
+        }
+        jdbcTemplate.update(INSERT_SQL, LEDGER_ID);
+        return 0L;
+    }
+
+    /**
+     * 묶음 반영 (순번 전진과 변경량 반영을 한 트랜잭션에서)
+     *
+     * @param seq    묶음 순번 (마지막으로 반영된 순번 + 1)
+     * @param deltas 도서 ID → 재고 변경량
+     * @return 이번에 반영했으면 true, 이미 반영된 묶음이면 false
+     */
+    @Transactional
+    public boolean apply(long seq, Map<Long, Integer> deltas) {
+        if (jdbcTemplate.update(ADVANCE_SQL, seq, LEDGER_ID, seq - 1) == 0) {
+            Long current = read();
+            if (current != null && current >= seq) {
+                return false;
+            }
+            throw new IllegalStateException("재고 장부 반영 순번이 맞지 않습니다. 반영된 순번: " + current + ", 묶음 순번: " + seq);
+        }
+        stockDeltaWriter.write(deltas);
+        return true;
+    }
+
+    private Long read() {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> rs.getLong(1), LEDGER_ID).stream()
+                .findFirst()
+                .orElse(null);
+    }
+}
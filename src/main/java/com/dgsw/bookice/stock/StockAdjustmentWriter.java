@@ -0,0 +1,148 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.request.StockAdjustmentRequest;
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.dto.response.StockAdjustmentResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 일괄 재고 조정 묶음 처리
+ * 같은 도서의 줄은 변경량을 합쳐 도서 ID 순으로 JDBC 배치 한 번에 반영한다.
+ * 재고가 음수가 되거나 분할된 도서는 반영하지 않고 그 도서의 줄을 모두 거절한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockAdjustmentWriter {
+
+    /**
+     * 묶음 결과에 담는 오류 줄 수
+     */
+    private static final int MAX_ERRORS = 20;
+
+    private final BookRepository bookRepository;
+    private final StockDeltaWriter stockDeltaWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 묶음 하나를 한 트랜잭션으로 반영
+     *
+     * @param chunkNo   묶음 번호 (1부터)
+     * @param firstLine 묶음 첫 줄의 번호 (1부터)
+     */
+    @Transactional
+    public StockAdjustmentResponse.Chunk apply(int chunkNo, int firstLine, List<StockAdjustmentRequest> lines) {
+        Map<String, Long> idsByIsbn = resolveIsbns(lines);
+
+        SortedMap<Long, Integer> deltas = new TreeMap<>();
+        Map<Long, List<Integer>> lineNosByBook = new HashMap<>();
+        SortedMap<Integer, String> errors = new TreeMap<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            int lineNo = firstLine + i;
+            StockAdjustmentRequest line = lines.get(i);
+            if (line == null || line.getDelta() == null || line.getDelta() == 0) {
+                errors.put(lineNo, "변경량은 0이 아니어야 합니다.");
+                continue;
+            }
+            Long bookId = line.getBookId();
+            if (bookId == null) {
+                if (!StringUtils.hasText(line.getIsbn())) {
+                    errors.put(lineNo, "도서 ID 또는 ISBN 은 필수입니다.");
+                    continue;
+                }
+                bookId = idsByIsbn.get(line.getIsbn());
+                if (bookId == null) {
+                    errors.put(lineNo, "도서를 찾을 수 없습니다. ISBN: " + line.getIsbn());
+                    continue;
+                }
+            }
+            try {
+                deltas.merge(bookId, line.getDelta(), Math::addExact);
+            } catch (ArithmeticException e) {
+                errors.put(lineNo, "변경량 합계가 너무 큽니다. ID: " + bookId);
+                continue;
+            }
+            lineNosByBook.computeIfAbsent(bookId, key -> new ArrayList<>()).add(lineNo);
+        }
+
+        Set<Long> applied = deltas.isEmpty() ? Set.of() : stockDeltaWriter.adjust(deltas);
+        if (applied.size() < deltas.size()) {
+            Set<Long> rejectedIds = new HashSet<>(deltas.keySet());
+            rejectedIds.removeAll(applied);
+            rejectBooks(rejectedIds, lineNosByBook, errors);
+        }
+
+        if (!applied.isEmpty()) {
+            for (BookResponse book : bookRepository.findResponsesByIdIn(applied)) {
+                eventPublisher.publishEvent(BookChangedEvent.stockChanged(book));
+            }
+            stockDeltaWriter.evictCachesAfterCommit();
+        }
+
+        return StockAdjustmentResponse.Chunk.builder()
+                .chunk(chunkNo)
+                .firstLine(firstLine)
+                .lines(lines.size())
+                .applied(lines.size() - errors.size())
+                .rejected(errors.size())
+                .errors(errors.entrySet().stream()
+                        .limit(MAX_ERRORS)
+                        .map(error -> error.getKey() + "행: " + error.getValue())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 도서 ID 가 없는 줄의 ISBN 을 한 번에 조회
+     */
+    private Map<String, Long> resolveIsbns(List<StockAdjustmentRequest> lines) {
+        Set<String> isbns = new HashSet<>();
+        for (StockAdjustmentRequest line : lines) {
+            if (line != null && line.getBookId() == null && StringUtils.hasText(line.getIsbn())) {
+                isbns.add(line.getIsbn());
+            }
+        }
+        if (isbns.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> idsByIsbn = new HashMap<>();
+        for (Object[] row : bookRepository.findIdsByIsbnIn(isbns)) {
+            idsByIsbn.put((String) row[1], (Long) row[0]);
+        }
+        return idsByIsbn;
+    }
+
+    /**
+     * 반영되지 않은 도서의 사유를 조회해 해당 줄을 모두 거절
+     */
+    private void rejectBooks(Set<Long> ids, Map<Long, List<Integer>> lineNosByBook, Map<Integer, String> errors) {
+        Map<Long, String> reasons = new HashMap<>();
+        for (Object[] row : bookRepository.findStockStatesByIdIn(ids)) {
+            Long id = (Long) row[0];
+            int stockShards = ((Number) row[2]).intValue();
+            reasons.put(id, stockShards > 0
+                    ? "분할된 재고는 일괄 조정할 수 없습니다. ID: " + id
+                    : "재고가 부족합니다. 현재 재고: " + row[1]);
+        }
+        for (Long id : ids) {
+            String reason = reasons.getOrDefault(id, "도서를 찾을 수 없습니다. ID: " + id);
+            lineNosByBook.get(id).forEach(lineNo -> errors.put(lineNo, reason));
+        }
+    }
+}
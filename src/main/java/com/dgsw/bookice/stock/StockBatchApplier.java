@@ -0,0 +1,73 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 모아 둔 재고 변경 요청을 한 트랜잭션으로 처리 (bookice.stock.engine=combining)
+ * 도서 행을 잠근 뒤 도착 순서대로 요청별 성공/재고 부족을 판정하고, 도서별 순변경량만 JDBC 배치로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookice.stock.engine", havingValue = "combining")
+public class StockBatchApplier {
+
+    private final BookRepository bookRepository;
+    private final StockDeltaWriter stockDeltaWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 요청별 결과는 각 요청에 기록만 하며, 호출자에게는 커밋 이후 전달해야 한다
+     */
+    @Transactional
+    public void apply(List<StockRequest> batch) {
+        Set<Long> ids = new LinkedHashSet<>();
+        batch.forEach(request -> ids.add(request.bookId()));
+
+        Map<Long, Integer> stock = stockDeltaWriter.lockStock(ids);
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        Map<StockRequest, Integer> stockAfter = new HashMap<>();
+
+        for (StockRequest request : batch) {
+            Integer current = stock.get(request.bookId());
+            if (current == null) {
+                request.reject(new BookNotFoundException(request.bookId()));
+                continue;
+            }
+            if (current + request.delta() < 0) {
+                request.reject(new IllegalStateException("재고가 부족합니다. 현재 재고: " + current));
+                continue;
+            }
+            stock.put(request.bookId(), current + request.delta());
+            deltas.merge(request.bookId(), request.delta(), Integer::sum);
+            stockAfter.put(request, current + request.delta());
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+        stockDeltaWriter.write(deltas);
+
+        Map<Long, BookResponse> books = new HashMap<>();
+        for (BookResponse book : bookRepository.findResponsesByIdIn(deltas.keySet())) {
+            books.put(book.getId(), book);
+            eventPublisher.publishEvent(BookChangedEvent.stockChanged(book));
+        }
+        stockAfter.forEach((request, quantity) -> request.accept(
+                books.get(request.bookId()).toBuilder().stockQuantity(quantity).build()));
+    }
+}
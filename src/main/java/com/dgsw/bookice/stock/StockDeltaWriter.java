@@ -0,0 +1,214 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.entity.Book;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 재고 변경량을 books 테이블에 일괄 반영 (ledger, combining 방식과 일괄 주문/재고 조정에서 사용)
+ * 단건 재고 변경은 변경된 행을 같은 문장에서 돌려받는다 (database 방식에서 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class StockDeltaWriter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE books SET stock_quantity = stock_quantity + ?, updated_at = ? WHERE book_id = ?";
+
+    private static final String ADJUST_SQL =
+            "UPDATE books SET stock_quantity = stock_quantity + ?, updated_at = ? " +
+                    "WHERE book_id = ? AND stock_shards = 0 AND stock_quantity + ? >= 0";
+
+    private static final String LOCK_SQL =
+            "SELECT book_id, stock_quantity FROM books WHERE book_id IN (:ids) AND stock_shards = 0 " +
+                    "ORDER BY book_id FOR UPDATE";
+
+    /**
+     * H2 의 FINAL TABLE 로 UPDATE 가 반영된 행을 같은 문장에서 돌려받는다 (변경 후 다시 조회하지 않는다)
+     */
+    private static final String RETURNING_SELECT =
+            "SELECT book_id, title, author, category, publisher, isbn, price, stock_quantity, description, " +
+                    "created_at, updated_at FROM FINAL TABLE (";
+
+    private static final String DECREASE_RETURNING_SQL = RETURNING_SELECT +
+            "UPDATE books SET stock_quantity = stock_quantity - ?, updated_at = ? " +
+            "WHERE book_id = ? AND stock_shards = 0 AND stock_quantity >= ?)";
+
+    private static final String INCREASE_RETURNING_SQL = RETURNING_SELECT +
+            "UPDATE books SET stock_quantity = stock_quantity + ?, updated_at = ? " +
+            "WHERE book_id = ? AND stock_shards = 0)";
+
+    private static final RowMapper<BookResponse> RESPONSE_MAPPER = (rs, rowNum) -> BookResponse.builder()
+            .id(rs.getLong("book_id"))
+            .title(rs.getString("title"))
+            .author(rs.getString("author"))
+            .category(rs.getString("category"))
+            .publisher(rs.getString("publisher"))
+            .isbn(rs.getString("isbn"))
+            .price(rs.getInt("price"))
+            .stockQuantity(rs.getInt("stock_quantity"))
+            .description(rs.getString("description"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * 도서별 변경량을 한 트랜잭션의 JDBC 배치로 반영한다 (일부만 반영되는 일은 없다)
+     *
+     * @param deltas 도서 ID → 재고 변경량
+     */
+    @Transactional
+    public void write(Map<Long, Integer> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, now, id}));
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+    }
+
+    /**
+     * 재고가 음수가 되지 않는 도서만 변경량을 반영 (JDBC 배치 한 번, ID 순으로 갱신해 잠금 순서를 고정한다)
+     * 분할된 도서는 반영하지 않는다.
+     *
+     * @param deltas 도서 ID → 재고 변경량 (ID 순)
+     * @return 반영된 도서 ID
+     */
+    @Transactional
+    public Set<Long> adjust(SortedMap<Long, Integer> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(deltas.keySet());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, now, id, delta}));
+
+        int[] counts = jdbcTemplate.batchUpdate(ADJUST_SQL, args);
+
+        Set<Long> applied = new HashSet<>(ids.size() * 2);
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 본다
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                applied.add(ids.get(i));
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 조건부 재고 차감 후 변경된 도서 (재고가 충분할 때만, 분할된 도서는 변경하지 않는다)
+     *
+     * @return 변경된 도서 (비어 있으면 도서가 없거나 재고 부족, 또는 분할된 도서)
+     */
+    public Optional<BookResponse> decreaseReturning(Long id, int quantity, LocalDateTime now) {
+        return jdbcTemplate.query(DECREASE_RETURNING_SQL, RESPONSE_MAPPER,
+                quantity, Timestamp.valueOf(now), id, quantity).stream().findFirst();
+    }
+
+    /**
+     * 재고 증가 후 변경된 도서 (분할된 도서는 변경하지 않는다)
+     *
+     * @return 변경된 도서 (비어 있으면 도서가 없거나 분할된 도서)
+     */
+    public Optional<BookResponse> increaseReturning(Long id, int quantity, LocalDateTime now) {
+        return jdbcTemplate.query(INCREASE_RETURNING_SQL, RESPONSE_MAPPER,
+                quantity, Timestamp.valueOf(now), id).stream().findFirst();
+    }
+
+    /**
+     * 도서 행을 ID 순으로 잠그고 현재 재고 조회 (호출자의 트랜잭션이 끝날 때까지 잠금 유지)
+     * 재고가 분할된 도서는 샤드가 기준이므로 잠그지 않는다.
+     *
+     * @return 도서 ID → 재고 (없거나 분할된 도서는 빠진다)
+     */
+    public Map<Long, Integer> lockStock(Collection<Long> ids) {
+        Map<Long, Integer> stock = new HashMap<>(ids.size() * 2);
+        namedParameterJdbcTemplate.query(LOCK_SQL, Map.of("ids", ids),
+                rs -> {
+                    stock.put(rs.getLong("book_id"), rs.getInt("stock_quantity"));
+                });
+        return stock;
+    }
+
+    /**
+     * 트랜잭션 안에서 JDBC 로 바꿨다면 커밋 이후에 캐시를 비운다 (트랜잭션이 없으면 바로 비운다)
+     */
+    public void evictCachesAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictCaches();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCaches();
+            }
+        });
+    }
+
+    /**
+     * 커밋 이후 해당 도서의 2차 캐시 항목과 조회 캐시만 비운다
+     * 카탈로그 버전은 함께 발행하는 변경 이벤트가 올리므로 여기서는 올리지 않는다.
+     */
+    public void evictAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(List.of(id), true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(List.of(id), true);
+            }
+        });
+    }
+
+    /**
+     * JDBC 로 직접 바꿨으므로 Book 2차 캐시와 조회 캐시를 비우고 (l2cache 프로필이 아니면 아무 일도 하지 않는다)
+     * 목록 응답의 재고가 바뀌었으므로 재고 버전을 올린다
+     */
+    public void evictCaches() {
+        catalogVersion.bumpStock();
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Book.class);
+        cache.unwrap(org.hibernate.Cache.class).evictQueryRegions();
+    }
+
+    /**
+     * 지정한 도서의 Book 2차 캐시 항목만 비운다 (l2cache 프로필이 아니면 아무 일도 하지 않는다)
+     *
+     * @param queryRegions 조회 캐시도 비울지 (재고 유무가 바뀌어 재고 조건 조회 결과가 달라졌을 때)
+     */
+    public void evict(Collection<Long> ids, boolean queryRegions) {
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(Book.class, id));
+        if (queryRegions) {
+            cache.unwrap(org.hibernate.Cache.class).evictQueryRegions();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 묶음 처리를 기다리는 재고 변경 요청 한 건
+ * 처리 결과는 트랜잭션 안에서 기록해 두고, 커밋된 뒤에만 호출자에게 전달한다.
+ */
+final class StockRequest {
+
+    private final Long bookId;
+    private final int delta;
+    private final CompletableFuture<BookResponse> future = new CompletableFuture<>();
+
+    private BookResponse result;
+    private RuntimeException error;
+
+    StockRequest(Long bookId, int delta) {
+        this.bookId = bookId;
+        this.delta = delta;
+    }
+
+    Long bookId() {
+        return bookId;
+    }
+
+    /**
+     * 재고 변경량 (증가는 양수, 차감은 음수)
+     */
+    int delta() {
+        return delta;
+    }
+
+    CompletableFuture<BookResponse> future() {
+        return future;
+    }
+
+    void accept(BookResponse result) {
+        this.result = result;
+        this.error = null;
+    }
+
+    void reject(RuntimeException error) {
+        this.result = null;
+        this.error = error;
+    }
+
+    boolean isAccepted() {
+        return error == null;
+    }
+
+    /**
+     * 기록된 결과를 호출자에게 전달 (커밋 이후 호출)
+     */
+    void complete() {
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(result);
+        }
+    }
+
+    void fail(RuntimeException error) {
+        future.completeExceptionally(error);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * 재고 변경 처리 방식
+ * bookice.stock.engine 으로 선택한다 (database: 조건부 UPDATE, ledger: 인메모리 장부 + 지연 반영, combining: 묶음 커밋).
+ */
+public interface StockStore {
+
+    /**
+     * 재고 증가
+     *
+     * @return 변경 후 도서 정보
+     */
+    BookResponse increase(Long id, int quantity);
+
+    /**
+     * 재고 차감 (재고가 부족하면 IllegalStateException)
+     *
+     * @return 변경 후 도서 정보
+     */
+    BookResponse decrease(Long id, int quantity);
+
+    /**
+     * 여러 도서 재고를 한 트랜잭션으로 차감 (전부 성공하거나 전부 실패, 실패하면 CheckoutFailedException)
+     *
+     * @param quantities 도서 ID → 차감 수량 (ID 순, 이 순서로 행을 잠근다)
+     * @return 차감 후 도서 정보 (ID 순)
+     */
+    default List<BookResponse> checkout(SortedMap<Long, Integer> quantities) {
+        throw new IllegalStateException("현재 재고 처리 방식에서는 일괄 주문을 지원하지 않습니다.");
+    }
+
+    /**
+     * books 테이블 재고를 JDBC 로 직접 바꿔도 되는지 (일괄 재고 조정, 재고를 메모리에 들고 있는 방식이면 false)
+     */
+    default boolean supportsDirectWrites() {
+        return true;
+    }
+
+    /**
+     * 현재 재고 (이 처리 방식이 기준으로 삼는 값, 도서가 없으면 BookNotFoundException)
+     */
+    int currentStock(Long id);
+
+    /**
+     * 조회 결과에 현재 재고 반영 (DB 가 기준이면 그대로 반환)
+     */
+    default BookResponse overlay(BookResponse book) {
+        return book;
+    }
+
+    /**
+     * 인기 도서 재고 분할 (재고를 shards 개 행으로 나눠 동시 구매를 분산한다)
+     *
+     * @return 분할 후 도서 정보
+     */
+    default BookResponse shard(Long id, int shards) {
+        throw new IllegalStateException("현재 재고 처리 방식에서는 재고 분할을 지원하지 않습니다.");
+    }
+
+    /**
+     * 재고 분할 해제 (샤드 합계를 도서 재고로 되돌린다)
+     *
+     * @return 해제 후 도서 정보
+     */
+    default BookResponse unshard(Long id) {
+        throw new IllegalStateException("현재 재고 처리 방식에서는 재고 분할을 지원하지 않습니다.");
+    }
+}
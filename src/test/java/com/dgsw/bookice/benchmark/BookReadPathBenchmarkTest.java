@@ -0,0 +1,113 @@
+package com.dgsw.bookice.benchmark;
+
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 경로 비교: 엔티티 조회 후 DTO 변환 vs DTO 직접 프로젝션
+ * ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(QueryDslConfig.class)
+class BookReadPathBenchmarkTest {
+
+    private static final int BOOK_COUNT = 5_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        List<Book> books = new ArrayList<>(BOOK_COUNT);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            books.add(Book.builder()
+                    .title("벤치마크 도서 " + i)
+                    .author("저자 " + (i % 100))
+                    .category("카테고리 " + (i % 10))
+                    .publisher("출판사")
+                    .isbn(String.format("978%010d", i))
+                    .price(10000 + i)
+                    .stockQuantity(i % 5)
+                    .description("벤치마크용 도서 설명 " + i)
+                    .build());
+        }
+        bookRepository.saveAll(books);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("전체 목록 조회 - 프로젝션이 엔티티 변환보다 적게 할당한다")
+    void findAll_ProjectionVsEntity() {
+        Supplier<List<BookResponse>> entityPath = () -> bookRepository.findAll().stream()
+                .map(BookResponse::from)
+                .collect(Collectors.toList());
+        Supplier<List<BookResponse>> projectionPath = () -> bookRepository.findAllResponses();
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        System.out.printf("[benchmark] entity+map  : %,d ns/op, %,d bytes/op%n",
+                entity.nanos(), entity.bytes());
+        System.out.printf("[benchmark] projection  : %,d ns/op, %,d bytes/op%n",
+                projection.nanos(), projection.bytes());
+
+        assertThat(projection.bytes()).isLessThan(entity.bytes());
+    }
+
+    private Result measure(Supplier<List<BookResponse>> path) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            assertThat(path.get()).hasSize(BOOK_COUNT);
+            entityManager.clear();
+        }
+
+        long nanos = 0;
+        long bytes = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+            long startNanos = System.nanoTime();
+
+            List<BookResponse> responses = path.get();
+
+            nanos += System.nanoTime() - startNanos;
+            bytes += threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+            assertThat(responses).hasSize(BOOK_COUNT);
+
+            // 영속성 컨텍스트에 쌓인 엔티티는 다음 라운드에 영향을 주지 않도록 비운다
+            entityManager.clear();
+        }
+
+        return new Result(nanos / MEASURE_ROUNDS, bytes / MEASURE_ROUNDS);
+    }
+
+    private record Result(long nanos, long bytes) {
+    }
+}
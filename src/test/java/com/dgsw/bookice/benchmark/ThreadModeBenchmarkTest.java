@@ -0,0 +1,156 @@
+package com.dgsw.bookice.benchmark;
+
+import com.dgsw.bookice.BookiceApplication;
+import com.dgsw.bookice.dto.request.BookBulkCreateRequest;
+import com.dgsw.bookice.dto.request.BookCreateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 처리 스레드 비교: 플랫폼 스레드(Tomcat 작업 스레드 풀) vs 가상 스레드
+ * 모드마다 서버를 띄워 커넥션 풀 크기를 같게 두고, 같은 동시 부하로 처리량과 지연 백분위를 잰다.
+ * 매 요청이 DB 를 조회하도록 캐시를 거치지 않는 Slice 검색을 호출한다.
+ * ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class ThreadModeBenchmarkTest {
+
+    private static final int BOOK_COUNT = 2_000;
+    private static final int POOL_SIZE = 10;
+    private static final int TOMCAT_THREADS = 50;
+    private static final int CLIENTS = 400;
+    private static final int WARM_UP_REQUESTS_PER_CLIENT = 5;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Test
+    @DisplayName("동시 요청 처리 - 같은 커넥션 풀 크기에서 플랫폼/가상 스레드 모드의 처리량과 지연 비교")
+    void platformVsVirtual() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        print("platform", platform);
+        print("virtual ", virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookiceApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--logging.level.com.dgsw.bookice=WARN",
+                "--logging.level.org.hibernate.SQL=WARN");
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            seed(http, port, context.getBean(ObjectMapper.class));
+
+            load(http, port, clients, WARM_UP_REQUESTS_PER_CLIENT);
+            return load(http, port, clients, REQUESTS_PER_CLIENT);
+        }
+    }
+
+    private void seed(HttpClient http, int port, ObjectMapper objectMapper) throws Exception {
+        List<BookCreateRequest> books = new ArrayList<>(BOOK_COUNT);
+        for (int i = 0; i < BOOK_COUNT; i++) {
+            books.add(BookCreateRequest.builder()
+                    .title("벤치마크 도서 " + i)
+                    .author("저자 " + (i % 100))
+                    .category("카테고리 " + (i % 10))
+                    .isbn(String.format("978%010d", i))
+                    .price(10000 + i)
+                    .stockQuantity(i % 5)
+                    .build());
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/books/bulk"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(new BookBulkCreateRequest(books))))
+                .build();
+        assertThat(http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()).isEqualTo(201);
+    }
+
+    /**
+     * 클라이언트마다 요청을 순서대로 보내고 요청별 지연을 모은다
+     */
+    private Result load(HttpClient http, int port, ExecutorService clients, int requestsPerClient) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+
+        long startedAt = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            int client = c;
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[requestsPerClient];
+                for (int i = 0; i < requestsPerClient; i++) {
+                    int page = (client * requestsPerClient + i) % (BOOK_COUNT / PAGE_SIZE);
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                            + "/api/books/search/slice?page=" + page + "&size=" + PAGE_SIZE)).GET().build();
+                    long sentAt = System.nanoTime();
+                    try {
+                        if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - sentAt;
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[CLIENTS * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(all);
+        return new Result(all.length * 1_000_000_000.0 / elapsed,
+                percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1], failures.get());
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static void print(String mode, Result result) {
+        System.out.printf("[benchmark] %s : %,.0f req/s, p50 %,d us, p99 %,d us, max %,d us, 실패 %d%n",
+                mode, result.throughput(), result.p50() / 1_000, result.p99() / 1_000, result.max() / 1_000,
+                result.failures());
+    }
+
+    private record Result(double throughput, long p50, long p99, long max, int failures) {
+    }
+}
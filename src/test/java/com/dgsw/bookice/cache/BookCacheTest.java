@@ -0,0 +1,63 @@
+package com.dgsw.bookice.cache;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookCacheTest {
+
+    private BookCache bookCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        bookCache = new BookCache(100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("커밋된 재고 변경 이벤트로 캐시가 무효화된다")
+    void onBookChanged_Evicts() {
+        // given
+        load(1L, 10);
+        BookResponse after = BookResponse.builder().id(1L).stockQuantity(9).build();
+
+        // when
+        bookCache.onBookChanged(BookChangedEvent.stockChanged(after));
+        load(1L, 9);
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(bookCache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 도서의 변경은 캐시에 영향을 주지 않는다")
+    void onBookChanged_OtherBook() {
+        // given
+        load(1L, 10);
+        BookResponse other = BookResponse.builder().id(2L).build();
+
+        // when
+        bookCache.onBookChanged(BookChangedEvent.deleted(other));
+        load(1L, 10);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(bookCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    private BookResponse load(Long id, int stockQuantity) {
+        return bookCache.get(id, bookId -> {
+            loads.incrementAndGet();
+            return BookResponse.builder().id(bookId).stockQuantity(stockQuantity).build();
+        });
+    }
+}
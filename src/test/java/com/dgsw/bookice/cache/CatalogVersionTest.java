@@ -0,0 +1,37 @@
+package com.dgsw.bookice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogVersionTest {
+
+    @Test
+    @DisplayName("변경마다 버전과 ETag 가 바뀌고, 변경 시각은 뒤로 가지 않는다")
+    void bump_ChangesEtag() {
+        CatalogVersion catalogVersion = new CatalogVersion();
+        CatalogVersion.Stamp before = catalogVersion.current();
+
+        catalogVersion.bump();
+        CatalogVersion.Stamp after = catalogVersion.current();
+
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+        assertThat(after.modifiedAt()).isGreaterThanOrEqualTo(before.modifiedAt());
+        assertThat(catalogVersion.etag(after)).isNotEqualTo(catalogVersion.etag(before)).startsWith("\"");
+    }
+
+    @Test
+    @DisplayName("재고 변경은 도서 정보 버전을 바꾸지 않지만 ETag 는 바꾼다")
+    void bumpStock_ChangesEtagOnly() {
+        CatalogVersion catalogVersion = new CatalogVersion();
+        CatalogVersion.Stamp before = catalogVersion.current();
+
+        catalogVersion.bumpStock();
+        CatalogVersion.Stamp after = catalogVersion.current();
+
+        assertThat(after.version()).isEqualTo(before.version());
+        assertThat(after.stockVersion()).isEqualTo(before.stockVersion() + 1);
+        assertThat(catalogVersion.etag(after)).isNotEqualTo(catalogVersion.etag(before));
+    }
+}
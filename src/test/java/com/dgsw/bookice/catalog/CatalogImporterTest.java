@@ -0,0 +1,156 @@
+package com.dgsw.bookice.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogImporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private CatalogBatchWriter catalogBatchWriter;
+
+    private CatalogImporter importer;
+
+    private final Queue<Long> written = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        importer = new CatalogImporter(catalogBatchWriter, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), directory.toString(), 2, 2, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importer.shutdown();
+    }
+
+    @Test
+    @DisplayName("NDJSON 가져오기 - 잘못된 줄과 파일 안 중복 ISBN 은 건너뛰고 나머지를 묶어 저장한다")
+    void importNdjson() throws Exception {
+        // given
+        Files.writeString(directory.resolve("catalog.ndjson"), String.join("\n",
+                book("첫 번째", "9780000000001", "10000"),
+                book("", "9780000000002", "10000"),
+                book("중복", "9780000000001", "10000"),
+                book("가격 오류", "9780000000003", "\"abc\""),
+                book("다섯 번째", "9780000000005", "10000")));
+        givenWriterRecordsLines();
+
+        // when
+        CatalogImportJob job = await(importer.start("catalog.ndjson", CatalogFormat.NDJSON, 0));
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(CatalogImportJob.Status.COMPLETED);
+        assertThat(written).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(job.getReadLines()).isEqualTo(5);
+        assertThat(job.getImportedBooks()).isEqualTo(2);
+        assertThat(job.getInvalidLines()).isEqualTo(2);
+        assertThat(job.getDuplicateLines()).isEqualTo(1);
+        assertThat(job.getCommittedLine()).isEqualTo(5);
+        assertThat(job.getErrors()).hasSize(3);
+        assertThat(Files.readAllLines(job.getErrorReport())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("CSV 이어서 가져오기 - resumeAfterLine 까지는 건너뛴다")
+    void importCsv_Resume() throws Exception {
+        // given
+        Files.writeString(directory.resolve("catalog.csv"), String.join("\n",
+                "title,author,category,isbn,price,stockQuantity",
+                "첫 번째,저자,소설,9780000000001,10000,1",
+                "두 번째,저자,소설,9780000000002,10000,1",
+                "세 번째,저자,소설,9780000000003,10000,1"));
+        givenWriterRecordsLines();
+
+        // when
+        CatalogImportJob job = await(importer.start("catalog.csv", CatalogFormat.CSV, 1));
+
+        // then
+        assertThat(written).containsExactly(2L, 3L);
+        assertThat(job.getReadLines()).isEqualTo(2);
+        assertThat(job.getCommittedLine()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장 실패 - 오류 보고서에 기록된 실패 묶음은 넘어가 커밋 위치가 계속 나아간다")
+    void importNdjson_BatchFailure() throws Exception {
+        // given
+        importer.shutdown();
+        importer = new CatalogImporter(catalogBatchWriter, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), directory.toString(), 1, 1, false);
+        Files.writeString(directory.resolve("catalog.ndjson"), String.join("\n",
+                book("첫 번째", "9780000000001", "10000"),
+                book("두 번째", "9780000000002", "10000"),
+                book("세 번째", "9780000000003", "10000")));
+        given(catalogBatchWriter.write(anyList())).willAnswer(invocation -> {
+            List<CatalogLine> lines = invocation.getArgument(0);
+            if (lines.get(0).lineNo() == 2) {
+                throw new IllegalStateException("DB 오류");
+            }
+            return List.of();
+        });
+
+        // when
+        CatalogImportJob job = await(importer.start("catalog.ndjson", CatalogFormat.NDJSON, 0));
+
+        // then
+        assertThat(job.getImportedBooks()).isEqualTo(2);
+        assertThat(job.getFailedLines()).isEqualTo(1);
+        assertThat(job.getCommittedLine()).isEqualTo(3);
+        assertThat(job.getErrors()).containsExactly("2~2행: 저장 실패 - DB 오류");
+        assertThat(Files.readAllLines(job.getErrorReport())).containsExactly("2~2행: 저장 실패 - DB 오류");
+    }
+
+    @Test
+    @DisplayName("가져오기 실패 - 가져오기 디렉터리 밖의 파일")
+    void start_Fail_OutsideDirectory() {
+        // when & then
+        assertThatThrownBy(() -> importer.start("../secret.csv", CatalogFormat.CSV, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void givenWriterRecordsLines() {
+        given(catalogBatchWriter.write(anyList())).willAnswer(invocation -> {
+            List<CatalogLine> lines = invocation.getArgument(0);
+            lines.forEach(line -> written.add(line.lineNo()));
+            return List.of();
+        });
+    }
+
+    private static String book(String title, String isbn, String price) {
+        return "{\"title\":\"" + title + "\",\"author\":\"저자\",\"category\":\"소설\",\"isbn\":\"" + isbn
+                + "\",\"price\":" + price + ",\"stockQuantity\":1}";
+    }
+
+    private static CatalogImportJob await(CatalogImportJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (job.getStatus() == CatalogImportJob.Status.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(job.getStatus()).isNotEqualTo(CatalogImportJob.Status.RUNNING);
+        return job;
+    }
+}
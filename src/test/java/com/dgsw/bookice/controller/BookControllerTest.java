@@ -1,9 +1,21 @@
 package com.dgsw.bookice.controller;
 
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.dto.request.BookBulkCreateRequest;
 import com.dgsw.bookice.dto.request.BookCreateRequest;
 import com.dgsw.bookice.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.dto.request.CheckoutRequest;
+import com.dgsw.bookice.dto.request.StockAdjustmentRequest;
 import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.dto.response.BookVersion;
+import com.dgsw.bookice.dto.response.CatalogImportResponse;
+import com.dgsw.bookice.dto.response.CursorPageResponse;
+import com.dgsw.bookice.dto.response.ReservationResponse;
+import com.dgsw.bookice.dto.response.StockAdjustmentResponse;
 import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.exception.CatalogImportNotFoundException;
+import com.dgsw.bookice.exception.CheckoutFailedException;
+import com.dgsw.bookice.exception.ReservationNotFoundException;
 import com.dgsw.bookice.service.BookService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,20 +28,35 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -42,6 +69,9 @@ class BookControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CatalogVersion catalogVersion;
+
     @MockBean
     private BookService bookService;
 
@@ -129,6 +159,44 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.error").value("Bad Request"));
     }
 
+    @Test
+    @DisplayName("POST /api/books/bulk - 도서 일괄 등록 성공")
+    void createBooks_Success() throws Exception {
+        // given
+        BookBulkCreateRequest request = BookBulkCreateRequest.builder().books(List.of(createRequest)).build();
+        given(bookService.createBooks(any(BookBulkCreateRequest.class))).willReturn(List.of(bookResponse));
+
+        // when & then
+        mockMvc.perform(post("/api/books/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].title").value("클린 코드"));
+    }
+
+    @Test
+    @DisplayName("POST /api/books/bulk - 한 권이라도 검증에 실패하면 400")
+    void createBooks_Fail_InvalidBook() throws Exception {
+        // given
+        BookCreateRequest invalid = BookCreateRequest.builder()
+                .title("")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .price(33000)
+                .stockQuantity(100)
+                .build();
+        BookBulkCreateRequest request = BookBulkCreateRequest.builder().books(List.of(createRequest, invalid)).build();
+
+        // when & then
+        mockMvc.perform(post("/api/books/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("POST /api/books - 도서 등록 실패 (음수 가격)")
     void createBook_Fail_NegativePrice() throws Exception {
@@ -154,6 +222,7 @@ class BookControllerTest {
     @DisplayName("GET /api/books/{id} - 도서 단건 조회 성공")
     void getBook_Success() throws Exception {
         // given
+        given(bookService.getBookVersion(1L)).willReturn(BookVersion.from(bookResponse));
         given(bookService.getBook(1L)).willReturn(bookResponse);
 
         // when & then
@@ -167,11 +236,38 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.data.author").value("로버트 C. 마틴"));
     }
 
+    @Test
+    @DisplayName("GET /api/books/{id} - ETag 가 같으면 도서를 읽지 않고 본문 없이 304")
+    void getBook_NotModified() throws Exception {
+        // given
+        given(bookService.getBookVersion(1L)).willReturn(BookVersion.from(bookResponse));
+        given(bookService.getBook(1L)).willReturn(bookResponse);
+        String etag = mockMvc.perform(get("/api/books/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/books/1").header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        verify(bookService, times(1)).getBook(1L);
+
+        BookResponse changed = bookResponse.toBuilder().stockQuantity(99).build();
+        given(bookService.getBookVersion(1L)).willReturn(BookVersion.from(changed));
+        given(bookService.getBook(1L)).willReturn(changed);
+        mockMvc.perform(get("/api/books/1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.stockQuantity").value(99));
+    }
+
     @Test
     @DisplayName("GET /api/books/{id} - 도서 단건 조회 실패 (존재하지 않음)")
     void getBook_Fail_NotFound() throws Exception {
         // given
-        given(bookService.getBook(999L)).willThrow(new BookNotFoundException(999L));
+        given(bookService.getBookVersion(999L)).willThrow(new BookNotFoundException(999L));
 
         // when & then
         mockMvc.perform(get("/api/books/999"))
@@ -211,6 +307,77 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.data[1].title").value("이펙티브 자바"));
     }
 
+    @Test
+    @DisplayName("GET /api/books - 카탈로그 버전이 같으면 조회 없이 304, 바뀌면 다시 조회")
+    void getAllBooks_NotModified() throws Exception {
+        // given
+        given(bookService.getAllBooks()).willReturn(List.of(bookResponse));
+        String etag = mockMvc.perform(get("/api/books"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/api/books").header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+        verify(bookService, times(1)).getAllBooks();
+
+        catalogVersion.bump();
+        mockMvc.perform(get("/api/books").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+        verify(bookService, times(2)).getAllBooks();
+    }
+
+    @Test
+    @DisplayName("GET /api/books/export - NDJSON 스트리밍")
+    void exportBooks_Ndjson() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<BookResponse> consumer = invocation.getArgument(0);
+            consumer.accept(bookResponse);
+            consumer.accept(bookResponse);
+            return null;
+        }).when(bookService).exportAllBooks(any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/books/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(mvcResult -> {
+                    String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+                    assertThat(lines).hasSize(2);
+                    assertThat(lines[0]).contains("\"id\":1");
+                });
+    }
+
+    @Test
+    @DisplayName("GET /api/books/export?format=json - JSON 배열 스트리밍")
+    void exportBooks_JsonArray() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<BookResponse> consumer = invocation.getArgument(0);
+            consumer.accept(bookResponse);
+            return null;
+        }).when(bookService).exportAllBooks(any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/books/export").param("format", "json"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
     @Test
     @DisplayName("GET /api/books/search - 키워드 검색 (페이징)")
     void searchBooks_Success() throws Exception {
@@ -236,6 +403,24 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.data.totalPages").value(1));
     }
 
+    @Test
+    @DisplayName("GET /api/books/search/slice - 키워드 검색 (Slice)")
+    void searchBooksSlice_Success() throws Exception {
+        // given
+        given(bookService.searchBooksSlice(eq("클린"), any()))
+                .willReturn(new SliceImpl<>(List.of(bookResponse), PageRequest.of(0, 1), true));
+
+        // when & then
+        mockMvc.perform(get("/api/books/search/slice")
+                        .param("keyword", "클린")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("클린 코드"))
+                .andExpect(jsonPath("$.data.last").value(false))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     @Test
     @DisplayName("GET /api/books/search/advanced - 고급 검색 (QueryDSL)")
     void searchBooksAdvanced_Success() throws Exception {
@@ -246,7 +431,7 @@ class BookControllerTest {
                 1
         );
         given(bookService.searchBooksByConditions(
-                eq("클린"), eq("마틴"), eq("프로그래밍"), any()
+                eq("클린"), eq("마틴"), eq("프로그래밍"), eq(false), any()
         )).willReturn(bookPage);
 
         // when & then
@@ -262,6 +447,44 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.data.content[0].title").value("클린 코드"));
     }
 
+    @Test
+    @DisplayName("GET /api/books/search/advanced/cursor - 커서 검색")
+    void searchBooksAdvancedByCursor_Success() throws Exception {
+        // given
+        CursorPageResponse<BookResponse> cursorPage =
+                CursorPageResponse.of(List.of(bookResponse), 1, "next-cursor");
+        given(bookService.searchBooksByConditionsAfter(
+                isNull(), isNull(), eq("프로그래밍"), eq(true), eq("prev-cursor"), eq(1)
+        )).willReturn(cursorPage);
+
+        // when & then
+        mockMvc.perform(get("/api/books/search/advanced/cursor")
+                        .param("category", "프로그래밍")
+                        .param("inStock", "true")
+                        .param("cursor", "prev-cursor")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("클린 코드"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    @DisplayName("GET /api/books/search/advanced/cursor - 잘못된 커서")
+    void searchBooksAdvancedByCursor_Fail_InvalidCursor() throws Exception {
+        // given
+        given(bookService.searchBooksByConditionsAfter(any(), any(), any(), anyBoolean(), eq("broken"), anyInt()))
+                .willThrow(new IllegalArgumentException("잘못된 커서입니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/books/search/advanced/cursor")
+                        .param("cursor", "broken"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다."));
+    }
+
     @Test
     @DisplayName("GET /api/books/search/title - 제목으로 검색")
     void searchByTitle_Success() throws Exception {
@@ -343,6 +566,38 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.data[0].stockQuantity").value(100));
     }
 
+    @Test
+    @DisplayName("GET /api/books/search/price/page - 가격 범위 검색 (페이징) 성공")
+    void searchByPriceRangePage_Success() throws Exception {
+        // given
+        Page<BookResponse> page = new PageImpl<>(Arrays.asList(bookResponse), PageRequest.of(0, 10), 1);
+        given(bookService.searchByPriceRange(eq(30000), eq(35000), any())).willReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/books/search/price/page")
+                        .param("minPrice", "30000")
+                        .param("maxPrice", "35000"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content[0].price").value(33000))
+                .andExpect(jsonPath("$.data.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/books/categories/counts - 카테고리별 도서 수 조회 성공")
+    void getCategoryCounts_Success() throws Exception {
+        // given
+        given(bookService.getCategoryCounts()).willReturn(Map.of("프로그래밍", 2L));
+
+        // when & then
+        mockMvc.perform(get("/api/books/categories/counts"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.프로그래밍").value(2));
+    }
+
     @Test
     @DisplayName("PUT /api/books/{id} - 도서 수정 성공")
     void updateBook_Success() throws Exception {
@@ -536,4 +791,187 @@ class BookControllerTest {
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /api/books/{id}/stock/shards - 재고 분할 성공")
+    void shardStock_Success() throws Exception {
+        // given
+        BookResponse shardedResponse = BookResponse.builder()
+                .id(1L)
+                .title("클린 코드")
+                .stockQuantity(100)
+                .build();
+
+        given(bookService.shardStock(1L, 8)).willReturn(shardedResponse);
+
+        // when & then
+        mockMvc.perform(post("/api/books/1/stock/shards")
+                        .param("count", "8"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("재고가 분할되었습니다."))
+                .andExpect(jsonPath("$.data.stockQuantity").value(100));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/books/{id}/stock/shards - 재고 분할 해제 실패 (분할되지 않은 도서)")
+    void unshardStock_Fail_NotSharded() throws Exception {
+        // given
+        given(bookService.unshardStock(1L))
+                .willThrow(new IllegalStateException("재고가 분할되지 않은 도서입니다. ID: 1"));
+
+        // when & then
+        mockMvc.perform(delete("/api/books/1/stock/shards"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/books/{id}/reservations - 재고 예약 성공")
+    void reserveStock_Success() throws Exception {
+        // given
+        ReservationResponse reservation = ReservationResponse.builder()
+                .reservationId("r-1")
+                .bookId(1L)
+                .quantity(2)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+
+        given(bookService.reserveStock(1L, 2, Duration.ofSeconds(600))).willReturn(reservation);
+
+        // when & then
+        mockMvc.perform(post("/api/books/1/reservations")
+                        .param("quantity", "2")
+                        .param("ttlSeconds", "600"))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.reservationId").value("r-1"))
+                .andExpect(jsonPath("$.data.quantity").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /api/books/reservations/{reservationId}/confirm - 예약 확정 실패 (만료/없음)")
+    void confirmReservation_Fail_NotFound() throws Exception {
+        // given
+        given(bookService.confirmReservation("r-1")).willThrow(new ReservationNotFoundException("r-1"));
+
+        // when & then
+        mockMvc.perform(post("/api/books/reservations/r-1/confirm"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/books/checkout - 일괄 주문 실패 시 도서별 사유를 반환한다")
+    void checkout_Fail_PerLineErrors() throws Exception {
+        // given
+        CheckoutRequest request = CheckoutRequest.builder()
+                .lines(List.of(new CheckoutRequest.Line(1L, 2), new CheckoutRequest.Line(2L, 30)))
+                .build();
+
+        given(bookService.checkout(any(CheckoutRequest.class)))
+                .willThrow(new CheckoutFailedException(Map.of(2L, "재고가 부족합니다. 현재 재고: 5")));
+
+        // when & then
+        mockMvc.perform(post("/api/books/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("bookId:2"))
+                .andExpect(jsonPath("$.fieldErrors[0].message").value("재고가 부족합니다. 현재 재고: 5"));
+    }
+
+    @Test
+    @DisplayName("POST /api/books/checkout - 주문 항목이 비어 있으면 400")
+    void checkout_Fail_EmptyLines() throws Exception {
+        // given
+        CheckoutRequest request = CheckoutRequest.builder().lines(List.of()).build();
+
+        // when & then
+        mockMvc.perform(post("/api/books/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/books/stock/adjustments - NDJSON 본문을 한 줄씩 읽어 넘긴다")
+    void adjustStockInBulk_Ndjson() throws Exception {
+        // given
+        String body = "{\"bookId\":1,\"delta\":10}\n{\"isbn\":\"9788966260959\",\"delta\":-2}\n";
+
+        given(bookService.adjustStockInBulk(any())).willAnswer(invocation -> {
+            Iterator<StockAdjustmentRequest> lines = invocation.getArgument(0);
+            List<StockAdjustmentRequest> read = new ArrayList<>();
+            lines.forEachRemaining(read::add);
+            assertThat(read).extracting(StockAdjustmentRequest::getDelta).containsExactly(10, -2);
+            assertThat(read.get(1).getIsbn()).isEqualTo("9788966260959");
+            return StockAdjustmentResponse.of(List.of(StockAdjustmentResponse.Chunk.builder()
+                    .chunk(1).firstLine(1).lines(read.size()).applied(read.size()).rejected(0).errors(List.of())
+                    .build()));
+        });
+
+        // when & then
+        mockMvc.perform(post("/api/books/stock/adjustments")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.lines").value(2))
+                .andExpect(jsonPath("$.data.applied").value(2))
+                .andExpect(jsonPath("$.data.chunks[0].firstLine").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/books/stock/adjustments - 읽을 수 없는 줄이 있으면 400")
+    void adjustStockInBulk_Fail_MalformedLine() throws Exception {
+        // given
+        given(bookService.adjustStockInBulk(any())).willAnswer(invocation -> {
+            Iterator<StockAdjustmentRequest> lines = invocation.getArgument(0);
+            lines.forEachRemaining(line -> { });
+            return null;
+        });
+
+        // when & then
+        mockMvc.perform(post("/api/books/stock/adjustments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"bookId\":1,\"delta\":1}, {\"bookId\":\"x\"}]"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/books/imports - 카탈로그 가져오기를 시작하면 202")
+    void startCatalogImport_Accepted() throws Exception {
+        // given
+        CatalogImportResponse response = CatalogImportResponse.builder()
+                .jobId("job-1")
+                .file("catalog.csv")
+                .format("CSV")
+                .status("RUNNING")
+                .build();
+        given(bookService.startCatalogImport("catalog.csv", "csv", 0L)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/books/imports")
+                        .param("file", "catalog.csv"))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("GET /api/books/imports/{jobId} - 없는 작업이면 404")
+    void getCatalogImport_NotFound() throws Exception {
+        // given
+        given(bookService.getCatalogImport("missing")).willThrow(new CatalogImportNotFoundException("missing"));
+
+        // when & then
+        mockMvc.perform(get("/api/books/imports/missing"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+}
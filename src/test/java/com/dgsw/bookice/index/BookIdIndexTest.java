@@ -0,0 +1,53 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookIdIndexTest {
+
+    private BookIdIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookIdIndex();
+        index.add(book(1L));
+        index.add(book(3L));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 모든 ID 가 있을 수 있다고 답한다")
+    void mightExist_NotReady() {
+        assertThat(index.mightExist(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록/삭제가 반영되고, int 범위를 넘는 ID 는 없다고 답한다")
+    void mightExist_AfterChanges() {
+        index.markReady();
+        index.add(book(2L));
+        index.remove(book(3L));
+
+        assertThat(index.mightExist(1L)).isTrue();
+        assertThat(index.mightExist(2L)).isTrue();
+        assertThat(index.mightExist(3L)).isFalse();
+        assertThat(index.mightExist(Integer.MAX_VALUE + 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ID 가 int 범위를 넘으면 비활성화되어 항상 있을 수 있다고 답한다")
+    void add_LargeIdDisables() {
+        index.markReady();
+        index.add(book(Integer.MAX_VALUE + 1L));
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.mightExist(2L)).isTrue();
+    }
+
+    private BookResponse book(Long id) {
+        return BookResponse.builder().id(id).build();
+    }
+}
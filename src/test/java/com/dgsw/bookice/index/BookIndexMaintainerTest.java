@@ -0,0 +1,115 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.repository.BookRepository;
+import com.dgsw.bookice.stock.StockStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookIndexMaintainerTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private StockStore stockStore;
+
+    private PriceIndex priceIndex;
+    private InStockIndex inStockIndex;
+    private BookIndexMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        priceIndex = new PriceIndex();
+        inStockIndex = new InStockIndex();
+        maintainer = new BookIndexMaintainer(bookRepository, stockStore, List.of(priceIndex, inStockIndex));
+        priceIndex.add(book(33000, 10));
+        inStockIndex.add(book(33000, 10));
+        priceIndex.markReady();
+        inStockIndex.markReady();
+    }
+
+    @Test
+    @DisplayName("수정 이벤트가 순서가 뒤바뀌어 도착해도 다시 읽은 현재 값으로 반영한다")
+    void onBookChanged_Updated_ReloadsCurrentValue() {
+        // given - 33000 → 36000 → 30000 으로 두 번 수정됐고, 두 번째 이벤트가 먼저 반영된다
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.of(book(30000, 10)));
+        given(stockStore.overlay(any(BookResponse.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        maintainer.onBookChanged(BookChangedEvent.updated(book(36000, 10), book(30000, 10)));
+        maintainer.onBookChanged(BookChangedEvent.updated(book(33000, 10), book(36000, 10)));
+
+        // then
+        assertThat(priceIndex.find(30000, 30000, 0, 10).ids()).containsExactly(1L);
+        assertThat(priceIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수정 이벤트 반영 전에 삭제된 도서는 다시 추가하지 않는다")
+    void onBookChanged_Updated_SkipsDeletedBook() {
+        // given
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.empty());
+
+        // when
+        maintainer.onBookChanged(BookChangedEvent.deleted(book(33000, 10)));
+        maintainer.onBookChanged(BookChangedEvent.updated(book(33000, 10), book(36000, 10)));
+
+        // then
+        assertThat(priceIndex.size()).isZero();
+        assertThat(inStockIndex.contains(1L)).isFalse();
+        verify(stockStore, never()).overlay(any(BookResponse.class));
+    }
+
+    @Test
+    @DisplayName("뒤늦게 도착한 재고 0 이벤트는 현재 재고를 다시 읽어 입고된 도서를 지우지 않는다")
+    void onBookChanged_StockChanged_StaleDecrease() {
+        // given
+        given(stockStore.currentStock(1L)).willReturn(5);
+
+        // when
+        maintainer.onBookChanged(BookChangedEvent.stockChanged(book(33000, 0)));
+
+        // then
+        assertThat(inStockIndex.contains(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재고 이벤트 반영 전에 삭제된 도서는 재고 없음으로 본다")
+    void onBookChanged_StockChanged_DeletedBook() {
+        // given
+        given(stockStore.currentStock(1L)).willThrow(new BookNotFoundException(1L));
+
+        // when
+        maintainer.onBookChanged(BookChangedEvent.stockChanged(book(33000, 0)));
+
+        // then
+        assertThat(inStockIndex.contains(1L)).isFalse();
+    }
+
+    private BookResponse book(int price, int stockQuantity) {
+        return BookResponse.builder()
+                .id(1L)
+                .title("클린 코드")
+                .category("프로그래밍")
+                .price(price)
+                .stockQuantity(stockQuantity)
+                .build();
+    }
+}
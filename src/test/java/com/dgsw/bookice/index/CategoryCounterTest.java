@@ -0,0 +1,79 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryCounterTest {
+
+    private CategoryCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new CategoryCounter();
+        counter.add(book(1L, "프로그래밍"));
+        counter.add(book(2L, "프로그래밍"));
+        counter.add(book(3L, "AI"));
+        counter.markReady();
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 및 삭제가 집계에 반영된다")
+    void replaceAndRemove() {
+        counter.replace(book(1L, "프로그래밍"), book(1L, "AI"));
+        counter.remove(book(2L, "프로그래밍"));
+
+        assertThat(counter.snapshot()).containsExactly(Map.entry("AI", 2L));
+    }
+
+    @Test
+    @DisplayName("같은 도서를 다시 추가해도 한 번만 센다 (적재 중 도착한 등록 이벤트)")
+    void add_Idempotent() {
+        counter.add(book(3L, "AI"));
+        counter.add(book(4L, "AI"));
+        counter.add(book(4L, "AI"));
+
+        assertThat(counter.snapshot()).containsEntry("AI", 2L).containsEntry("프로그래밍", 2L);
+    }
+
+    @Test
+    @DisplayName("보정 후에도 이벤트가 보정값 위에 반영된다")
+    void reconcile_ThenEvents() {
+        counter.reconcile(Map.of("프로그래밍", 3L, "AI", 1L), counter.version());
+
+        counter.add(book(5L, "프로그래밍"));
+        counter.remove(book(3L, "AI"));
+
+        assertThat(counter.snapshot()).containsExactly(Map.entry("프로그래밍", 4L));
+    }
+
+    @Test
+    @DisplayName("DB 집계와 다르면 DB 값으로 보정한다")
+    void reconcile_Corrects() {
+        boolean reconciled = counter.reconcile(Map.of("프로그래밍", 3L, "AI", 1L), counter.version());
+
+        assertThat(reconciled).isTrue();
+        assertThat(counter.snapshot()).containsEntry("프로그래밍", 3L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 변경이 반영되었으면 대조를 건너뛴다")
+    void reconcile_SkipsWhenChanged() {
+        long version = counter.version();
+        counter.add(book(4L, "AI"));
+
+        boolean reconciled = counter.reconcile(Map.of("프로그래밍", 2L, "AI", 1L), version);
+
+        assertThat(reconciled).isFalse();
+        assertThat(counter.snapshot()).containsEntry("AI", 2L);
+    }
+
+    private BookResponse book(Long id, String category) {
+        return BookResponse.builder().id(id).category(category).build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InStockIndexTest {
+
+    private InStockIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InStockIndex();
+        index.add(book(1L, 100));
+        index.add(book(2L, 0));
+        index.add(book(3L, 70));
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("재고가 0 을 넘나들 때 비트가 바뀐다")
+    void changeStock_CrossesZero() {
+        index.changeStock(book(1L, 0), id -> 0);
+        index.changeStock(book(2L, 5), id -> 5);
+        index.changeStock(book(3L, 69), id -> 69);
+
+        assertThat(index.findAll()).containsExactly(2L, 3L);
+        assertThat(index.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비트가 바뀔 때만 버전이 올라간다")
+    void version_ChangesOnlyWhenBitFlips() {
+        long before = index.version();
+
+        index.changeStock(book(3L, 69), id -> 69);
+        long unchanged = index.version();
+        index.changeStock(book(1L, 0), id -> 0);
+
+        assertThat(unchanged).isEqualTo(before);
+        assertThat(index.version()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("비트를 바꿔야 하는 재고 변경은 현재 재고를 다시 읽어 확인한다 (뒤늦게 도착한 이벤트)")
+    void changeStock_StaleEvent_RereadsCurrentStock() {
+        AtomicInteger reads = new AtomicInteger();
+
+        // 0 으로 차감된 뒤 다시 입고된 도서의 차감 이벤트가 나중에 도착한다
+        index.changeStock(book(1L, 0), id -> {
+            reads.incrementAndGet();
+            return 10;
+        });
+        // 비트와 같은 값의 이벤트는 다시 읽지 않는다
+        index.changeStock(book(3L, 5), id -> {
+            reads.incrementAndGet();
+            return 0;
+        });
+
+        assertThat(index.contains(1L)).isTrue();
+        assertThat(index.contains(3L)).isTrue();
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("후보 ID 중 재고가 있는 도서만 순서대로 남긴다")
+    void filter() {
+        assertThat(index.filter(List.of(3L, 2L, 1L))).containsExactly(3L, 1L);
+        assertThat(index.contains(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제된 도서는 비트맵에서 제거된다")
+    void remove() {
+        index.remove(book(1L, 100));
+
+        assertThat(index.findAll()).containsExactly(3L);
+    }
+
+    private BookResponse book(Long id, int stockQuantity) {
+        return BookResponse.builder().id(id).stockQuantity(stockQuantity).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsbnFilterTest {
+
+    private IsbnFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IsbnFilter(1_000, 0.01);
+        filter.add(book(1L, "9788966260959"));
+        filter.add(book(2L, "9788966262281"));
+        filter.add(book(3L, null));
+        filter.markReady();
+    }
+
+    @Test
+    @DisplayName("등록된 ISBN 은 항상 있을 수 있다고 답한다")
+    void mightContain_Added() {
+        assertThat(filter.mightContain("9788966260959")).isTrue();
+        assertThat(filter.mightContain("9788966262281")).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 ISBN 은 대부분 없다고 답한다")
+    void mightContain_Absent() {
+        int positives = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (filter.mightContain(String.valueOf(9790000000000L + i))) {
+                positives++;
+            }
+        }
+        assertThat(positives).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("삭제하면 없다고 답하고, 다른 ISBN 에는 영향이 없다")
+    void remove() {
+        filter.remove(book(1L, "9788966260959"));
+
+        assertThat(filter.mightContain("9788966260959")).isFalse();
+        assertThat(filter.mightContain("9788966262281")).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재가 끝나기 전에는 항상 있을 수 있다고 답하고 삭제는 무시한다")
+    void notReady() {
+        filter.clear();
+        filter.add(book(1L, "9788966260959"));
+        filter.remove(book(1L, "9788966260959"));
+
+        assertThat(filter.mightContain("9790000000000")).isTrue();
+        filter.markReady();
+        assertThat(filter.mightContain("9788966260959")).isTrue();
+    }
+
+    private BookResponse book(Long id, String isbn) {
+        return BookResponse.builder().id(id).isbn(isbn).build();
+    }
+}
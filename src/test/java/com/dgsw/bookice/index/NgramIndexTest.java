@@ -0,0 +1,66 @@
+package com.dgsw.bookice.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        index.put(1, "클린 코드");
+        index.put(2, "이펙티브 자바");
+        index.put(3, "모던 자바 인 액션");
+        index.put(4, "Effective Java");
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색")
+    void search_Hangul() {
+        assertThat(index.search("자바").toArray()).containsExactly(2, 3);
+        assertThat(index.search("클린 코").toArray()).containsExactly(1);
+        assertThat(index.search("코").toArray()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않는다")
+    void search_IgnoreCase() {
+        assertThat(index.search("java").toArray()).containsExactly(4);
+        assertThat(index.search("EFFECT").toArray()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("자모로 분해된 검색어도 같은 음절로 검색된다")
+    void search_DecomposedHangul() {
+        String decomposed = Normalizer.normalize("자바", Normalizer.Form.NFD);
+
+        assertThat(decomposed).isNotEqualTo("자바");
+        assertThat(index.search(decomposed).toArray()).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("바이그램은 모두 있지만 연속되지 않은 문서는 제외된다")
+    void search_VerifiesCandidates() {
+        index.put(5, "ab ba");
+
+        assertThat(index.search("aba").toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문서 수정 및 삭제")
+    void putAndRemove() {
+        index.put(1, "클린 아키텍처");
+        index.remove(2);
+
+        assertThat(index.search("코드").toArray()).isEmpty();
+        assertThat(index.search("아키텍처").toArray()).containsExactly(1);
+        assertThat(index.search("자바").toArray()).containsExactly(3);
+    }
+}
@@ -0,0 +1,76 @@
+package com.dgsw.bookice.index;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceIndexTest {
+
+    private PriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PriceIndex();
+        index.add(book(1L, 33000));
+        index.add(book(2L, 36000));
+        index.add(book(3L, 28000));
+        index.add(book(4L, 33000));
+        index.add(book(3L, 28000));
+        index.markReady();
+    }
+
+    @Test
+    @DisplayName("가격 범위를 가격, ID 순으로 조회한다")
+    void find_SortedByPriceAndId() {
+        PriceIndex.Result result = index.find(30000, 36000, 0, 10);
+
+        assertThat(result.ids()).containsExactly(1L, 4L, 2L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("페이지 범위만 반환하고 전체 건수는 유지한다")
+    void find_Paged() {
+        PriceIndex.Result result = index.find(0, 100000, 2, 2);
+
+        assertThat(result.ids()).containsExactly(4L, 2L);
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(index.find(0, 100000, 10, 2).ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격 변경 시 정렬 위치가 갱신된다")
+    void replace_PriceChanged() {
+        index.replace(book(2L, 36000), book(2L, 20000));
+        index.remove(book(1L, 33000));
+        index.add(book(5L, 30000));
+
+        assertThat(index.find(0, 100000, 0, 10).ids()).containsExactly(2L, 3L, 5L, 4L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("이벤트의 이전 가격이 인덱스와 달라도 도서 ID 로 교체/제거한다 (순서가 뒤바뀐 수정 이벤트)")
+    void replaceAndRemove_StaleBefore() {
+        index.replace(book(2L, 36000), book(2L, 20000));
+        index.replace(book(2L, 36000), book(2L, 25000));
+        index.remove(book(1L, 99000));
+
+        assertThat(index.find(0, 100000, 0, 10).ids()).containsExactly(2L, 3L, 4L);
+        assertThat(index.find(20000, 20000, 0, 10).total()).isZero();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최소 가격이 최대 가격보다 크면 빈 결과")
+    void find_InvalidRange() {
+        assertThat(index.find(40000, 30000, 0, 10).total()).isZero();
+    }
+
+    private BookResponse book(Long id, int price) {
+        return BookResponse.builder().id(id).price(price).build();
+    }
+}
@@ -1,7 +1,10 @@
 package com.dgsw.bookice.repository;
 
+import com.dgsw.bookice.cache.CatalogVersion;
 import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.dto.response.BookResponse;
 import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.stock.StockDeltaWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,18 +15,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import(QueryDslConfig.class)
+@Import({QueryDslConfig.class, StockDeltaWriter.class, CatalogVersion.class})
 class BookRepositoryTest {
 
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private StockDeltaWriter stockDeltaWriter;
+
     private Book book1;
     private Book book2;
     private Book book3;
@@ -170,6 +177,30 @@ class BookRepositoryTest {
         assertThat(bookPage.getTotalElements()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("키워드로 검색 - n-gram 인덱스처럼 대소문자를 구분하지 않는다")
+    void searchBookResponses_IgnoreCase() {
+        // given
+        Book english = bookRepository.save(Book.builder()
+                .title("Clean Architecture")
+                .author("Robert C. Martin")
+                .category("프로그래밍")
+                .price(29000)
+                .stockQuantity(10)
+                .build());
+
+        // when
+        List<BookResponse> byKeyword = bookRepository.searchBookResponses("clean", PageRequest.of(0, 10));
+        List<BookResponse> byTitle = bookRepository.findResponsesByTitleContaining("ARCHITECTURE");
+        List<BookResponse> byAuthor = bookRepository.findResponsesByAuthorContaining("martin");
+
+        // then
+        assertThat(byKeyword).extracting(BookResponse::getId).containsExactly(english.getId());
+        assertThat(byTitle).extracting(BookResponse::getId).containsExactly(english.getId());
+        assertThat(byAuthor).extracting(BookResponse::getId).containsExactly(english.getId());
+        assertThat(bookRepository.countSearchBooks("CLEAN")).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("동적 검색 - 제목만 (QueryDSL)")
     void searchByConditions_OnlyTitle() {
@@ -244,6 +275,83 @@ class BookRepositoryTest {
         assertThat(bookPage.getTotalElements()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("동적 검색 - 키셋 페이지네이션 (QueryDSL)")
+    void searchByConditionsAfter() {
+        // given
+        BookSearchCondition condition = BookSearchCondition.of(null, null, null);
+
+        // when
+        List<BookResponse> firstPage = bookRepository.findResponsesByConditionsAfter(condition, null, 2);
+        BookResponse last = firstPage.get(firstPage.size() - 1);
+        BookCursor cursor = BookCursor.decode(new BookCursor(last.getCreatedAt(), last.getId()).encode());
+        List<BookResponse> secondPage = bookRepository.findResponsesByConditionsAfter(condition, cursor, 2);
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage).extracting(BookResponse::getId)
+                .doesNotContainAnyElementsOf(firstPage.stream().map(BookResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("DTO 프로젝션 조회 (JPQL)")
+    void findResponsesInStock() {
+        // when
+        List<BookResponse> responses = bookRepository.findResponsesInStock();
+
+        // then
+        assertThat(responses).hasSize(2);
+        assertThat(responses).allMatch(response -> response.getStockQuantity() > 0);
+        assertThat(responses).extracting(BookResponse::getCreatedAt).doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("동적 검색 - DTO 프로젝션 (QueryDSL)")
+    void findResponsesByConditions() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        BookSearchCondition condition = BookSearchCondition.of("클린", "마틴", "프로그래밍");
+
+        // when
+        List<BookResponse> responses = bookRepository.findResponsesByConditions(condition, pageable);
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getId()).isEqualTo(book1.getId());
+        assertThat(responses.get(0).getIsbn()).isEqualTo("9788966260959");
+    }
+
+    @Test
+    @DisplayName("동적 검색 - 재고 있는 도서만 (QueryDSL)")
+    void findResponsesByConditions_InStock() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        BookSearchCondition condition = BookSearchCondition.builder()
+                .category("프로그래밍")
+                .inStock(true)
+                .build();
+
+        // when
+        List<BookResponse> responses = bookRepository.findResponsesByConditions(condition, pageable);
+
+        // then
+        assertThat(responses).extracting(BookResponse::getId).containsExactly(book1.getId());
+    }
+
+    @Test
+    @DisplayName("단건 버전 조회 (수정 시각, 재고)")
+    void findVersionById() {
+        // when
+        List<Object[]> version = bookRepository.findVersionById(book1.getId());
+
+        // then
+        assertThat(version).hasSize(1);
+        assertThat(version.get(0)[0]).isInstanceOf(LocalDateTime.class);
+        assertThat(version.get(0)[1]).isEqualTo(book1.getStockQuantity());
+        assertThat(bookRepository.findVersionById(-1L)).isEmpty();
+    }
+
     @Test
     @DisplayName("도서 수정")
     void updateBook() {
@@ -277,35 +385,31 @@ class BookRepositoryTest {
     }
 
     @Test
-    @DisplayName("재고 증가")
+    @DisplayName("재고 증가 (StockDeltaWriter 조건부 UPDATE)")
     void increaseStock() {
         // given
-        Book book = bookRepository.findById(book1.getId()).orElseThrow();
-        int initialStock = book.getStockQuantity();
+        int initialStock = book1.getStockQuantity();
+        bookRepository.flush();
 
         // when
-        book.increaseStock(50);
-        bookRepository.flush();
+        stockDeltaWriter.increaseReturning(book1.getId(), 50, LocalDateTime.now());
 
         // then
-        Book updated = bookRepository.findById(book1.getId()).orElseThrow();
-        assertThat(updated.getStockQuantity()).isEqualTo(initialStock + 50);
+        assertThat(bookRepository.findStockQuantityById(book1.getId())).contains(initialStock + 50);
     }
 
     @Test
-    @DisplayName("재고 감소")
+    @DisplayName("재고 감소 (StockDeltaWriter 조건부 UPDATE)")
     void decreaseStock() {
         // given
-        Book book = bookRepository.findById(book1.getId()).orElseThrow();
-        int initialStock = book.getStockQuantity();
+        int initialStock = book1.getStockQuantity();
+        bookRepository.flush();
 
         // when
-        book.decreaseStock(30);
-        bookRepository.flush();
+        stockDeltaWriter.decreaseReturning(book1.getId(), 30, LocalDateTime.now());
 
         // then
-        Book updated = bookRepository.findById(book1.getId()).orElseThrow();
-        assertThat(updated.getStockQuantity()).isEqualTo(initialStock - 30);
+        assertThat(bookRepository.findStockQuantityById(book1.getId())).contains(initialStock - 30);
     }
 
     @Test
@@ -0,0 +1,91 @@
+package com.dgsw.bookice.repository;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.stock.StockDeltaWriter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("l2cache")
+@Import({QueryDslConfig.class, StockDeltaWriter.class, CatalogVersion.class})
+class BookSecondLevelCacheTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private StockDeltaWriter stockDeltaWriter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        book = bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(100)
+                .description("애자일 소프트웨어 장인 정신")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("엔티티 2차 캐시 - 두 번째 조회는 캐시에서 읽는다")
+    void findById_SecondLevelCacheHit() {
+        // when
+        bookRepository.findById(book.getId()).orElseThrow();
+        entityManager.clear();
+        Book cached = bookRepository.findById(book.getId()).orElseThrow();
+
+        // then
+        assertThat(cached.getTitle()).isEqualTo("클린 코드");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 캐시 - 재고 변경 후 캐시를 비우면 캐시된 결과를 사용하지 않는다")
+    void findBooksInStock_QueryCacheInvalidated() {
+        // given
+        bookRepository.findBooksInStock();
+        bookRepository.findBooksInStock();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        // when
+        // JDBC 로 바꾸므로 Hibernate 가 알지 못한다, 재고 처리 방식이 커밋 이후 비우는 것과 같게 비운다
+        stockDeltaWriter.decreaseReturning(book.getId(), 100, LocalDateTime.now());
+        stockDeltaWriter.evict(List.of(book.getId()), true);
+        List<Book> books = bookRepository.findBooksInStock();
+
+        // then
+        assertThat(books).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.dgsw.bookice.repository;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.stock.StockDeltaWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도서 정보 수정과 재고 변경이 겹치는 경우 (각 트랜잭션을 실제로 커밋해야 하므로 테스트 트랜잭션을 쓰지 않는다)
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, StockDeltaWriter.class, CatalogVersion.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookStockUpdateTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private StockDeltaWriter stockDeltaWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .price(33000)
+                .stockQuantity(10)
+                .description("애자일 소프트웨어 장인 정신")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("도서 수정 도중 커밋된 재고 차감을 수정 커밋이 덮어쓰지 않는다")
+    void updateBook_KeepsConcurrentStockDecrease() {
+        // given
+        TransactionTemplate updateTx = new TransactionTemplate(transactionManager);
+        TransactionTemplate purchaseTx = new TransactionTemplate(transactionManager);
+        purchaseTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // when
+        updateTx.executeWithoutResult(status -> {
+            Book book = bookRepository.findById(bookId).orElseThrow();
+            assertThat(book.getStockQuantity()).isEqualTo(10);
+
+            // 수정 트랜잭션이 재고 10 을 읽어 둔 상태에서 다른 구매가 먼저 커밋된다
+            purchaseTx.executeWithoutResult(inner ->
+                    assertThat(stockDeltaWriter.decreaseReturning(bookId, 3, LocalDateTime.now())).isPresent());
+
+            book.update("클린 코드 개정판", "로버트 C. 마틴", "프로그래밍",
+                    "인사이트", 35000, "개정판 설명");
+        });
+
+        // then
+        Book updated = bookRepository.findById(bookId).orElseThrow();
+        assertThat(updated.getTitle()).isEqualTo("클린 코드 개정판");
+        assertThat(updated.getPrice()).isEqualTo(35000);
+        assertThat(updated.getStockQuantity()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,205 @@
+package com.dgsw.bookice.reservation;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.ReservationNotFoundException;
+import com.dgsw.bookice.stock.StockStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationsTest {
+
+    @Mock
+    private StockStore stockStore;
+
+    private StockReservations reservations;
+
+    @BeforeEach
+    void setUp() {
+        reservations = new StockReservations(stockStore, Duration.ofMinutes(30), Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("예약 - 재고를 바로 차감해 확보하고, 부족하면 예약하지 않는다")
+    void hold_DecreasesStock() {
+        // given
+        given(stockStore.decrease(1L, 3)).willReturn(book(2))
+                .willThrow(new IllegalStateException("재고가 부족합니다. 현재 재고: 2"));
+        reservations.hold(1L, 3, Duration.ofMinutes(5));
+
+        // when & then
+        assertThatThrownBy(() -> reservations.hold(1L, 3, Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+        assertThat(reservations.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 실패 - 유지 시간이 최대치를 넘음")
+    void hold_Fail_TtlTooLong() {
+        // when & then
+        assertThatThrownBy(() -> reservations.hold(1L, 1, Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(stockStore);
+    }
+
+    @Test
+    @DisplayName("확정 - 예약할 때 차감했으므로 다시 차감하지 않고 예약만 지운다")
+    void confirm_DoesNotDecreaseAgain() {
+        // given
+        given(stockStore.decrease(1L, 3)).willReturn(book(2));
+        given(stockStore.currentStock(1L)).willReturn(1);
+        Reservation reservation = reservations.hold(1L, 3, Duration.ofMinutes(5));
+
+        // when
+        BookResponse response = reservations.confirm(reservation.id());
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(1);
+        assertThat(reservations.size()).isZero();
+        verify(stockStore, times(1)).decrease(anyLong(), anyInt());
+        verify(stockStore, never()).increase(anyLong(), anyInt());
+        assertThatThrownBy(() -> reservations.confirm(reservation.id()))
+                .isInstanceOf(ReservationNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("취소 - 차감했던 수량을 되돌리고 만료 대상에서도 뺀다")
+    void release_RestoresStock() {
+        // given
+        given(stockStore.decrease(1L, 5)).willReturn(book(0));
+        Reservation reservation = reservations.hold(1L, 5, Duration.ofMillis(20));
+
+        // when
+        reservations.release(reservation.id());
+        reservations.expire(System.nanoTime() + Duration.ofSeconds(1).toNanos());
+
+        // then
+        assertThat(reservations.size()).isZero();
+        verify(stockStore, times(1)).increase(1L, 5);
+    }
+
+    @Test
+    @DisplayName("만료 - 유지 시간이 지난 예약을 일괄 해제하고 도서별로 합쳐 재고를 되돌린다")
+    void expire_RestoresStockPerBook() {
+        // given
+        given(stockStore.decrease(eq(1L), anyInt())).willReturn(book(0));
+        Reservation first = reservations.hold(1L, 4, Duration.ofMillis(20));
+        reservations.hold(1L, 2, Duration.ofMillis(20));
+
+        // when
+        reservations.expire(System.nanoTime() + Duration.ofSeconds(1).toNanos());
+
+        // then
+        assertThat(reservations.size()).isZero();
+        verify(stockStore, times(1)).increase(1L, 6);
+        assertThatThrownBy(() -> reservations.release(first.id()))
+                .isInstanceOf(ReservationNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("삭제된 도서의 예약은 재고를 되돌리지 않고 지운다")
+    void onBookChanged_Deleted_DropsHolds() {
+        // given
+        given(stockStore.decrease(1L, 2)).willReturn(book(3));
+        reservations.hold(1L, 2, Duration.ofMillis(20));
+
+        // when
+        reservations.onBookChanged(BookChangedEvent.deleted(book(3)));
+        reservations.expire(System.nanoTime() + Duration.ofSeconds(1).toNanos());
+
+        // then
+        assertThat(reservations.size()).isZero();
+        verify(stockStore, never()).increase(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("동시 예약/차감 - 예약된 수량은 예약을 거치지 않는 차감이 가져가지 못한다")
+    void holdAndDecrease_Concurrent_NoOversell() throws Exception {
+        // given
+        AtomicInteger stock = new AtomicInteger(10);
+        given(stockStore.decrease(eq(1L), anyInt())).willAnswer(invocation -> {
+            int quantity = invocation.getArgument(1);
+            int current;
+            do {
+                current = stock.get();
+                if (current < quantity) {
+                    throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + current);
+                }
+            } while (!stock.compareAndSet(current, current - quantity));
+            return book(current - quantity);
+        });
+        given(stockStore.currentStock(1L)).willAnswer(invocation -> stock.get());
+
+        int threads = 8;
+        int attemptsPerThread = 20;
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger bought = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when - 절반은 예약 후 확정, 절반은 예약 없이 바로 차감
+        List<Future<?>> buyers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            boolean reserves = i % 2 == 0;
+            buyers.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    try {
+                        if (reserves) {
+                            Reservation reservation = reservations.hold(1L, 1, Duration.ofMinutes(5));
+                            reservations.confirm(reservation.id());
+                            confirmed.incrementAndGet();
+                        } else {
+                            stockStore.decrease(1L, 1);
+                            bought.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        // 재고 부족
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> buyer : buyers) {
+            buyer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(confirmed.get() + bought.get()).isEqualTo(10);
+        assertThat(stock.get()).isZero();
+        assertThat(reservations.size()).isZero();
+    }
+
+    private BookResponse book(int stockQuantity) {
+        return BookResponse.builder().id(1L).title("클린 코드").stockQuantity(stockQuantity).build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.dgsw.bookice.reservation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    @DisplayName("만료 - 마감 시각이 지난 tick 에서만 꺼낸다")
+    void advance_ExpiresAfterDeadline() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(0, TICK, 8);
+        wheel.schedule("a", 2_500);
+        wheel.schedule("b", 5_000);
+
+        // when & then
+        assertThat(wheel.advance(2_999)).isEmpty();
+        assertThat(wheel.advance(3_000)).containsExactly("a");
+        assertThat(wheel.advance(4_999)).isEmpty();
+        assertThat(wheel.advance(5_000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 - 한 바퀴보다 먼 마감은 다음 바퀴에서 꺼낸다")
+    void advance_MultipleRounds() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(0, TICK, 8);
+        wheel.schedule("near", 3_000);
+        wheel.schedule("far", 11_000);
+
+        // when & then
+        assertThat(wheel.advance(3_000)).containsExactly("near");
+        assertThat(wheel.advance(10_000)).isEmpty();
+        assertThat(wheel.advance(11_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("만료 - 여러 바퀴를 한 번에 건너뛰어도 지난 항목을 모두 꺼낸다")
+    void advance_FarBehind() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(0, TICK, 4);
+        for (int i = 1; i <= 20; i++) {
+            wheel.schedule("r" + i, i * TICK);
+        }
+
+        // when & then
+        assertThat(wheel.advance(100_000)).hasSize(20);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("등록 - 이미 지난 마감은 다음 tick 에 만료된다")
+    void schedule_PastDeadline() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(0, TICK, 8);
+        wheel.advance(5_000);
+
+        // when
+        wheel.schedule("late", 1_000);
+
+        // then
+        assertThat(wheel.advance(5_999)).isEmpty();
+        assertThat(wheel.advance(6_000)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("취소 - 취소한 항목은 만료되지 않고 바로 빠진다")
+    void cancel_RemovesBeforeDeadline() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(0, TICK, 8);
+        TimerWheel.Timeout<String> cancelled = wheel.schedule("a", 2_000);
+        wheel.schedule("b", 2_000);
+
+        // when
+        boolean first = wheel.cancel(cancelled);
+        boolean again = wheel.cancel(cancelled);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(again).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(2_000)).containsExactly("b");
+    }
+}
@@ -1,26 +1,58 @@
 package com.dgsw.bookice.service;
 
+import com.dgsw.bookice.cache.BookCache;
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.cache.SearchCountCache;
+import com.dgsw.bookice.cache.SearchResultCache;
+import com.dgsw.bookice.catalog.CatalogImporter;
+import com.dgsw.bookice.dto.request.BookBulkCreateRequest;
 import com.dgsw.bookice.dto.request.BookCreateRequest;
 import com.dgsw.bookice.dto.request.BookUpdateRequest;
+import com.dgsw.bookice.dto.request.StockAdjustmentRequest;
 import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.dto.response.BookVersion;
+import com.dgsw.bookice.dto.response.ReservationResponse;
+import com.dgsw.bookice.dto.response.StockAdjustmentResponse;
 import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.event.BookChangedEvent;
 import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.index.BookSearchIndex;
+import com.dgsw.bookice.index.BookIdIndex;
+import com.dgsw.bookice.index.CategoryCounter;
+import com.dgsw.bookice.index.InStockIndex;
+import com.dgsw.bookice.index.IsbnFilter;
+import com.dgsw.bookice.index.PriceIndex;
 import com.dgsw.bookice.repository.BookRepository;
+import com.dgsw.bookice.repository.BookSearchCondition;
+import com.dgsw.bookice.reservation.Reservation;
+import com.dgsw.bookice.reservation.StockReservations;
+import com.dgsw.bookice.stock.StockAdjustmentWriter;
+import com.dgsw.bookice.stock.StockStore;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,10 +67,58 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private CategoryCounter categoryCounter;
+
+    @Mock
+    private PriceIndex priceIndex;
+
+    @Mock
+    private InStockIndex inStockIndex;
+
+    @Mock
+    private StockStore stockStore;
+
+    @Mock
+    private StockReservations stockReservations;
+
+    @Mock
+    private StockAdjustmentWriter stockAdjustmentWriter;
+
+    @Mock
+    private CatalogImporter catalogImporter;
+
+    @Mock
+    private SearchCountCache searchCountCache;
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(catalogVersion, 100, Duration.ofMinutes(10));
+
+    @Spy
+    private BookCache bookCache = new BookCache(100, Duration.ofMinutes(10));
+
+    @Spy
+    private IsbnFilter isbnFilter = new IsbnFilter(1_000, 0.01);
+
+    @Spy
+    private BookIdIndex bookIdIndex = new BookIdIndex();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
     private Book book;
+    private BookResponse bookResponse;
     private BookCreateRequest createRequest;
     private BookUpdateRequest updateRequest;
 
@@ -55,6 +135,8 @@ class BookServiceTest {
                 .description("애자일 소프트웨어 장인 정신")
                 .build();
 
+        bookResponse = BookResponse.from(book);
+
         createRequest = BookCreateRequest.builder()
                 .title("클린 코드")
                 .author("로버트 C. 마틴")
@@ -92,6 +174,7 @@ class BookServiceTest {
         assertThat(response.getAuthor()).isEqualTo("로버트 C. 마틴");
         verify(bookRepository, times(1)).existsByIsbn(anyString());
         verify(bookRepository, times(1)).save(any(Book.class));
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
     }
 
     @Test
@@ -109,11 +192,113 @@ class BookServiceTest {
         verify(bookRepository, never()).save(any(Book.class));
     }
 
+    @Test
+    @DisplayName("도서 등록 - ISBN 필터에 없으면 중복 조회 없이 저장한다")
+    void createBook_SkipsIsbnQuery() {
+        // given
+        isbnFilter.markReady();
+        given(bookRepository.save(any(Book.class))).willReturn(book);
+
+        // when
+        BookResponse response = bookService.createBook(createRequest);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("클린 코드");
+        verify(bookRepository, never()).existsByIsbn(anyString());
+        verify(bookRepository).flush();
+    }
+
+    @Test
+    @DisplayName("도서 등록 실패 - 동시에 등록된 ISBN 은 유니크 제약 위반을 같은 오류로 돌려준다")
+    void createBook_Fail_UniqueViolation() {
+        // given
+        isbnFilter.markReady();
+        given(bookRepository.save(any(Book.class))).willReturn(book);
+        doThrow(new DataIntegrityViolationException("unique")).when(bookRepository).flush();
+
+        // when & then
+        assertThatThrownBy(() -> bookService.createBook(createRequest))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 존재하는 ISBN입니다");
+        verify(eventPublisher, never()).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("도서 일괄 등록 성공 - ISBN 은 IN 조회 한 번으로 확인하고 저장은 persist 로 모은다")
+    void createBooks_Success() {
+        // given
+        BookBulkCreateRequest request = BookBulkCreateRequest.builder()
+                .books(List.of(bulkBook("9780000000001"), bulkBook("9780000000002"), bulkBook(null)))
+                .build();
+        given(bookRepository.findIsbnsByIsbnIn(anyCollection())).willReturn(List.of());
+
+        // when
+        List<BookResponse> responses = bookService.createBooks(request);
+
+        // then
+        assertThat(responses).extracting(BookResponse::getIsbn)
+                .containsExactly("9780000000001", "9780000000002", null);
+        verify(bookRepository, times(1)).findIsbnsByIsbnIn(anyCollection());
+        verify(bookRepository, never()).existsByIsbn(anyString());
+        verify(entityManager, times(3)).persist(any(Book.class));
+        verify(bookRepository).flush();
+        verify(eventPublisher, times(3)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("도서 일괄 등록 실패 - 동시에 등록된 ISBN 은 유니크 제약 위반을 같은 오류로 돌려준다")
+    void createBooks_Fail_UniqueViolation() {
+        // given
+        BookBulkCreateRequest request = BookBulkCreateRequest.builder()
+                .books(List.of(bulkBook("9780000000001"), bulkBook("9780000000002")))
+                .build();
+        given(bookRepository.findIsbnsByIsbnIn(anyCollection())).willReturn(List.of());
+        doThrow(new DataIntegrityViolationException("unique")).when(bookRepository).flush();
+
+        // when & then
+        assertThatThrownBy(() -> bookService.createBooks(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 존재하는 ISBN입니다");
+        verify(eventPublisher, never()).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("도서 일괄 등록 실패 - 요청 안에서 ISBN 중복")
+    void createBooks_Fail_DuplicateInRequest() {
+        // given
+        BookBulkCreateRequest request = BookBulkCreateRequest.builder()
+                .books(List.of(bulkBook("9780000000001"), bulkBook("9780000000001")))
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> bookService.createBooks(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("9780000000001");
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("도서 일괄 등록 실패 - 이미 존재하는 ISBN 이 있으면 아무것도 저장하지 않는다")
+    void createBooks_Fail_ExistingIsbn() {
+        // given
+        BookBulkCreateRequest request = BookBulkCreateRequest.builder()
+                .books(List.of(bulkBook("9780000000001"), bulkBook("9788966260959")))
+                .build();
+        given(bookRepository.findIsbnsByIsbnIn(anyCollection())).willReturn(List.of("9788966260959"));
+
+        // when & then
+        assertThatThrownBy(() -> bookService.createBooks(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 존재하는 ISBN입니다");
+        verifyNoInteractions(entityManager);
+    }
+
     @Test
     @DisplayName("도서 단건 조회 성공")
     void getBook_Success() {
         // given
         given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
+        given(stockStore.overlay(any(BookResponse.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         BookResponse response = bookService.getBook(1L);
@@ -124,6 +309,46 @@ class BookServiceTest {
         verify(bookRepository, times(1)).findById(anyLong());
     }
 
+    @Test
+    @DisplayName("도서 단건 조회 - 두 번째 조회부터는 캐시를 사용한다")
+    void getBook_Cached() {
+        // given
+        given(bookRepository.findById(1L)).willReturn(Optional.of(book));
+        given(stockStore.overlay(any(BookResponse.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        bookService.getBook(1L);
+        BookResponse response = bookService.getBook(1L);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("클린 코드");
+        assertThat(bookCache.stats().hitCount()).isEqualTo(1);
+        verify(bookRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("도서 단건 버전 조회 - 캐시에 없으면 수정 시각과 재고만 읽고, 있으면 DB 를 거치지 않는다")
+    void getBookVersion() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        given(bookRepository.findVersionById(1L)).willReturn(List.<Object[]>of(new Object[]{updatedAt, 7}));
+        given(bookRepository.findById(1L)).willReturn(Optional.of(book));
+        given(stockStore.overlay(any(BookResponse.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        BookVersion uncached = bookService.getBookVersion(1L);
+        bookService.getBook(1L);
+        BookVersion cached = bookService.getBookVersion(1L);
+
+        // then
+        assertThat(uncached.getId()).isEqualTo(1L);
+        assertThat(uncached.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(uncached.getStockQuantity()).isEqualTo(7);
+        assertThat(cached.getStockQuantity()).isEqualTo(book.getStockQuantity());
+        verify(bookRepository, times(1)).findVersionById(1L);
+        verify(bookRepository, times(1)).findById(1L);
+    }
+
     @Test
     @DisplayName("도서 단건 조회 실패 - 존재하지 않는 도서")
     void getBook_Fail_NotFound() {
@@ -138,19 +363,53 @@ class BookServiceTest {
         verify(bookRepository, times(1)).findById(anyLong());
     }
 
+    @Test
+    @DisplayName("도서 단건 조회 실패 - ID 비트맵에 없는 도서는 DB 를 조회하지 않는다")
+    void getBook_Fail_UnknownId() {
+        // given
+        bookIdIndex.add(BookResponse.builder().id(1L).build());
+        bookIdIndex.markReady();
+
+        // when & then
+        assertThatThrownBy(() -> bookService.getBook(999L))
+                .isInstanceOf(BookNotFoundException.class)
+                .hasMessageContaining("999");
+        assertThatThrownBy(() -> bookService.decreaseStock(999L, 1))
+                .isInstanceOf(BookNotFoundException.class);
+
+        verify(bookRepository, never()).findById(anyLong());
+        verify(stockStore, never()).decrease(anyLong(), anyInt());
+    }
+
     @Test
     @DisplayName("전체 도서 목록 조회 성공")
     void getAllBooks_Success() {
         // given
-        List<Book> books = Arrays.asList(book, book);
-        given(bookRepository.findAll()).willReturn(books);
+        List<BookResponse> books = Arrays.asList(bookResponse, bookResponse);
+        given(bookRepository.findAllResponses()).willReturn(books);
 
         // when
         List<BookResponse> responses = bookService.getAllBooks();
 
         // then
         assertThat(responses).hasSize(2);
-        verify(bookRepository, times(1)).findAll();
+        verify(bookRepository, times(1)).findAllResponses();
+        verify(bookRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("전체 도서 스트리밍 조회 성공")
+    void exportAllBooks_Success() {
+        // given
+        given(bookRepository.streamAllBy()).willReturn(Stream.of(book, book));
+        List<BookResponse> exported = new ArrayList<>();
+
+        // when
+        bookService.exportAllBooks(exported::add);
+
+        // then
+        assertThat(exported).hasSize(2);
+        verify(bookRepository, never()).findAll();
     }
 
     @Test
@@ -158,8 +417,8 @@ class BookServiceTest {
     void searchBooks_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Book> bookPage = new PageImpl<>(Arrays.asList(book), pageable, 1);
-        given(bookRepository.searchBooks(anyString(), any(Pageable.class))).willReturn(bookPage);
+        given(bookRepository.searchBookResponses(anyString(), any(Pageable.class)))
+                .willReturn(Arrays.asList(bookResponse));
 
         // when
         Page<BookResponse> responses = bookService.searchBooks("클린", pageable);
@@ -167,15 +426,115 @@ class BookServiceTest {
         // then
         assertThat(responses.getContent()).hasSize(1);
         assertThat(responses.getTotalElements()).isEqualTo(1);
-        verify(bookRepository, times(1)).searchBooks(anyString(), any(Pageable.class));
+        verify(bookRepository, times(1)).searchBookResponses(anyString(), any(Pageable.class));
+        verify(bookRepository, never()).countSearchBooks(anyString());
+    }
+
+    @Test
+    @DisplayName("도서 검색 - 두 번째 페이지부터는 캐시된 전체 개수를 사용한다")
+    void searchBooks_CachedTotal() {
+        // given
+        Pageable pageable = PageRequest.of(1, 1);
+        given(bookRepository.searchBookResponses(anyString(), any(Pageable.class)))
+                .willReturn(Arrays.asList(bookResponse));
+        given(searchCountCache.get(eq(List.of("keyword", "클린")), any())).willReturn(5L);
+
+        // when
+        Page<BookResponse> responses = bookService.searchBooks("클린", pageable);
+
+        // then
+        assertThat(responses.getTotalElements()).isEqualTo(5);
+        verify(bookRepository, never()).countSearchBooks(anyString());
+    }
+
+    @Test
+    @DisplayName("도서 검색 - 같은 조건은 카탈로그 버전이 바뀔 때까지 캐시된 결과를 사용한다")
+    void searchBooks_CachedResult() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(bookRepository.searchBookResponses(anyString(), any(Pageable.class)))
+                .willReturn(Arrays.asList(bookResponse));
+
+        // when
+        bookService.searchBooks("클린", pageable);
+        Page<BookResponse> cached = bookService.searchBooks("클린", PageRequest.of(0, 10));
+        bookService.searchBooks("클린", PageRequest.of(1, 10));
+        catalogVersion.bump();
+        bookService.searchBooks("클린", pageable);
+
+        // then
+        assertThat(cached.getContent()).hasSize(1);
+        assertThat(searchResultCache.stats().hitCount()).isEqualTo(1);
+        verify(bookRepository, times(3)).searchBookResponses(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("도서 검색 - 재고만 바뀌면 캐시된 결과를 그대로 쓰고 페이지 도서의 재고만 다시 읽는다")
+    void searchBooks_CachedResult_OverlaysStock() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(bookRepository.searchBookResponses(anyString(), any(Pageable.class)))
+                .willReturn(List.of(bookResponse.toBuilder().id(1L).build()));
+        given(bookRepository.findStockQuantitiesByIdIn(List.of(1L)))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 7}));
+
+        // when
+        bookService.searchBooks("클린", pageable);
+        catalogVersion.bumpStock();
+        Page<BookResponse> overlaid = bookService.searchBooks("클린", pageable);
+        Page<BookResponse> again = bookService.searchBooks("클린", pageable);
+
+        // then
+        assertThat(overlaid.getContent()).extracting(BookResponse::getStockQuantity).containsExactly(7);
+        assertThat(again.getContent()).extracting(BookResponse::getStockQuantity).containsExactly(7);
+        assertThat(searchResultCache.stats().hitCount()).isEqualTo(2);
+        verify(bookRepository, times(1)).searchBookResponses(anyString(), any(Pageable.class));
+        verify(bookRepository, times(1)).findStockQuantitiesByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("동적 검색 - 재고 조건 결과는 재고 보유 도서 구성이 바뀌면 다시 조회한다")
+    void searchBooksByConditions_InStockCachedByBitmapVersion() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(inStockIndex.isReady()).willReturn(true);
+        given(inStockIndex.version()).willReturn(0L, 0L, 1L);
+        given(bookRepository.findResponsesByConditions(any(BookSearchCondition.class), any(Pageable.class)))
+                .willReturn(List.of(bookResponse));
+
+        // when
+        bookService.searchBooksByConditions("클린", null, null, true, pageable);
+        bookService.searchBooksByConditions("클린", null, null, true, pageable);
+        bookService.searchBooksByConditions("클린", null, null, true, pageable);
+
+        // then
+        assertThat(searchResultCache.stats().hitCount()).isEqualTo(1);
+        verify(bookRepository, times(2)).findResponsesByConditions(any(BookSearchCondition.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("도서 검색 (Slice) - count 쿼리 없이 다음 페이지 여부만 반환한다")
+    void searchBooksSlice_Success() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        given(bookRepository.searchBookResponseSlice("클린", pageable))
+                .willReturn(new SliceImpl<>(Arrays.asList(bookResponse), pageable, true));
+
+        // when
+        Slice<BookResponse> responses = bookService.searchBooksSlice("클린", pageable);
+
+        // then
+        assertThat(responses.getContent()).hasSize(1);
+        assertThat(responses.hasNext()).isTrue();
+        verify(bookRepository, never()).countSearchBooks(anyString());
     }
 
     @Test
     @DisplayName("제목으로 검색 성공")
     void searchByTitle_Success() {
         // given
-        List<Book> books = Arrays.asList(book);
-        given(bookRepository.findByTitleContaining(anyString())).willReturn(books);
+        List<BookResponse> books = Arrays.asList(bookResponse);
+        given(bookRepository.findResponsesByTitleContaining(anyString())).willReturn(books);
 
         // when
         List<BookResponse> responses = bookService.searchByTitle("클린");
@@ -183,15 +542,15 @@ class BookServiceTest {
         // then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getTitle()).contains("클린");
-        verify(bookRepository, times(1)).findByTitleContaining(anyString());
+        verify(bookRepository, times(1)).findResponsesByTitleContaining(anyString());
     }
 
     @Test
     @DisplayName("저자로 검색 성공")
     void searchByAuthor_Success() {
         // given
-        List<Book> books = Arrays.asList(book);
-        given(bookRepository.findByAuthorContaining(anyString())).willReturn(books);
+        List<BookResponse> books = Arrays.asList(bookResponse);
+        given(bookRepository.findResponsesByAuthorContaining(anyString())).willReturn(books);
 
         // when
         List<BookResponse> responses = bookService.searchByAuthor("마틴");
@@ -199,15 +558,15 @@ class BookServiceTest {
         // then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getAuthor()).contains("마틴");
-        verify(bookRepository, times(1)).findByAuthorContaining(anyString());
+        verify(bookRepository, times(1)).findResponsesByAuthorContaining(anyString());
     }
 
     @Test
     @DisplayName("카테고리로 검색 성공")
     void searchByCategory_Success() {
         // given
-        List<Book> books = Arrays.asList(book);
-        given(bookRepository.findByCategory(anyString())).willReturn(books);
+        List<BookResponse> books = Arrays.asList(bookResponse);
+        given(bookRepository.findResponsesByCategory(anyString())).willReturn(books);
 
         // when
         List<BookResponse> responses = bookService.searchByCategory("프로그래밍");
@@ -215,30 +574,50 @@ class BookServiceTest {
         // then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getCategory()).isEqualTo("프로그래밍");
-        verify(bookRepository, times(1)).findByCategory(anyString());
+        verify(bookRepository, times(1)).findResponsesByCategory(anyString());
     }
 
     @Test
     @DisplayName("가격 범위로 검색 성공")
     void searchByPriceRange_Success() {
         // given
-        List<Book> books = Arrays.asList(book);
-        given(bookRepository.findByPriceRange(anyInt(), anyInt())).willReturn(books);
+        List<BookResponse> books = Arrays.asList(bookResponse);
+        given(bookRepository.findResponsesByPriceRange(anyInt(), anyInt())).willReturn(books);
 
         // when
         List<BookResponse> responses = bookService.searchByPriceRange(30000, 35000);
 
         // then
         assertThat(responses).hasSize(1);
-        verify(bookRepository, times(1)).findByPriceRange(anyInt(), anyInt());
+        verify(bookRepository, times(1)).findResponsesByPriceRange(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("가격 범위 검색 (페이징) - 가격 인덱스로 범위를 계산한다")
+    void searchByPriceRangePage_UsesIndex() {
+        // given
+        Pageable pageable = PageRequest.of(1, 1);
+        BookResponse first = BookResponse.builder().id(1L).price(33000).build();
+        BookResponse second = BookResponse.builder().id(4L).price(34000).build();
+        given(priceIndex.isReady()).willReturn(true);
+        given(priceIndex.find(30000, 35000, 1L, 1)).willReturn(new PriceIndex.Result(List.of(4L, 1L), 3));
+        given(bookRepository.findResponsesByIdIn(List.of(4L, 1L))).willReturn(List.of(first, second));
+
+        // when
+        Page<BookResponse> responses = bookService.searchByPriceRange(30000, 35000, pageable);
+
+        // then
+        assertThat(responses.getContent()).extracting(BookResponse::getId).containsExactly(4L, 1L);
+        assertThat(responses.getTotalElements()).isEqualTo(3);
+        verify(bookRepository, never()).findResponsesByPriceRange(anyInt(), anyInt(), any(Pageable.class));
     }
 
     @Test
     @DisplayName("재고 있는 도서 조회 성공")
     void getBooksInStock_Success() {
         // given
-        List<Book> books = Arrays.asList(book);
-        given(bookRepository.findBooksInStock()).willReturn(books);
+        List<BookResponse> books = Arrays.asList(bookResponse);
+        given(bookRepository.findResponsesInStock()).willReturn(books);
 
         // when
         List<BookResponse> responses = bookService.getBooksInStock();
@@ -246,7 +625,90 @@ class BookServiceTest {
         // then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getStockQuantity()).isGreaterThan(0);
-        verify(bookRepository, times(1)).findBooksInStock();
+        verify(bookRepository, times(1)).findResponsesInStock();
+    }
+
+    @Test
+    @DisplayName("카테고리별 도서 수 - 집계가 준비되면 GROUP BY 를 실행하지 않는다")
+    void getCategoryCounts_UsesCounter() {
+        // given
+        given(categoryCounter.isReady()).willReturn(true);
+        given(categoryCounter.snapshot()).willReturn(Map.of("프로그래밍", 2L));
+
+        // when
+        Map<String, Long> counts = bookService.getCategoryCounts();
+
+        // then
+        assertThat(counts).containsEntry("프로그래밍", 2L);
+        verify(bookRepository, never()).countBooksByCategory();
+    }
+
+    @Test
+    @DisplayName("카테고리별 도서 수 - 집계 준비 전에는 DB 에서 조회한다")
+    void getCategoryCounts_NotReady() {
+        // given
+        given(categoryCounter.isReady()).willReturn(false);
+        given(bookRepository.countBooksByCategory())
+                .willReturn(List.<Object[]>of(new Object[]{"프로그래밍", 2L}, new Object[]{"AI", 1L}));
+
+        // when
+        Map<String, Long> counts = bookService.getCategoryCounts();
+
+        // then
+        assertThat(counts).containsExactly(Map.entry("AI", 1L), Map.entry("프로그래밍", 2L));
+    }
+
+    @Test
+    @DisplayName("재고 있는 도서 조회 - 재고 비트맵으로 후보를 구한다")
+    void getBooksInStock_UsesBitmap() {
+        // given
+        given(inStockIndex.isReady()).willReturn(true);
+        given(inStockIndex.cardinality()).willReturn(1);
+        given(inStockIndex.findAll()).willReturn(List.of(1L));
+        given(bookRepository.findResponsesInStockByIdIn(List.of(1L))).willReturn(List.of(bookResponse));
+
+        // when
+        List<BookResponse> responses = bookService.getBooksInStock();
+
+        // then
+        assertThat(responses).hasSize(1);
+        verify(bookRepository, never()).findResponsesInStock();
+    }
+
+    @Test
+    @DisplayName("재고 있는 도서 조회 - 비트맵이 늦게 갱신되어도 DB 에서 품절인 도서는 제외된다")
+    void getBooksInStock_RechecksStock() {
+        // given (2번 도서는 품절됐지만 이벤트 순서가 뒤바뀌어 비트맵에 남아 있다)
+        given(inStockIndex.isReady()).willReturn(true);
+        given(inStockIndex.cardinality()).willReturn(2);
+        given(inStockIndex.findAll()).willReturn(List.of(1L, 2L));
+        given(bookRepository.findResponsesInStockByIdIn(List.of(1L, 2L))).willReturn(List.of(bookResponse));
+
+        // when
+        List<BookResponse> responses = bookService.getBooksInStock();
+
+        // then
+        assertThat(responses).extracting(BookResponse::getId).containsExactly(1L);
+        verify(bookRepository, never()).findResponsesByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("동적 검색 - 제목 후보와 재고 비트맵의 교집합이 비면 DB 를 조회하지 않는다")
+    void searchBooksByConditions_InStockMiss() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(bookSearchIndex.isReady()).willReturn(true);
+        given(bookSearchIndex.findByTitleAndAuthor("클린", null)).willReturn(List.of(1L));
+        given(inStockIndex.isReady()).willReturn(true);
+        given(inStockIndex.filter(List.of(1L))).willReturn(List.of());
+
+        // when
+        Page<BookResponse> responses = bookService.searchBooksByConditions(
+                "클린", null, null, true, pageable);
+
+        // then
+        assertThat(responses.getContent()).isEmpty();
+        verifyNoInteractions(bookRepository);
     }
 
     @Test
@@ -254,18 +716,67 @@ class BookServiceTest {
     void searchBooksByConditions_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Book> bookPage = new PageImpl<>(Arrays.asList(book), pageable, 1);
-        given(bookRepository.searchByConditions(anyString(), anyString(), anyString(), any(Pageable.class)))
-                .willReturn(bookPage);
+        given(bookRepository.findResponsesByConditions(any(BookSearchCondition.class), any(Pageable.class)))
+                .willReturn(Arrays.asList(bookResponse));
 
         // when
         Page<BookResponse> responses = bookService.searchBooksByConditions(
-                "클린", "마틴", "프로그래밍", pageable);
+                "클린", "마틴", "프로그래밍", false, pageable);
 
         // then
         assertThat(responses.getContent()).hasSize(1);
-        verify(bookRepository, times(1)).searchByConditions(
-                anyString(), anyString(), anyString(), any(Pageable.class));
+        verify(bookRepository, times(1)).findResponsesByConditions(
+                any(BookSearchCondition.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 인덱스 사용 시 LIKE 쿼리를 실행하지 않는다")
+    void searchByTitle_UsesIndex() {
+        // given
+        given(bookSearchIndex.isReady()).willReturn(true);
+        given(bookSearchIndex.findByTitle("클린")).willReturn(List.of(1L));
+        given(bookRepository.findResponsesByIdIn(List.of(1L))).willReturn(List.of(bookResponse));
+
+        // when
+        List<BookResponse> responses = bookService.searchByTitle("클린");
+
+        // then
+        assertThat(responses).hasSize(1);
+        verify(bookRepository, never()).findResponsesByTitleContaining(anyString());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 인덱스 후보가 없으면 DB 를 조회하지 않는다")
+    void searchBooks_IndexMiss() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(bookSearchIndex.isReady()).willReturn(true);
+        given(bookSearchIndex.findByKeyword("없는책")).willReturn(List.of());
+
+        // when
+        Page<BookResponse> responses = bookService.searchBooks("없는책", pageable);
+
+        // then
+        assertThat(responses.getTotalElements()).isZero();
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 인덱스 후보 수로 전체 개수를 계산한다")
+    void searchBooks_IndexHit() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        given(bookSearchIndex.isReady()).willReturn(true);
+        given(bookSearchIndex.findByKeyword("자바")).willReturn(List.of(1L, 2L, 3L));
+        given(bookRepository.findResponsesByIdIn(List.of(1L, 2L, 3L), pageable)).willReturn(List.of(bookResponse));
+
+        // when
+        Page<BookResponse> responses = bookService.searchBooks("자바", pageable);
+
+        // then
+        assertThat(responses.getContent()).hasSize(1);
+        assertThat(responses.getTotalElements()).isEqualTo(3);
+        verify(bookRepository, never()).searchBookResponses(anyString(), any(Pageable.class));
     }
 
     @Test
@@ -330,69 +841,193 @@ class BookServiceTest {
     @DisplayName("재고 증가 성공")
     void increaseStock_Success() {
         // given
-        given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
-        int initialStock = book.getStockQuantity();
+        given(stockStore.increase(1L, 50)).willReturn(stockResponse(150));
 
         // when
         BookResponse response = bookService.increaseStock(1L, 50);
 
         // then
-        assertThat(response.getStockQuantity()).isEqualTo(initialStock + 50);
-        verify(bookRepository, times(1)).findById(anyLong());
+        assertThat(response.getStockQuantity()).isEqualTo(150);
+        verify(bookRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("재고 증가 실패 - 존재하지 않는 도서")
     void increaseStock_Fail_NotFound() {
         // given
-        given(bookRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(stockStore.increase(999L, 50)).willThrow(new BookNotFoundException(999L));
 
         // when & then
         assertThatThrownBy(() -> bookService.increaseStock(999L, 50))
                 .isInstanceOf(BookNotFoundException.class);
+    }
 
-        verify(bookRepository, times(1)).findById(anyLong());
+    @Test
+    @DisplayName("재고 증가 실패 - 수량이 0 이하")
+    void increaseStock_Fail_InvalidQuantity() {
+        // when & then
+        assertThatThrownBy(() -> bookService.increaseStock(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(stockStore);
     }
 
     @Test
     @DisplayName("재고 감소 성공")
     void decreaseStock_Success() {
         // given
-        given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
-        int initialStock = book.getStockQuantity();
+        given(stockStore.decrease(1L, 30)).willReturn(stockResponse(70));
 
         // when
         BookResponse response = bookService.decreaseStock(1L, 30);
 
         // then
-        assertThat(response.getStockQuantity()).isEqualTo(initialStock - 30);
-        verify(bookRepository, times(1)).findById(anyLong());
+        assertThat(response.getStockQuantity()).isEqualTo(70);
+        verify(bookRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("재고 감소 실패 - 재고 부족")
     void decreaseStock_Fail_InsufficientStock() {
         // given
-        given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
+        given(stockStore.decrease(1L, 200))
+                .willThrow(new IllegalStateException("재고가 부족합니다. 현재 재고: 100"));
 
         // when & then
         assertThatThrownBy(() -> bookService.decreaseStock(1L, 200))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("재고가 부족합니다");
-
-        verify(bookRepository, times(1)).findById(anyLong());
     }
 
     @Test
     @DisplayName("재고 감소 실패 - 존재하지 않는 도서")
     void decreaseStock_Fail_NotFound() {
         // given
-        given(bookRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(stockStore.decrease(999L, 30)).willThrow(new BookNotFoundException(999L));
 
         // when & then
         assertThatThrownBy(() -> bookService.decreaseStock(999L, 30))
                 .isInstanceOf(BookNotFoundException.class);
+    }
 
-        verify(bookRepository, times(1)).findById(anyLong());
+    @Test
+    @DisplayName("재고 분할 성공")
+    void shardStock_Success() {
+        // given
+        given(stockStore.shard(1L, 8)).willReturn(stockResponse(100));
+
+        // when
+        BookResponse response = bookService.shardStock(1L, 8);
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("재고 분할 실패 - 샤드 수가 범위를 벗어남")
+    void shardStock_Fail_InvalidShards() {
+        // when & then
+        assertThatThrownBy(() -> bookService.shardStock(1L, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookService.shardStock(1L, 65))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(stockStore);
+    }
+
+    @Test
+    @DisplayName("재고 예약 성공 - 예약만 하고 재고는 차감하지 않는다")
+    void reserveStock_Success() {
+        // given
+        Reservation reservation = new Reservation("r-1", 1L, 2, LocalDateTime.now().plusMinutes(5));
+        given(stockReservations.hold(1L, 2, Duration.ofMinutes(5))).willReturn(reservation);
+
+        // when
+        ReservationResponse response = bookService.reserveStock(1L, 2, Duration.ofMinutes(5));
+
+        // then
+        assertThat(response.getReservationId()).isEqualTo("r-1");
+        assertThat(response.getQuantity()).isEqualTo(2);
+        verifyNoInteractions(stockStore);
+    }
+
+    @Test
+    @DisplayName("재고 예약 확정 성공")
+    void confirmReservation_Success() {
+        // given
+        given(stockReservations.confirm("r-1")).willReturn(stockResponse(98));
+
+        // when
+        BookResponse response = bookService.confirmReservation("r-1");
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(98);
+    }
+
+    @Test
+    @DisplayName("일괄 재고 조정 - 1,000줄 단위로 나눠 반영하고 묶음 결과를 합친다")
+    void adjustStockInBulk_Chunks() {
+        // given
+        List<StockAdjustmentRequest> lines = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            lines.add(StockAdjustmentRequest.builder().bookId(1L).delta(1).build());
+        }
+        given(stockStore.supportsDirectWrites()).willReturn(true);
+        given(stockAdjustmentWriter.apply(anyInt(), anyInt(), anyList())).willAnswer(invocation -> {
+            List<StockAdjustmentRequest> chunk = invocation.getArgument(2);
+            return StockAdjustmentResponse.Chunk.builder()
+                    .chunk(invocation.getArgument(0))
+                    .firstLine(invocation.getArgument(1))
+                    .lines(chunk.size())
+                    .applied(chunk.size())
+                    .rejected(0)
+                    .errors(List.of())
+                    .build();
+        });
+
+        // when
+        StockAdjustmentResponse response = bookService.adjustStockInBulk(lines.iterator());
+
+        // then
+        assertThat(response.getLines()).isEqualTo(2_500);
+        assertThat(response.getApplied()).isEqualTo(2_500);
+        assertThat(response.getChunks())
+                .extracting(StockAdjustmentResponse.Chunk::getFirstLine)
+                .containsExactly(1, 1_001, 2_001);
+        assertThat(response.getChunks())
+                .extracting(StockAdjustmentResponse.Chunk::getLines)
+                .containsExactly(1_000, 1_000, 500);
+    }
+
+    @Test
+    @DisplayName("일괄 재고 조정 실패 - 재고를 메모리에 들고 있는 처리 방식")
+    void adjustStockInBulk_Fail_NoDirectWrites() {
+        // given
+        given(stockStore.supportsDirectWrites()).willReturn(false);
+        List<StockAdjustmentRequest> lines = List.of(StockAdjustmentRequest.builder().bookId(1L).delta(1).build());
+
+        // when & then
+        assertThatThrownBy(() -> bookService.adjustStockInBulk(lines.iterator()))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(stockAdjustmentWriter);
+    }
+
+    private BookCreateRequest bulkBook(String isbn) {
+        return BookCreateRequest.builder()
+                .title("도서 " + isbn)
+                .author("저자")
+                .category("프로그래밍")
+                .isbn(isbn)
+                .price(10000)
+                .stockQuantity(1)
+                .build();
+    }
+
+    private BookResponse stockResponse(int stockQuantity) {
+        return BookResponse.builder()
+                .id(1L)
+                .title("클린 코드")
+                .stockQuantity(stockQuantity)
+                .build();
     }
 }
\ No newline at end of file
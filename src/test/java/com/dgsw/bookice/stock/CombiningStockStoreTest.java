@@ -0,0 +1,170 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(MockitoExtension.class)
+class CombiningStockStoreTest {
+
+    private static final int INITIAL_STOCK = 30;
+    private static final int THREADS = 50;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private StockBatchApplier stockBatchApplier;
+
+    @Mock
+    private StockDeltaWriter stockDeltaWriter;
+
+    private CombiningStockStore stockStore;
+
+    @BeforeEach
+    void setUp() {
+        stockStore = new CombiningStockStore(bookRepository, stockBatchApplier, stockDeltaWriter,
+                Duration.ofMillis(20), 256);
+        stockStore.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        stockStore.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 차감 - 여러 요청을 한 트랜잭션으로 묶고 각자 자기 결과를 받는다")
+    void decrease_CombinesConcurrentRequests() throws Exception {
+        // given
+        AtomicInteger stock = new AtomicInteger(INITIAL_STOCK);
+        AtomicInteger batches = new AtomicInteger();
+        doAnswer(invocation -> {
+            batches.incrementAndGet();
+            List<StockRequest> batch = invocation.getArgument(0);
+            for (StockRequest request : batch) {
+                int after = stock.get() + request.delta();
+                if (after < 0) {
+                    request.reject(new IllegalStateException("재고가 부족합니다. 현재 재고: " + stock.get()));
+                } else {
+                    stock.set(after);
+                    request.accept(BookResponse.builder().id(request.bookId()).stockQuantity(after).build());
+                }
+            }
+            return null;
+        }).when(stockBatchApplier).apply(anyList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    stockStore.decrease(1L, 1);
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(INITIAL_STOCK);
+        assertThat(stock.get()).isZero();
+        assertThat(batches.get()).isLessThan(THREADS);
+    }
+
+    @Test
+    @DisplayName("묶음 처리 실패 - 트랜잭션이 실패하면 묶인 요청 모두 실패한다")
+    void decrease_BatchFailure() {
+        // given
+        doThrow(new IllegalStateException("DB 오류")).when(stockBatchApplier).apply(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> stockStore.decrease(1L, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("DB 오류");
+    }
+
+    @Test
+    @DisplayName("종료 - 진행 중인 묶음을 인터럽트하지 않고 큐에 남은 요청까지 처리한 뒤 새 요청은 거절한다")
+    void shutdown_DrainsAcceptedRequests() throws Exception {
+        // given
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger batches = new AtomicInteger();
+        doAnswer(invocation -> {
+            // 첫 묶음은 트랜잭션이 오래 걸리는 것처럼 멈춰 둔다 (인터럽트되면 실패한다)
+            if (batches.getAndIncrement() == 0) {
+                applying.countDown();
+                release.await();
+            }
+            List<StockRequest> batch = invocation.getArgument(0);
+            batch.forEach(request -> request.accept(
+                    BookResponse.builder().id(request.bookId()).stockQuantity(0).build()));
+            return null;
+        }).when(stockBatchApplier).apply(anyList());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // when
+        Future<BookResponse> inFlight = executor.submit(() -> stockStore.decrease(1L, 1));
+        assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<BookResponse> queued = executor.submit(() -> stockStore.decrease(2L, 1));
+        for (int i = 0; i < 500 && stockStore.queued() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(stockStore.queued()).isEqualTo(1);
+
+        Future<?> shutdown = executor.submit(() -> {
+            stockStore.shutdown();
+            return null;
+        });
+        // 종료가 남은 요청을 기다리기 시작할 시간을 준 뒤 진행 중인 묶음을 끝낸다
+        Thread.sleep(100);
+        release.countDown();
+        shutdown.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(inFlight.get(1, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        assertThat(queued.get(1, TimeUnit.SECONDS).getId()).isEqualTo(2L);
+        assertThat(batches.get()).isEqualTo(2);
+        assertThatThrownBy(() -> stockStore.decrease(3L, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("종료");
+    }
+}
@@ -0,0 +1,217 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.exception.CheckoutFailedException;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseStockStoreTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private HotStockShards hotStockShards;
+
+    @Mock
+    private StockDeltaWriter stockDeltaWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DatabaseStockStore stockStore;
+
+    @Test
+    @DisplayName("재고 증가 - 조건부 UPDATE 후 변경된 도서를 반환한다")
+    void increase_Success() {
+        // given
+        given(stockDeltaWriter.increaseReturning(eq(1L), eq(50), any(LocalDateTime.class)))
+                .willReturn(Optional.of(stockResponse(150)));
+
+        // when
+        BookResponse response = stockStore.increase(1L, 50);
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(150);
+        verify(bookRepository, never()).findResponseById(anyLong());
+        verify(stockDeltaWriter, times(1)).evictAfterCommit(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("재고 증가 실패 - 존재하지 않는 도서")
+    void increase_Fail_NotFound() {
+        // given
+        given(stockDeltaWriter.increaseReturning(eq(999L), eq(50), any(LocalDateTime.class)))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> stockStore.increase(999L, 50))
+                .isInstanceOf(BookNotFoundException.class);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("재고 감소 - 조건부 UPDATE 후 변경된 도서를 반환한다")
+    void decrease_Success() {
+        // given
+        given(stockDeltaWriter.decreaseReturning(eq(1L), eq(30), any(LocalDateTime.class)))
+                .willReturn(Optional.of(stockResponse(70)));
+
+        // when
+        BookResponse response = stockStore.decrease(1L, 30);
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(70);
+        verify(bookRepository, never()).findResponseById(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("재고 감소 실패 - 재고 부족")
+    void decrease_Fail_InsufficientStock() {
+        // given
+        given(stockDeltaWriter.decreaseReturning(eq(1L), eq(200), any(LocalDateTime.class)))
+                .willReturn(Optional.empty());
+        given(bookRepository.findStockQuantityById(1L)).willReturn(Optional.of(100));
+
+        // when & then
+        assertThatThrownBy(() -> stockStore.decrease(1L, 200))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("재고 감소 실패 - 존재하지 않는 도서")
+    void decrease_Fail_NotFound() {
+        // given
+        given(stockDeltaWriter.decreaseReturning(eq(999L), eq(30), any(LocalDateTime.class)))
+                .willReturn(Optional.empty());
+        given(bookRepository.findStockQuantityById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> stockStore.decrease(999L, 30))
+                .isInstanceOf(BookNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("재고 감소 - 분할된 도서는 샤드에서 차감하고 합계를 재고로 반환한다")
+    void decrease_HotItem() {
+        // given
+        given(hotStockShards.isHot(1L)).willReturn(true);
+        given(hotStockShards.decrease(eq(1L), eq(30), any(LocalDateTime.class))).willReturn(70);
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.of(stockResponse(100)));
+
+        // when
+        BookResponse response = stockStore.decrease(1L, 30);
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(70);
+        verify(stockDeltaWriter, never()).decreaseReturning(anyLong(), anyInt(), any(LocalDateTime.class));
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("재고 감소 - 다른 요청이 분할한 도서는 분할 상태를 다시 읽고 샤드에서 차감한다")
+    void decrease_PromotedConcurrently() {
+        // given
+        given(hotStockShards.isHot(1L)).willReturn(false, true);
+        given(stockDeltaWriter.decreaseReturning(eq(1L), eq(30), any(LocalDateTime.class)))
+                .willReturn(Optional.empty());
+        given(bookRepository.findStockQuantityById(1L)).willReturn(Optional.of(100));
+        given(hotStockShards.refresh(1L)).willReturn(true);
+        given(hotStockShards.decrease(eq(1L), eq(30), any(LocalDateTime.class))).willReturn(70);
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.of(stockResponse(100)));
+
+        // when
+        BookResponse response = stockStore.decrease(1L, 30);
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("조회 결과 - 분할된 도서는 샤드 합계로 재고를 바꾼다")
+    void overlay_HotItem() {
+        // given
+        given(hotStockShards.totalQuantity(1L)).willReturn(42);
+
+        // when
+        BookResponse response = stockStore.overlay(stockResponse(100));
+
+        // then
+        assertThat(response.getStockQuantity()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 - 잠근 재고를 확인한 뒤 도서별 변경량을 한 번에 반영한다")
+    void checkout_Success() {
+        // given
+        TreeMap<Long, Integer> quantities = new TreeMap<>(Map.of(1L, 2, 2L, 3));
+        given(stockDeltaWriter.lockStock(quantities.keySet())).willReturn(new HashMap<>(Map.of(1L, 10, 2L, 5)));
+        given(bookRepository.findResponsesByIdIn(quantities.keySet())).willReturn(List.of(
+                BookResponse.builder().id(2L).stockQuantity(2).build(),
+                BookResponse.builder().id(1L).stockQuantity(8).build()));
+
+        // when
+        List<BookResponse> responses = stockStore.checkout(quantities);
+
+        // then
+        assertThat(responses).extracting(BookResponse::getId).containsExactly(1L, 2L);
+        verify(stockDeltaWriter, times(1)).write(Map.of(1L, -2, 2L, -3));
+        verify(eventPublisher, times(2)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("일괄 주문 실패 - 실패한 줄을 모두 알려주고 아무것도 반영하지 않는다")
+    void checkout_Fail_PerLineErrors() {
+        // given
+        TreeMap<Long, Integer> quantities = new TreeMap<>(Map.of(1L, 2, 2L, 30, 999L, 1));
+        given(stockDeltaWriter.lockStock(quantities.keySet())).willReturn(new HashMap<>(Map.of(1L, 10, 2L, 5)));
+
+        // when & then
+        assertThatThrownBy(() -> stockStore.checkout(quantities))
+                .isInstanceOfSatisfying(CheckoutFailedException.class, e -> {
+                    assertThat(e.getErrors()).containsOnlyKeys(2L, 999L);
+                    assertThat(e.getErrors().get(2L)).contains("재고가 부족합니다");
+                });
+
+        verify(stockDeltaWriter, never()).write(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private BookResponse stockResponse(int stockQuantity) {
+        return BookResponse.builder()
+                .id(1L)
+                .title("클린 코드")
+                .stockQuantity(stockQuantity)
+                .build();
+    }
+}
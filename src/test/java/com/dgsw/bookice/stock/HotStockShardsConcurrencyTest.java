@@ -0,0 +1,119 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.repository.BookRepository;
+import com.dgsw.bookice.repository.BookStockShardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 샤드를 동시에 비우거나 채우는 경우 (각 트랜잭션을 실제로 커밋해야 하므로 테스트 트랜잭션을 쓰지 않는다)
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, HotStockShards.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HotStockShardsConcurrencyTest {
+
+    private static final int SHARDS = 4;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private HotStockShards hotStockShards;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookStockShardRepository shardRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        shardRepository.deleteAllInBatch();
+        bookRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 샤드를 동시에 비우면 books.stock_quantity 가 0 이 되고, 동시에 채우면 다시 0 보다 커진다")
+    void decreaseAndIncrease_ParallelShards_SyncsStockQuantity() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(SHARDS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // given - 샤드마다 1 권
+                Long bookId = saveBook();
+                tx.executeWithoutResult(status -> hotStockShards.promote(bookId, SHARDS, LocalDateTime.now()));
+
+                // when - 샤드 수만큼 동시에 1 권씩 차감
+                runInParallel(executor, ignored -> tx.executeWithoutResult(status ->
+                        assertThat(hotStockShards.decrease(bookId, 1, LocalDateTime.now())).isNotNull()));
+
+                // then
+                assertThat(shardRepository.sumQuantityByBookId(bookId)).isZero();
+                assertThat(bookRepository.findStockQuantityById(bookId)).contains(0);
+
+                // when - 빈 샤드들에 동시에 1 권씩 추가
+                runInParallel(executor, ignored -> tx.executeWithoutResult(status ->
+                        assertThat(hotStockShards.increase(bookId, 1, LocalDateTime.now())).isNotNull()));
+
+                // then
+                assertThat(shardRepository.sumQuantityByBookId(bookId)).isEqualTo(SHARDS);
+                assertThat(bookRepository.findStockQuantityById(bookId)).hasValueSatisfying(
+                        stockQuantity -> assertThat(stockQuantity).isPositive());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runInParallel(ExecutorService executor, IntConsumer task) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(SHARDS);
+        List<Future<?>> futures = new ArrayList<>(SHARDS);
+        for (int i = 0; i < SHARDS; i++) {
+            int worker = i;
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                task.accept(worker);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private Long saveBook() {
+        return bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .price(33000)
+                .stockQuantity(SHARDS)
+                .description("애자일 소프트웨어 장인 정신")
+                .build()).getId();
+    }
+}
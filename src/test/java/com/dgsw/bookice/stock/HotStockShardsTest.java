@@ -0,0 +1,176 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.entity.BookStockShard;
+import com.dgsw.bookice.repository.BookRepository;
+import com.dgsw.bookice.repository.BookSearchCondition;
+import com.dgsw.bookice.repository.BookStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, HotStockShards.class, StockDeltaWriter.class, CatalogVersion.class})
+class HotStockShardsTest {
+
+    @Autowired
+    private HotStockShards hotStockShards;
+
+    @Autowired
+    private StockDeltaWriter stockDeltaWriter;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookStockShardRepository shardRepository;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(10)
+                .description("애자일 소프트웨어 장인 정신")
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("재고 분할 - 현재 재고를 샤드에 고르게 나누고 books 행 차감은 막는다")
+    void promote_SplitsStock() {
+        // when
+        int stockQuantity = hotStockShards.promote(bookId, 4, LocalDateTime.now());
+
+        // then
+        assertThat(stockQuantity).isEqualTo(10);
+        assertThat(hotStockShards.isHot(bookId)).isTrue();
+        assertThat(shardRepository.findAllByBookIdOrderByShardNo(bookId))
+                .extracting(BookStockShard::getQuantity)
+                .containsExactly(3, 3, 2, 2);
+        assertThat(hotStockShards.totalQuantity(bookId)).isEqualTo(10);
+        assertThat(stockDeltaWriter.decreaseReturning(bookId, 1, LocalDateTime.now())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재고 분할 실패 - 이미 분할된 도서")
+    void promote_Fail_AlreadySharded() {
+        // given
+        hotStockShards.promote(bookId, 2, LocalDateTime.now());
+
+        // when & then
+        assertThatThrownBy(() -> hotStockShards.promote(bookId, 4, LocalDateTime.now()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("분할 재고 차감 - 한 샤드로 부족하면 여러 샤드에서 나눠 차감한다")
+    void decrease_AcrossShards() {
+        // given
+        hotStockShards.promote(bookId, 4, LocalDateTime.now());
+
+        // when
+        Integer remaining = hotStockShards.decrease(bookId, 5, LocalDateTime.now());
+
+        // then
+        assertThat(remaining).isEqualTo(5);
+        assertThat(hotStockShards.totalQuantity(bookId)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("분할 재고 차감 실패 - 샤드 합계보다 많이 차감할 수 없다")
+    void decrease_Fail_InsufficientStock() {
+        // given
+        hotStockShards.promote(bookId, 4, LocalDateTime.now());
+
+        // when & then
+        assertThatThrownBy(() -> hotStockShards.decrease(bookId, 11, LocalDateTime.now()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+        assertThat(hotStockShards.totalQuantity(bookId)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("분할 재고 - 재고가 0 을 넘나들 때만 books.stock_quantity 를 맞춘다")
+    void decreaseAndIncrease_SyncsOnZeroCrossing() {
+        // given
+        hotStockShards.promote(bookId, 2, LocalDateTime.now());
+
+        // when & then
+        hotStockShards.decrease(bookId, 4, LocalDateTime.now());
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(10);
+
+        hotStockShards.decrease(bookId, 6, LocalDateTime.now());
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(0);
+
+        hotStockShards.increase(bookId, 3, LocalDateTime.now());
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(3);
+        assertThat(hotStockShards.totalQuantity(bookId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("분할 재고 - 목록/검색 응답의 재고는 books.stock_quantity 가 아닌 샤드 합계이다")
+    void responses_ReportShardTotal() {
+        // given
+        hotStockShards.promote(bookId, 4, LocalDateTime.now());
+        hotStockShards.decrease(bookId, 3, LocalDateTime.now());
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when
+        List<BookResponse> byCategory = bookRepository.findResponsesByCategory("프로그래밍");
+        List<BookResponse> byKeyword = bookRepository.searchBookResponses("클린", pageable);
+        List<BookResponse> byConditions = bookRepository.findResponsesByConditions(
+                BookSearchCondition.of(null, null, "프로그래밍"), pageable);
+
+        // then
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(10);
+        assertThat(byCategory).extracting(BookResponse::getStockQuantity).containsExactly(7);
+        assertThat(byKeyword).extracting(BookResponse::getStockQuantity).containsExactly(7);
+        assertThat(byConditions).extracting(BookResponse::getStockQuantity).containsExactly(7);
+    }
+
+    @Test
+    @DisplayName("재고 분할 해제 - 샤드 합계를 books 행으로 되돌리고 샤드를 삭제한다")
+    void demote_RestoresStock() {
+        // given
+        hotStockShards.promote(bookId, 4, LocalDateTime.now());
+        hotStockShards.decrease(bookId, 3, LocalDateTime.now());
+
+        // when
+        int stockQuantity = hotStockShards.demote(bookId, LocalDateTime.now());
+
+        // then
+        assertThat(stockQuantity).isEqualTo(7);
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(7);
+        assertThat(bookRepository.findStockShardsById(bookId)).contains(0);
+        assertThat(shardRepository.sumQuantityByBookId(bookId)).isNull();
+        assertThat(stockDeltaWriter.decreaseReturning(bookId, 1, LocalDateTime.now())).isPresent();
+    }
+
+    @Test
+    @DisplayName("재고 분할 해제 실패 - 분할되지 않은 도서")
+    void demote_Fail_NotSharded() {
+        // when & then
+        assertThatThrownBy(() -> hotStockShards.demote(bookId, LocalDateTime.now()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
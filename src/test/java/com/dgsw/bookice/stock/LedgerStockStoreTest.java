@@ -0,0 +1,233 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.BookCache;
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.event.BookChangedEvent;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerStockStoreTest {
+
+    private static final int INITIAL_STOCK = 1_000;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private LedgerWatermark ledgerWatermark;
+
+    @Mock
+    private StockDeltaWriter stockDeltaWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogVersion catalogVersion;
+
+    private LedgerStockStore ledger;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        ledger = new LedgerStockStore(bookRepository, new BookCache(100, Duration.ofMinutes(10)),
+                ledgerWatermark, stockDeltaWriter, catalogVersion, eventPublisher);
+        given(bookRepository.findStockQuantityById(1L)).willReturn(Optional.of(INITIAL_STOCK));
+    }
+
+    @Test
+    @DisplayName("동시 차감 - 초과 판매가 없고, 실패하거나 결과를 모르는 반영을 포함해 변경량이 유실되거나 두 번 더해지지 않는다")
+    void decrease_Concurrent_NoOversellNoLostDelta() throws Exception {
+        // given
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.of(book()));
+        given(ledgerWatermark.current()).willReturn(0L);
+        AtomicLong watermark = new AtomicLong();
+        AtomicLong written = new AtomicLong();
+        AtomicInteger applies = new AtomicInteger();
+        doAnswer(invocation -> {
+            long seq = invocation.getArgument(0);
+            if (seq <= watermark.get()) {
+                return false;
+            }
+            int call = applies.incrementAndGet();
+            // 세 번에 한 번은 롤백
+            if (call % 3 == 0) {
+                throw new IllegalStateException("flush failed");
+            }
+            Map<Long, Integer> deltas = invocation.getArgument(1);
+            deltas.values().forEach(written::addAndGet);
+            watermark.set(seq);
+            // 세 번에 한 번은 커밋 후 응답 유실
+            if (call % 3 == 1) {
+                throw new IllegalStateException("connection lost after commit");
+            }
+            return true;
+        }).when(ledgerWatermark).apply(anyLong(), anyMap());
+
+        int threads = 16;
+        int attemptsPerThread = 200;
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+
+        // when
+        Future<?> flusher = executor.submit(() -> {
+            while (running.get()) {
+                ledger.flush();
+            }
+        });
+        List<Future<?>> buyers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            buyers.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    try {
+                        ledger.decrease(1L, 1);
+                        sold.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> buyer : buyers) {
+            buyer.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // 실패한 묶음까지 모두 반영될 때까지 종료 시 반영을 반복한다
+        for (int i = 0; i < 3; i++) {
+            ledger.shutdown();
+        }
+
+        // then
+        assertThat(sold.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(rejected.get()).isEqualTo(threads * attemptsPerThread - INITIAL_STOCK);
+        assertThat(ledger.available(1L)).isZero();
+        assertThat(written.get()).isEqualTo(-INITIAL_STOCK);
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("반영 - 실패한 묶음은 같은 순번으로 다시 반영하고, 그동안 쌓인 변경량은 다음 순번으로 반영한다")
+    void flush_RetriesFailedBatchWithSameSeq() {
+        // given
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.of(book()));
+        given(ledgerWatermark.current()).willReturn(5L);
+        given(ledgerWatermark.apply(6L, Map.of(1L, -3)))
+                .willThrow(new IllegalStateException("flush failed"))
+                .willReturn(true);
+        given(ledgerWatermark.apply(7L, Map.of(1L, 1))).willReturn(true);
+
+        // when
+        ledger.decrease(1L, 3);
+        ledger.flush();
+        ledger.increase(1L, 1);
+        ledger.flush();
+        ledger.flush();
+
+        // then
+        verify(ledgerWatermark, times(2)).apply(6L, Map.of(1L, -3));
+        verify(ledgerWatermark, times(1)).apply(7L, Map.of(1L, 1));
+        verify(ledgerWatermark, times(1)).current();
+        verify(stockDeltaWriter, times(2)).evict(Set.of(1L), false);
+        verify(stockDeltaWriter, never()).evictCaches();
+        // 실패한 반영은 재고 버전을 올리지 않는다
+        assertThat(catalogVersion.current().stockVersion()).isEqualTo(2);
+        assertThat(catalogVersion.current().version()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 - 재고 유무가 바뀐 뒤의 반영은 조회 캐시도 비운다")
+    void flush_EvictsQueryRegionsWhenInStockChanged() {
+        // given
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.of(book()));
+        given(ledgerWatermark.current()).willReturn(0L);
+        given(ledgerWatermark.apply(anyLong(), anyMap())).willReturn(true);
+
+        // when
+        ledger.decrease(1L, INITIAL_STOCK);
+        ledger.flush();
+        ledger.increase(1L, 1);
+        ledger.decrease(1L, 1);
+        ledger.increase(1L, 2);
+        ledger.flush();
+
+        // then
+        verify(stockDeltaWriter, times(2)).evict(Set.of(1L), true);
+        verify(ledgerWatermark, times(1)).apply(1L, Map.of(1L, -INITIAL_STOCK));
+        verify(ledgerWatermark, times(1)).apply(2L, Map.of(1L, 2));
+    }
+
+    @Test
+    @DisplayName("재고 부족 시 장부를 바꾸지 않는다")
+    void decrease_Fail_InsufficientStock() {
+        // when & then
+        assertThatThrownBy(() -> ledger.decrease(1L, INITIAL_STOCK + 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+
+        assertThat(ledger.available(1L)).isEqualTo(INITIAL_STOCK);
+        ledger.flush();
+        verifyNoInteractions(ledgerWatermark, stockDeltaWriter);
+        assertThat(catalogVersion.current().stockVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 결과의 재고를 장부 값으로 덮어쓴다")
+    void overlay() {
+        // given
+        given(bookRepository.findResponseById(1L)).willReturn(Optional.of(book()));
+        ledger.decrease(1L, 10);
+
+        // when
+        BookResponse overlaid = ledger.overlay(book());
+
+        // then
+        assertThat(overlaid.getStockQuantity()).isEqualTo(INITIAL_STOCK - 10);
+        assertThat(overlaid.getTitle()).isEqualTo("클린 코드");
+    }
+
+    private BookResponse book() {
+        return BookResponse.builder()
+                .id(1L)
+                .title("클린 코드")
+                .stockQuantity(INITIAL_STOCK)
+                .build();
+    }
+}
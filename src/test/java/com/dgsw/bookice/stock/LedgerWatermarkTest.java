@@ -0,0 +1,121 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재고 장부 반영 순번 (반영 트랜잭션을 실제로 커밋/롤백해야 하므로 테스트 트랜잭션을 쓰지 않는다)
+ */
+@DataJpaTest(properties = "bookice.stock.engine=ledger")
+@Import({QueryDslConfig.class, LedgerWatermark.class, StockDeltaWriter.class, CatalogVersion.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LedgerWatermarkTest {
+
+    @Autowired
+    private LedgerWatermark ledgerWatermark;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .price(33000)
+                .stockQuantity(10)
+                .description("애자일 소프트웨어 장인 정신")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM stock_ledger_watermark");
+        bookRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 순번의 묶음을 다시 반영해도 한 번만 더한다 (커밋 후 응답이 유실된 재시도)")
+    void apply_Idempotent() {
+        // given
+        long seq = ledgerWatermark.current() + 1;
+
+        // when
+        boolean first = ledgerWatermark.apply(seq, Map.of(bookId, -3));
+        boolean retried = ledgerWatermark.apply(seq, Map.of(bookId, -3));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(retried).isFalse();
+        assertThat(ledgerWatermark.current()).isEqualTo(seq);
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(7);
+    }
+
+    @Test
+    @DisplayName("반영이 실패하면 변경량과 순번이 함께 롤백되어 같은 순번으로 다시 반영할 수 있다")
+    void apply_RollsBackWithSeq() {
+        // given
+        long seq = ledgerWatermark.current() + 1;
+        Long otherId = bookRepository.save(Book.builder()
+                .title("이펙티브 자바")
+                .author("조슈아 블로크")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .price(36000)
+                .stockQuantity(5)
+                .description("자바 플랫폼 Best Practice")
+                .build()).getId();
+        // 두 번째 도서의 변경량이 NOT NULL 제약을 어겨 묶음 전체가 롤백된다
+        Map<Long, Integer> broken = new HashMap<>();
+        broken.put(bookId, -3);
+        broken.put(otherId, null);
+
+        // when
+        assertThatThrownBy(() -> ledgerWatermark.apply(seq, broken))
+                .isInstanceOf(RuntimeException.class);
+
+        // then
+        assertThat(ledgerWatermark.current()).isEqualTo(seq - 1);
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(10);
+        assertThat(ledgerWatermark.apply(seq, Map.of(bookId, -3))).isTrue();
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(7);
+    }
+
+    @Test
+    @DisplayName("순번을 건너뛴 묶음은 반영하지 않는다")
+    void apply_Fail_SeqGap() {
+        // given
+        long seq = ledgerWatermark.current() + 2;
+
+        // when & then
+        assertThatThrownBy(() -> ledgerWatermark.apply(seq, Map.of(bookId, -3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("반영 순번이 맞지 않습니다");
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(10);
+    }
+}
@@ -0,0 +1,85 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.dto.request.StockAdjustmentRequest;
+import com.dgsw.bookice.dto.response.StockAdjustmentResponse;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, StockAdjustmentWriter.class, StockDeltaWriter.class, CatalogVersion.class})
+class StockAdjustmentWriterTest {
+
+    @Autowired
+    private StockAdjustmentWriter stockAdjustmentWriter;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(10)
+                .description("애자일 소프트웨어 장인 정신")
+                .build()).getId();
+        bookRepository.flush();
+    }
+
+    @Test
+    @DisplayName("일괄 조정 - ID 와 ISBN 줄을 합쳐 반영하고 잘못된 줄만 거절한다")
+    void apply_MergesLinesAndRejectsInvalid() {
+        // given
+        List<StockAdjustmentRequest> lines = List.of(
+                StockAdjustmentRequest.builder().bookId(bookId).delta(5).build(),
+                StockAdjustmentRequest.builder().isbn("9788966260959").delta(-3).build(),
+                StockAdjustmentRequest.builder().isbn("0000000000000").delta(1).build(),
+                StockAdjustmentRequest.builder().bookId(bookId).delta(0).build(),
+                StockAdjustmentRequest.builder().bookId(999_999L).delta(1).build());
+
+        // when
+        StockAdjustmentResponse.Chunk chunk = stockAdjustmentWriter.apply(1, 1, lines);
+
+        // then
+        assertThat(chunk.getApplied()).isEqualTo(2);
+        assertThat(chunk.getRejected()).isEqualTo(3);
+        assertThat(chunk.getErrors()).hasSize(3);
+        assertThat(chunk.getErrors().get(0)).startsWith("3행:");
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(12);
+    }
+
+    @Test
+    @DisplayName("일괄 조정 - 재고가 음수가 되는 도서는 그 도서의 줄을 모두 거절한다")
+    void apply_RejectsNegativeStock() {
+        // given
+        List<StockAdjustmentRequest> lines = List.of(
+                StockAdjustmentRequest.builder().bookId(bookId).delta(-8).build(),
+                StockAdjustmentRequest.builder().bookId(bookId).delta(-5).build());
+
+        // when
+        StockAdjustmentResponse.Chunk chunk = stockAdjustmentWriter.apply(1, 1, lines);
+
+        // then
+        assertThat(chunk.getApplied()).isZero();
+        assertThat(chunk.getErrors()).allMatch(error -> error.contains("현재 재고: 10"));
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(10);
+    }
+}
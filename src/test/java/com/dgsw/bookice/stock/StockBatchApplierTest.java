@@ -0,0 +1,86 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.exception.BookNotFoundException;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "bookice.stock.engine=combining")
+@Import({QueryDslConfig.class, StockBatchApplier.class, StockDeltaWriter.class, CatalogVersion.class})
+class StockBatchApplierTest {
+
+    @Autowired
+    private StockBatchApplier stockBatchApplier;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(10)
+                .description("애자일 소프트웨어 장인 정신")
+                .build()).getId();
+        bookRepository.flush();
+    }
+
+    @Test
+    @DisplayName("묶음 처리 - 도착 순서대로 요청별 결과를 정하고 순변경량만 반영한다")
+    void apply_PerRequestOutcome() {
+        // given
+        StockRequest first = new StockRequest(bookId, -4);
+        StockRequest second = new StockRequest(bookId, -5);
+        StockRequest refill = new StockRequest(bookId, 3);
+        StockRequest tooMany = new StockRequest(bookId, -7);
+        StockRequest missing = new StockRequest(999_999L, -1);
+        List<StockRequest> batch = List.of(first, second, refill, tooMany, missing);
+
+        // when
+        stockBatchApplier.apply(batch);
+        batch.forEach(StockRequest::complete);
+
+        // then
+        assertThat(first.future().join().getStockQuantity()).isEqualTo(6);
+        assertThat(second.future().join().getStockQuantity()).isEqualTo(1);
+        assertThat(refill.future().join().getStockQuantity()).isEqualTo(4);
+        assertThat(tooMany.future()).isCompletedExceptionally();
+        assertThat(tooMany.future().exceptionNow())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("현재 재고: 4");
+        assertThat(missing.future().exceptionNow()).isInstanceOf(BookNotFoundException.class);
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(4);
+    }
+
+    @Test
+    @DisplayName("묶음 처리 - 모두 재고 부족이면 DB 를 바꾸지 않는다")
+    void apply_AllRejected() {
+        // given
+        StockRequest request = new StockRequest(bookId, -11);
+
+        // when
+        stockBatchApplier.apply(List.of(request));
+
+        // then
+        assertThat(request.isAccepted()).isFalse();
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(10);
+    }
+}
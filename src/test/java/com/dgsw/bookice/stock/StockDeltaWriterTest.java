@@ -0,0 +1,78 @@
+package com.dgsw.bookice.stock;
+
+import com.dgsw.bookice.cache.CatalogVersion;
+import com.dgsw.bookice.config.QueryDslConfig;
+import com.dgsw.bookice.dto.response.BookResponse;
+import com.dgsw.bookice.entity.Book;
+import com.dgsw.bookice.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, StockDeltaWriter.class, CatalogVersion.class})
+class StockDeltaWriterTest {
+
+    @Autowired
+    private StockDeltaWriter stockDeltaWriter;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = bookRepository.save(Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .category("프로그래밍")
+                .publisher("인사이트")
+                .isbn("9788966260959")
+                .price(33000)
+                .stockQuantity(10)
+                .description("애자일 소프트웨어 장인 정신")
+                .build()).getId();
+        bookRepository.flush();
+    }
+
+    @Test
+    @DisplayName("단건 차감 - UPDATE 가 반영된 행을 같은 문장에서 돌려준다")
+    void decreaseReturning() {
+        // when
+        Optional<BookResponse> decreased = stockDeltaWriter.decreaseReturning(bookId, 3, LocalDateTime.now());
+        Optional<BookResponse> insufficient = stockDeltaWriter.decreaseReturning(bookId, 8, LocalDateTime.now());
+        Optional<BookResponse> notFound = stockDeltaWriter.decreaseReturning(-1L, 1, LocalDateTime.now());
+
+        // then
+        assertThat(decreased).hasValueSatisfying(book -> {
+            assertThat(book.getId()).isEqualTo(bookId);
+            assertThat(book.getTitle()).isEqualTo("클린 코드");
+            assertThat(book.getIsbn()).isEqualTo("9788966260959");
+            assertThat(book.getStockQuantity()).isEqualTo(7);
+            assertThat(book.getCreatedAt()).isNotNull();
+        });
+        assertThat(insufficient).isEmpty();
+        assertThat(notFound).isEmpty();
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(7);
+    }
+
+    @Test
+    @DisplayName("단건 증가 - UPDATE 가 반영된 행을 같은 문장에서 돌려준다")
+    void increaseReturning() {
+        // when
+        Optional<BookResponse> increased = stockDeltaWriter.increaseReturning(bookId, 5, LocalDateTime.now());
+
+        // then
+        assertThat(increased).map(BookResponse::getStockQuantity).contains(15);
+        assertThat(bookRepository.findStockQuantityById(bookId)).contains(15);
+    }
+}